@@ -0,0 +1,259 @@
+package com.example.os;
+
+import com.example.os.model.GanttEntry;
+import com.example.os.model.GanttTimeline;
+import java.util.List;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Tooltip;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Gantt chart drawn on a single Canvas. Only the visible time window is
+ * drawn; when slices get narrower than a pixel they are aggregated into
+ * per-pixel density bands, so charts with millions of slices stay smooth.
+ * Scroll to zoom around the cursor, drag to pan, hover for slice details.
+ */
+public class GanttChartView extends Region {
+    private static final Color[] COLORS = {Color.web("#3498db"), Color.web("#e74c3c"), Color.web("#2ecc71"),
+                                           Color.web("#f39c12"), Color.web("#9b59b6"), Color.web("#1abc9c"),
+                                           Color.web("#e67e22"), Color.web("#34495e")};
+    private static final Color IDLE_COLOR = Color.web("#bdc3c7");
+    private static final double PADDING = 10;
+    private static final double BAR_TOP = 10;
+    private static final double BAR_HEIGHT = 50;
+    private static final double MAX_SCALE = 200; // pixels per time unit
+    private static final Font LABEL_FONT = Font.font("System", FontWeight.BOLD, 12);
+    private static final Font TIME_FONT = Font.font("System", 9);
+    private static final Font AXIS_FONT = Font.font("System", FontWeight.BOLD, 11);
+
+    private final Canvas canvas = new Canvas();
+    private final Tooltip tooltip = new Tooltip();
+
+    private GanttTimeline timeline = new GanttTimeline(List.of());
+    private int maxTime;
+
+    private double viewStart;   // time at the left edge
+    private double scale = 1;   // pixels per time unit
+    private boolean fitted = true;
+    private double dragX;
+    private double dragViewStart;
+
+    public GanttChartView() {
+        getChildren().add(canvas);
+        setMinHeight(120);
+        setPrefHeight(300);
+        setOnScroll(this::handleScroll);
+        setOnMousePressed(this::handlePress);
+        setOnMouseDragged(this::handleDrag);
+        setOnMouseMoved(this::handleHover);
+    }
+
+    /**
+     * Shows a schedule; entries must be in time order and must not overlap
+     * (as produced by every scheduler)
+     */
+    public void setEntries(List<GanttEntry> entries) {
+        setTimeline(new GanttTimeline(entries));
+    }
+
+    public void setTimeline(GanttTimeline timeline) {
+        this.timeline = timeline;
+        maxTime = timeline.getEndTime();
+        fitted = true;
+        fit();
+        redraw();
+    }
+
+    /**
+     * Adds slices produced since the last call (progressive playback)
+     */
+    public void appendEntries(List<GanttEntry> newEntries) {
+        if (newEntries.isEmpty()) return;
+        for (GanttEntry entry : newEntries) {
+            timeline.add(entry);
+        }
+        maxTime = timeline.getEndTime();
+        if (fitted) {
+            fit();
+        } else {
+            clampView();
+        }
+        redraw();
+    }
+
+    public void clear() {
+        setEntries(List.of());
+    }
+
+    @Override
+    protected void layoutChildren() {
+        canvas.setWidth(getWidth());
+        canvas.setHeight(getHeight());
+        if (fitted) {
+            fit();
+        } else {
+            clampView();
+        }
+        redraw();
+    }
+
+    private double chartWidth() {
+        return Math.max(1, getWidth() - 2 * PADDING);
+    }
+
+    private double minScale() {
+        return chartWidth() / Math.max(1, maxTime);
+    }
+
+    private void fit() {
+        scale = minScale();
+        viewStart = 0;
+    }
+
+    private void clampView() {
+        scale = Math.max(minScale(), Math.min(MAX_SCALE, scale));
+        double visible = chartWidth() / scale;
+        viewStart = Math.max(0, Math.min(viewStart, maxTime - visible));
+    }
+
+    private void handleScroll(ScrollEvent e) {
+        if (timeline.size() == 0 || e.getDeltaY() == 0) return;
+        double x = e.getX() - PADDING;
+        double anchor = viewStart + x / scale;
+        scale *= Math.exp(e.getDeltaY() * 0.005);
+        viewStart = anchor - x / scale;
+        clampView();
+        fitted = scale <= minScale();
+        redraw();
+        e.consume();
+    }
+
+    private void handlePress(MouseEvent e) {
+        dragX = e.getX();
+        dragViewStart = viewStart;
+    }
+
+    private void handleDrag(MouseEvent e) {
+        if (timeline.size() == 0) return;
+        viewStart = dragViewStart - (e.getX() - dragX) / scale;
+        clampView();
+        fitted = false;
+        redraw();
+    }
+
+    private void handleHover(MouseEvent e) {
+        GanttEntry entry = null;
+        if (e.getY() >= BAR_TOP && e.getY() <= BAR_TOP + BAR_HEIGHT) {
+            entry = timeline.entryAt(viewStart + (e.getX() - PADDING) / scale);
+        }
+        if (entry == null) {
+            Tooltip.uninstall(this, tooltip);
+        } else {
+            tooltip.setText("P" + entry.processId + "  " + entry.startTime + "-" + entry.endTime
+                + " (" + (entry.endTime - entry.startTime) + ")");
+            Tooltip.install(this, tooltip);
+        }
+    }
+
+    private void redraw() {
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        g.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        if (timeline.size() == 0) return;
+
+        double viewEnd = viewStart + chartWidth() / scale;
+        int first = timeline.firstEndingAfter(viewStart);
+        int last = timeline.firstStartingAtOrAfter(viewEnd);
+
+        if (last - first > chartWidth()) {
+            drawDensityBands(g);
+        } else {
+            drawSlices(g, first, last);
+        }
+        drawAxis(g, viewEnd);
+    }
+
+    /** More slices than pixels: one band per pixel column, shaded by busy fraction */
+    private void drawDensityBands(GraphicsContext g) {
+        int columns = (int) Math.ceil(chartWidth());
+        double unitsPerPixel = 1.0 / scale;
+        for (int c = 0; c < columns; c++) {
+            double from = viewStart + c * unitsPerPixel;
+            double to = from + unitsPerPixel;
+            double busy = timeline.busyTimeBefore(to) - timeline.busyTimeBefore(from);
+            if (busy <= 0) continue;
+
+            int owner = timeline.firstStartingAtOrAfter((from + to) / 2) - 1;
+            Color color = owner >= 0 ? colorFor(timeline.get(owner).processId) : IDLE_COLOR;
+            double fraction = Math.min(1.0, busy / unitsPerPixel);
+            g.setFill(color.deriveColor(0, 1, 1, 0.25 + 0.75 * fraction));
+            double height = BAR_HEIGHT * fraction;
+            g.fillRect(PADDING + c, BAR_TOP + BAR_HEIGHT - height, 1, height);
+        }
+    }
+
+    private void drawSlices(GraphicsContext g, int first, int last) {
+        g.setTextAlign(TextAlignment.CENTER);
+        g.setTextBaseline(VPos.TOP);
+        g.setLineWidth(1.5);
+        for (int i = first; i < last; i++) {
+            GanttEntry entry = timeline.get(i);
+            double x = PADDING + (entry.startTime - viewStart) * scale;
+            double width = (entry.endTime - entry.startTime) * scale;
+
+            g.setFill(colorFor(entry.processId));
+            g.fillRect(x, BAR_TOP, Math.max(1, width), BAR_HEIGHT);
+            if (width >= 4) {
+                g.setStroke(Color.BLACK);
+                g.strokeRect(x, BAR_TOP, width, BAR_HEIGHT);
+            }
+
+            g.setFill(Color.BLACK);
+            if (width >= 28) {
+                g.setFont(LABEL_FONT);
+                g.fillText("P" + entry.processId, x + width / 2, BAR_TOP + BAR_HEIGHT + 2);
+            }
+            if (width >= 60) {
+                g.setFont(TIME_FONT);
+                g.fillText(entry.startTime + "-" + entry.endTime, x + width / 2, BAR_TOP + BAR_HEIGHT + 18);
+            }
+        }
+    }
+
+    private void drawAxis(GraphicsContext g, double viewEnd) {
+        double axisY = BAR_TOP + BAR_HEIGHT + 36;
+        g.setStroke(Color.GRAY);
+        g.setLineWidth(1);
+        g.strokeLine(PADDING, axisY, PADDING + chartWidth(), axisY);
+
+        // Roughly one label per 60 px, rounded to 1/2/5 x 10^k time units
+        double rawStep = 60 / scale;
+        double magnitude = Math.pow(10, Math.floor(Math.log10(rawStep)));
+        double step = magnitude;
+        if (rawStep > magnitude * 5) step = magnitude * 10;
+        else if (rawStep > magnitude * 2) step = magnitude * 5;
+        else if (rawStep > magnitude) step = magnitude * 2;
+        step = Math.max(1, step);
+
+        g.setFill(Color.BLACK);
+        g.setFont(AXIS_FONT);
+        g.setTextAlign(TextAlignment.CENTER);
+        g.setTextBaseline(VPos.TOP);
+        for (double t = Math.ceil(viewStart / step) * step; t <= viewEnd; t += step) {
+            double x = PADDING + (t - viewStart) * scale;
+            g.strokeLine(x, axisY, x, axisY + 4);
+            g.fillText(String.valueOf((long) t), x, axisY + 6);
+        }
+    }
+
+    private static Color colorFor(int processId) {
+        return processId < 0 ? IDLE_COLOR : COLORS[Math.abs(processId) % COLORS.length];
+    }
+}
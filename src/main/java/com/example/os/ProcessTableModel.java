@@ -0,0 +1,171 @@
+package com.example.os;
+
+import com.example.os.model.Process;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableListBase;
+
+/**
+ * Items of the process table, backed directly by a scheduler's process list.
+ *
+ * Replacing the whole list is one change notification and no copy. Cell
+ * values are cached per row and only materialized for rows the table
+ * actually renders; {@link #refreshValues()} pushes field changes to those
+ * rows instead of rebuilding every cell.
+ */
+public class ProcessTableModel extends ObservableListBase<Process> {
+    private static final int MAX_CACHED_ROWS = 4096;
+
+    public enum Column {
+        ID, ARRIVAL, BURST, PRIORITY, WAITING, TURNAROUND, COMPLETION;
+
+        int valueOf(Process p) {
+            switch (this) {
+                case ID: return p.id;
+                case ARRIVAL: return p.arrivalTime;
+                case BURST: return p.burstTime;
+                case PRIORITY: return p.priority;
+                case WAITING: return p.waitingTime;
+                case TURNAROUND: return p.turnaroundTime;
+                default: return p.completionTime;
+            }
+        }
+    }
+
+    private List<Process> processes = new ArrayList<>();
+
+    // Cell values of recently rendered rows, least recently used evicted first
+    private final Map<Process, Row> rows = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Process, Row> eldest) {
+            return size() > MAX_CACHED_ROWS;
+        }
+    };
+
+    /**
+     * Shows {@code newProcesses} without copying it; the model takes
+     * ownership of the list
+     */
+    public void setProcesses(List<Process> newProcesses) {
+        List<Process> removed = processes;
+        processes = newProcesses;
+        rows.clear();
+        beginChange();
+        nextReplace(0, newProcesses.size(), removed);
+        endChange();
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends Process> col) {
+        setProcesses(new ArrayList<>(col));
+        return true;
+    }
+
+    @Override
+    public Process get(int index) {
+        return processes.get(index);
+    }
+
+    @Override
+    public int size() {
+        return processes.size();
+    }
+
+    @Override
+    public void add(int index, Process process) {
+        processes.add(index, process);
+        beginChange();
+        nextAdd(index, index + 1);
+        endChange();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Process> col) {
+        if (col.isEmpty()) return false;
+        int from = processes.size();
+        processes.addAll(col);
+        beginChange();
+        nextAdd(from, processes.size());
+        endChange();
+        return true;
+    }
+
+    @Override
+    public Process remove(int index) {
+        Process removed = processes.remove(index);
+        rows.remove(removed);
+        beginChange();
+        nextRemove(index, removed);
+        endChange();
+        return removed;
+    }
+
+    @Override
+    public Process set(int index, Process process) {
+        Process old = processes.set(index, process);
+        rows.remove(old);
+        beginChange();
+        nextSet(index, old);
+        endChange();
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        if (!processes.isEmpty()) {
+            setProcesses(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Cached cell value for a table column
+     */
+    public ObservableValue<Integer> valueOf(Process process, Column column) {
+        Row row = rows.computeIfAbsent(process, Row::new);
+        return row.value(column);
+    }
+
+    /**
+     * Re-reads the fields of every materialized row after the underlying
+     * processes were mutated in place. Rows that were never rendered pick
+     * up current values when they are.
+     */
+    public void refreshValues() {
+        for (Row row : rows.values()) {
+            row.refresh();
+        }
+    }
+
+    private static final class Row {
+        private final Process process;
+        @SuppressWarnings("unchecked")
+        private final ReadOnlyObjectWrapper<Integer>[] values = new ReadOnlyObjectWrapper[Column.values().length];
+
+        Row(Process process) {
+            this.process = process;
+        }
+
+        ObservableValue<Integer> value(Column column) {
+            ReadOnlyObjectWrapper<Integer> value = values[column.ordinal()];
+            if (value == null) {
+                value = new ReadOnlyObjectWrapper<>(column.valueOf(process));
+                values[column.ordinal()] = value;
+            }
+            return value.getReadOnlyProperty();
+        }
+
+        void refresh() {
+            for (Column column : Column.values()) {
+                ReadOnlyObjectWrapper<Integer> value = values[column.ordinal()];
+                if (value != null) {
+                    value.set(column.valueOf(process));
+                }
+            }
+        }
+    }
+}
@@ -7,18 +7,26 @@ import com.example.os.model.ScheduleResult;
 import com.example.os.model.GanttEntry;
 import com.example.os.model.ComparisonResult;
 import com.example.os.scheduler.*;
+import com.example.os.trace.ColumnarScheduleWriter;
+import com.example.os.trace.CsvScheduleWriter;
+import com.example.os.trace.SwfReader;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
-import javafx.scene.layout.HBox;
-import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Rectangle;
-import javafx.scene.text.Text;
+import javafx.stage.FileChooser;
+import javafx.util.Duration;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
@@ -26,6 +34,9 @@ import java.util.Random;
 public class SchedulerController {
     @FXML ComboBox<String> algorithmCombo;
     @FXML TextField timeQuantumField;
+    @FXML TextField switchCostField;
+    @FXML TextField cacheWarmupField;
+    @FXML Slider speedSlider;
     @FXML Button startButton;
     @FXML Button pauseButton;
     @FXML Button resetButton;
@@ -40,43 +51,73 @@ public class SchedulerController {
     @FXML Label avgWaitingLabel;
     @FXML Label avgTurnaroundLabel;
     @FXML Label statusLabel;
-    @FXML VBox ganttContainer;
-    @FXML ScrollPane ganttScrollPane;
+    @FXML GanttChartView ganttChart;
     @FXML Button compareButton;
     @FXML TableView<ComparisonResult> comparisonTable;
     @FXML TableColumn<ComparisonResult, String> algoCol;
     @FXML TableColumn<ComparisonResult, Double> waitCol;
     @FXML TableColumn<ComparisonResult, Double> turnCol;
     @FXML TableColumn<ComparisonResult, Double> scoreCol;
+    @FXML TableColumn<ComparisonResult, Integer> p95WaitCol;
+    @FXML TableColumn<ComparisonResult, Integer> p99WaitCol;
+    @FXML TableColumn<ComparisonResult, Integer> maxWaitCol;
+    @FXML TableColumn<ComparisonResult, Integer> p99TurnCol;
+    @FXML TableColumn<ComparisonResult, Integer> p95ResponseCol;
+    @FXML TableColumn<ComparisonResult, Double> throughputCol;
+    @FXML TableColumn<ComparisonResult, Double> cpuCol;
+    @FXML TableColumn<ComparisonResult, Integer> switchesCol;
+    @FXML TableColumn<ComparisonResult, Double> overheadCol;
+    @FXML TableColumn<ComparisonResult, Double> gapCol;
     @FXML Label bestSchedulerLabel;
     
-    ObservableList<Process> processList = FXCollections.observableArrayList();
+    ProcessTableModel processList = new ProcessTableModel();
     ObservableList<ComparisonResult> comparisonList = FXCollections.observableArrayList();
     AIPredictor aiPredictor = new AIPredictor();
+    // Reused by every comparison and reset before it, so comparing the same
+    // processes twice shows the same results and trains the recommender alike
+    AIPredictor comparisonPredictor = new AIPredictor();
     SchedulerRecommender recommender = new SchedulerRecommender();
     boolean isRunning = false;
     Thread schedulerThread;
+    
+    // Playback of a single-algorithm run, one dispatch at a time
+    static final double FRAME_MILLIS = 50;
+    Timeline playback;
+    ScheduleRun currentRun;
+    double stepBudget;
     Random random = new Random();
+    static final int MAX_IMPORTED_PROCESSES = 1_000_000;
+    ScheduleResult lastResult;
     
     @FXML
     void initialize() {
-        idCol.setCellValueFactory(c -> new javafx.beans.property.SimpleIntegerProperty(c.getValue().id).asObject());
-        arrivalCol.setCellValueFactory(c -> new javafx.beans.property.SimpleIntegerProperty(c.getValue().arrivalTime).asObject());
-        burstCol.setCellValueFactory(c -> new javafx.beans.property.SimpleIntegerProperty(c.getValue().burstTime).asObject());
-        priorityCol.setCellValueFactory(c -> new javafx.beans.property.SimpleIntegerProperty(c.getValue().priority).asObject());
-        waitingCol.setCellValueFactory(c -> new javafx.beans.property.SimpleIntegerProperty(c.getValue().waitingTime).asObject());
-        turnaroundCol.setCellValueFactory(c -> new javafx.beans.property.SimpleIntegerProperty(c.getValue().turnaroundTime).asObject());
-        completionCol.setCellValueFactory(c -> new javafx.beans.property.SimpleIntegerProperty(c.getValue().completionTime).asObject());
+        idCol.setCellValueFactory(c -> processList.valueOf(c.getValue(), ProcessTableModel.Column.ID));
+        arrivalCol.setCellValueFactory(c -> processList.valueOf(c.getValue(), ProcessTableModel.Column.ARRIVAL));
+        burstCol.setCellValueFactory(c -> processList.valueOf(c.getValue(), ProcessTableModel.Column.BURST));
+        priorityCol.setCellValueFactory(c -> processList.valueOf(c.getValue(), ProcessTableModel.Column.PRIORITY));
+        waitingCol.setCellValueFactory(c -> processList.valueOf(c.getValue(), ProcessTableModel.Column.WAITING));
+        turnaroundCol.setCellValueFactory(c -> processList.valueOf(c.getValue(), ProcessTableModel.Column.TURNAROUND));
+        completionCol.setCellValueFactory(c -> processList.valueOf(c.getValue(), ProcessTableModel.Column.COMPLETION));
         
         processTable.setItems(processList);
         
-        algorithmCombo.getItems().addAll("FCFS", "SJF", "Round Robin", "Priority", "Intelligent AI Scheduler");
-        algorithmCombo.setValue("FCFS");
+        algorithmCombo.getItems().addAll(SchedulerFactory.ALGORITHMS);
+        algorithmCombo.setValue(SchedulerFactory.FCFS);
         
         algoCol.setCellValueFactory(new PropertyValueFactory<>("algorithmName"));
         waitCol.setCellValueFactory(new PropertyValueFactory<>("avgWaitingTime"));
         turnCol.setCellValueFactory(new PropertyValueFactory<>("avgTurnaroundTime"));
         scoreCol.setCellValueFactory(new PropertyValueFactory<>("score"));
+        p95WaitCol.setCellValueFactory(new PropertyValueFactory<>("p95WaitingTime"));
+        p99WaitCol.setCellValueFactory(new PropertyValueFactory<>("p99WaitingTime"));
+        maxWaitCol.setCellValueFactory(new PropertyValueFactory<>("maxWaitingTime"));
+        p99TurnCol.setCellValueFactory(new PropertyValueFactory<>("p99TurnaroundTime"));
+        p95ResponseCol.setCellValueFactory(new PropertyValueFactory<>("p95ResponseTime"));
+        throughputCol.setCellValueFactory(new PropertyValueFactory<>("throughput"));
+        cpuCol.setCellValueFactory(new PropertyValueFactory<>("cpuUtilization"));
+        switchesCol.setCellValueFactory(new PropertyValueFactory<>("contextSwitches"));
+        overheadCol.setCellValueFactory(new PropertyValueFactory<>("overheadFraction"));
+        gapCol.setCellValueFactory(new PropertyValueFactory<>("optimalityGap"));
         
         waitCol.setCellFactory(column -> new TableCell<ComparisonResult, Double>() {
             @Override
@@ -112,8 +153,56 @@ public class SchedulerController {
             }
         });
         
+        throughputCol.setCellFactory(column -> new TableCell<ComparisonResult, Double>() {
+            @Override
+            protected void updateItem(Double item, boolean empty) {
+                super.updateItem(item, empty);
+                if (empty || item == null) {
+                    setText(null);
+                } else {
+                    setText(String.format("%.3f", item));
+                }
+            }
+        });
+        cpuCol.setCellFactory(column -> new TableCell<ComparisonResult, Double>() {
+            @Override
+            protected void updateItem(Double item, boolean empty) {
+                super.updateItem(item, empty);
+                if (empty || item == null) {
+                    setText(null);
+                } else {
+                    setText(String.format("%.1f%%", item * 100));
+                }
+            }
+        });
+        overheadCol.setCellFactory(column -> new TableCell<ComparisonResult, Double>() {
+            @Override
+            protected void updateItem(Double item, boolean empty) {
+                super.updateItem(item, empty);
+                if (empty || item == null) {
+                    setText(null);
+                } else {
+                    setText(String.format("%.1f%%", item * 100));
+                }
+            }
+        });
+        gapCol.setCellFactory(column -> new TableCell<ComparisonResult, Double>() {
+            @Override
+            protected void updateItem(Double item, boolean empty) {
+                super.updateItem(item, empty);
+                if (empty || item == null || item.isNaN()) {
+                    setText(null);
+                } else {
+                    setText(String.format("%.1f%%", item * 100));
+                }
+            }
+        });
+        
         comparisonTable.setItems(comparisonList);
         
+        playback = new Timeline(new KeyFrame(Duration.millis(FRAME_MILLIS), e -> advancePlayback()));
+        playback.setCycleCount(Animation.INDEFINITE);
+        
         addSampleProcesses();
     }
     
@@ -184,6 +273,81 @@ public class SchedulerController {
         bestSchedulerLabel.setText("Run comparison first");
     }
     
+    /**
+     * Loads jobs from an SWF trace into the process table. Very large traces
+     * are cut off at MAX_IMPORTED_PROCESSES; headless runs can stream the
+     * whole trace through Scheduler.summarize(SwfReader) instead.
+     */
+    @FXML
+    void handleImportSwf() {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Import SWF Trace");
+        chooser.getExtensionFilters().addAll(
+            new FileChooser.ExtensionFilter("SWF traces", "*.swf", "*.swf.gz"),
+            new FileChooser.ExtensionFilter("All files", "*.*"));
+        File file = chooser.showOpenDialog(processTable.getScene().getWindow());
+        if (file == null) return;
+        
+        statusLabel.setText("Importing " + file.getName() + "...");
+        Thread importThread = new Thread(() -> {
+            try (SwfReader reader = SwfReader.open(file.toPath())) {
+                List<Process> imported = new ArrayList<>();
+                while (imported.size() < MAX_IMPORTED_PROCESSES && reader.hasNext()) {
+                    imported.add(reader.next());
+                }
+                boolean truncated = reader.hasNext();
+                Platform.runLater(() -> {
+                    processList.setProcesses(imported);
+                    clearResults();
+                    statusLabel.setText("Imported " + imported.size() + " jobs"
+                        + (truncated ? " (trace truncated)" : ""));
+                });
+            } catch (IOException | UncheckedIOException e) {
+                Platform.runLater(() -> showAlert("Could not import trace: " + e.getMessage()));
+            }
+        });
+        importThread.setDaemon(true);
+        importThread.start();
+    }
+    
+    /**
+     * Saves the last single-algorithm result as compressed columnar binary
+     * (.sched) or as CSV (processes to the chosen file, Gantt slices next to
+     * it as *-gantt.csv)
+     */
+    @FXML
+    void handleExportResults() {
+        if (lastResult == null) {
+            showAlert("Run a scheduler first");
+            return;
+        }
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Export Schedule");
+        chooser.getExtensionFilters().addAll(
+            new FileChooser.ExtensionFilter("Columnar schedule", "*.sched"),
+            new FileChooser.ExtensionFilter("CSV", "*.csv"));
+        File file = chooser.showSaveDialog(processTable.getScene().getWindow());
+        if (file == null) return;
+        
+        Path path = file.toPath();
+        String name = file.getName();
+        try {
+            if (name.endsWith(".csv")) {
+                Path gantt = path.resolveSibling(name.substring(0, name.length() - 4) + "-gantt.csv");
+                try (CsvScheduleWriter writer = new CsvScheduleWriter(path, gantt)) {
+                    ScheduleListener.replay(lastResult, writer);
+                }
+            } else {
+                try (ColumnarScheduleWriter writer = new ColumnarScheduleWriter(path)) {
+                    ScheduleListener.replay(lastResult, writer);
+                }
+            }
+            statusLabel.setText("Exported to " + name);
+        } catch (IOException | UncheckedIOException e) {
+            showAlert("Could not export results: " + e.getMessage());
+        }
+    }
+    
     @FXML
     void handleRandomGenerate() {
         Dialog<Integer> dialog = new Dialog<>();
@@ -197,6 +361,8 @@ public class SchedulerController {
         TextField maxBurstField = new TextField("10");
         TextField minPriorityField = new TextField("1");
         TextField maxPriorityField = new TextField("5");
+        TextField ioShareField = new TextField("0");
+        TextField ioDevicesField = new TextField("1");
         
         VBox vbox = new VBox(10);
         vbox.getChildren().addAll(
@@ -206,7 +372,9 @@ public class SchedulerController {
             new Label("Min Burst Time:"), minBurstField,
             new Label("Max Burst Time:"), maxBurstField,
             new Label("Min Priority:"), minPriorityField,
-            new Label("Max Priority:"), maxPriorityField
+            new Label("Max Priority:"), maxPriorityField,
+            new Label("I/O-bound Processes (%):"), ioShareField,
+            new Label("I/O Devices:"), ioDevicesField
         );
         dialog.getDialogPane().setContent(vbox);
         dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
@@ -231,14 +399,22 @@ public class SchedulerController {
                     int maxBurst = Integer.parseInt(maxBurstField.getText());
                     int minPriority = Integer.parseInt(minPriorityField.getText());
                     int maxPriority = Integer.parseInt(maxPriorityField.getText());
+                    int ioShare = Integer.parseInt(ioShareField.getText());
+                    int ioDevices = Math.max(1, Integer.parseInt(ioDevicesField.getText()));
                     
-                    processList.clear();
+                    List<Process> generated = new ArrayList<>(count);
                     for (int i = 1; i <= count; i++) {
                         int arrival = minArrival + random.nextInt(maxArrival - minArrival + 1);
-                        int burst = minBurst + random.nextInt(maxBurst - minBurst + 1);
                         int priority = minPriority + random.nextInt(maxPriority - minPriority + 1);
-                        processList.add(new Process(i, arrival, burst, priority));
+                        if (random.nextInt(100) < ioShare) {
+                            generated.add(new Process(i, arrival, randomIoBursts(minBurst, maxBurst), priority,
+                                                      random.nextInt(ioDevices)));
+                        } else {
+                            int burst = minBurst + random.nextInt(maxBurst - minBurst + 1);
+                            generated.add(new Process(i, arrival, burst, priority));
+                        }
                     }
+                    processList.setProcesses(generated);
                 } catch (NumberFormatException e) {
                     showAlert("Invalid input values");
                 }
@@ -246,6 +422,21 @@ public class SchedulerController {
         });
     }
     
+    /**
+     * I/O-bound job: 2-5 short CPU bursts separated by longer I/O waits
+     */
+    int[] randomIoBursts(int minBurst, int maxBurst) {
+        int cpuBursts = 2 + random.nextInt(4);
+        int[] bursts = new int[2 * cpuBursts - 1];
+        int shortMax = Math.max(minBurst, (minBurst + maxBurst) / 2);
+        for (int b = 0; b < bursts.length; b++) {
+            bursts[b] = b % 2 == 0
+                ? minBurst + random.nextInt(shortMax - minBurst + 1)
+                : minBurst + random.nextInt(2 * maxBurst - minBurst + 1);
+        }
+        return bursts;
+    }
+    
     @FXML
     void handleStart() {
         if (processList.isEmpty()) {
@@ -253,25 +444,64 @@ public class SchedulerController {
             return;
         }
         
+        // Resume a paused run, otherwise start a new one
+        if (currentRun == null || !currentRun.hasNext()) {
+            String algorithm = algorithmCombo.getValue();
+            if (algorithm == null) algorithm = SchedulerFactory.FCFS;
+            currentRun = createScheduler(algorithm).start(new ArrayList<>(processList));
+            stepBudget = 0;
+            ganttChart.clear();
+        }
+        
         isRunning = true;
         startButton.setDisable(true);
         pauseButton.setDisable(false);
         statusLabel.setText("Running...");
         statusLabel.setTextFill(Color.GREEN);
+        playback.play();
+    }
+    
+    /**
+     * Advances the current run by as many dispatches as the speed slider
+     * allows for one frame and draws the new slices
+     */
+    void advancePlayback() {
+        if (currentRun == null) {
+            playback.stop();
+            return;
+        }
         
-        schedulerThread = new Thread(() -> {
-            try {
-                Thread.sleep(500);
-                Platform.runLater(() -> runScheduler());
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        });
-        schedulerThread.start();
+        stepBudget += speedSlider.getValue() * FRAME_MILLIS / 1000.0;
+        int steps = (int) stepBudget;
+        stepBudget -= steps;
+        
+        List<GanttEntry> slices = new ArrayList<>(steps);
+        for (int i = 0; i < steps && currentRun.hasNext(); i++) {
+            slices.add(currentRun.step());
+        }
+        ganttChart.appendEntries(slices);
+        statusLabel.setText("Running... t=" + currentRun.getCurrentTime() + " ("
+            + currentRun.getCompletedCount() + "/" + currentRun.getProcessCount() + " done)");
+        
+        if (!currentRun.hasNext()) {
+            playback.stop();
+            finishRun();
+        }
+    }
+    
+    void finishRun() {
+        updateUI(currentRun.getResult());
+        
+        isRunning = false;
+        startButton.setDisable(false);
+        pauseButton.setDisable(true);
+        statusLabel.setText("Completed");
+        statusLabel.setTextFill(Color.BLUE);
     }
     
     @FXML
     void handlePause() {
+        playback.pause();
         isRunning = false;
         startButton.setDisable(false);
         pauseButton.setDisable(true);
@@ -281,6 +511,8 @@ public class SchedulerController {
     
     @FXML
     void handleReset() {
+        playback.stop();
+        currentRun = null;
         isRunning = false;
         if (schedulerThread != null) {
             schedulerThread.interrupt();
@@ -294,6 +526,7 @@ public class SchedulerController {
         comparisonList.clear();
         bestSchedulerLabel.setText("Run comparison first");
         aiPredictor.reset();
+        comparisonPredictor.reset();
     }
     
     @FXML
@@ -324,23 +557,25 @@ public class SchedulerController {
         List<Process> processes = new ArrayList<>(processList);
         List<ComparisonResult> results = new ArrayList<>();
         
-        String[] algorithms = {"FCFS", "SJF", "Round Robin", "Priority", "Intelligent AI Scheduler"};
+        List<String> algorithms = SchedulerFactory.ALGORITHMS;
         
-        AIPredictor freshPredictor = new AIPredictor();
+        comparisonPredictor.reset();
+        // Built once and read in place by every scheduler; runs never modify it
+        Workload workload = Workload.of(processes);
+        // No schedule can beat this; each row shows how far above it it is
+        double turnaroundBound = LowerBounds.of(workload).turnaround;
         
         for (String algo : algorithms) {
-            List<Process> processCopy = new ArrayList<>();
-            for (Process p : processes) {
-                processCopy.add(p.copy());
-            }
-            
-            Scheduler scheduler = createScheduler(algo, freshPredictor);
-            ScheduleResult result = scheduler.schedule(processCopy);
-            results.add(new ComparisonResult(algo, result));
+            // Summary-only run: no Gantt chart or per-process results are kept
+            Scheduler scheduler = createScheduler(algo, comparisonPredictor);
+            ComparisonResult result = new ComparisonResult(algo, scheduler.summarize(workload));
+            result.setTurnaroundLowerBound(turnaroundBound);
+            results.add(result);
         }
         
         comparisonList.clear();
         comparisonList.addAll(results);
+        recommender.train(processes, results);
         
         ComparisonResult best = recommender.getBestResult(results);
         if (best != null) {
@@ -355,50 +590,33 @@ public class SchedulerController {
         statusLabel.setTextFill(Color.GREEN);
     }
     
-    void runScheduler() {
-        List<Process> processes = new ArrayList<>(processList);
-        String algorithm = algorithmCombo.getValue();
-        if (algorithm == null) algorithm = "FCFS";
-        
-        Scheduler scheduler = createScheduler(algorithm);
-        ScheduleResult result = scheduler.schedule(processes);
-        
-        updateUI(result);
-        
-        isRunning = false;
-        startButton.setDisable(false);
-        pauseButton.setDisable(true);
-        statusLabel.setText("Completed");
-        statusLabel.setTextFill(Color.BLUE);
-    }
-    
     Scheduler createScheduler(String algorithm) {
         return createScheduler(algorithm, aiPredictor);
     }
     
     Scheduler createScheduler(String algorithm, AIPredictor predictor) {
-        switch (algorithm) {
-            case "SJF":
-                return new SJFScheduler();
-            case "Round Robin":
-                int quantum = 2;
-                try {
-                    quantum = Integer.parseInt(timeQuantumField.getText());
-                } catch (NumberFormatException e) {}
-                return new RoundRobinScheduler(quantum);
-            case "Priority":
-                return new PriorityScheduler();
-            case "Intelligent AI Scheduler":
-                return new IntelligentAIScheduler(predictor);
-            default:
-                return new FCFSScheduler();
-        }
+        int quantum = SchedulerFactory.DEFAULT_TIME_QUANTUM;
+        try {
+            quantum = Integer.parseInt(timeQuantumField.getText());
+        } catch (NumberFormatException e) {}
+        return SchedulerFactory.create(algorithm, quantum, predictor, createOverheadModel());
+    }
+    
+    OverheadModel createOverheadModel() {
+        int switchCost = 0;
+        int cacheWarmup = 0;
+        try {
+            switchCost = Math.max(0, Integer.parseInt(switchCostField.getText()));
+        } catch (NumberFormatException e) {}
+        try {
+            cacheWarmup = Math.max(0, Integer.parseInt(cacheWarmupField.getText()));
+        } catch (NumberFormatException e) {}
+        return new OverheadModel(switchCost, cacheWarmup);
     }
     
     void updateUI(ScheduleResult result) {
-        processList.clear();
-        processList.addAll(result.processes);
-        processTable.refresh();
+        lastResult = result;
+        processList.setProcesses(result.processes);
         
         avgWaitingLabel.setText(String.format("%.2f", result.avgWaitingTime));
         avgTurnaroundLabel.setText(String.format("%.2f", result.avgTurnaroundTime));
@@ -406,56 +624,8 @@ public class SchedulerController {
         drawGanttChart(result.ganttChart);
     }
     
-    void drawGanttChart(List<GanttEntry> ganttChart) {
-        ganttContainer.getChildren().clear();
-        
-        if (ganttChart.isEmpty()) return;
-        
-        int maxTime = ganttChart.get(ganttChart.size() - 1).endTime;
-        double containerWidth = ganttScrollPane.getWidth() > 0 ? ganttScrollPane.getWidth() - 40 : 700;
-        double scale = Math.max(5.0, containerWidth / Math.max(1, maxTime));
-        
-        HBox chartBox = new HBox(0);
-        chartBox.setStyle("-fx-padding: 10; -fx-alignment: center-left;");
-        
-        Color[] colors = {Color.web("#3498db"), Color.web("#e74c3c"), Color.web("#2ecc71"), 
-                         Color.web("#f39c12"), Color.web("#9b59b6"), Color.web("#1abc9c"), 
-                         Color.web("#e67e22"), Color.web("#34495e")};
-        
-        for (GanttEntry entry : ganttChart) {
-            double width = Math.max(20, (entry.endTime - entry.startTime) * scale);
-            Rectangle rect = new Rectangle(width, 50);
-            rect.setFill(colors[Math.abs(entry.processId) % colors.length]);
-            rect.setStroke(Color.BLACK);
-            rect.setStrokeWidth(1.5);
-            
-            VBox vbox = new VBox(2);
-            vbox.setAlignment(javafx.geometry.Pos.CENTER);
-            Text label = new Text("P" + entry.processId);
-            label.setStyle("-fx-font-size: 12px; -fx-font-weight: bold;");
-            Text timeLabel = new Text(entry.startTime + "-" + entry.endTime);
-            timeLabel.setStyle("-fx-font-size: 9px;");
-            vbox.getChildren().addAll(rect, label, timeLabel);
-            
-            chartBox.getChildren().add(vbox);
-        }
-        
-        HBox timeBox = new HBox();
-        timeBox.setStyle("-fx-padding: 5; -fx-alignment: center-left;");
-        int step = Math.max(1, maxTime / Math.min(20, maxTime));
-        for (int i = 0; i <= maxTime; i += step) {
-            Text timeText = new Text(String.valueOf(i));
-            timeText.setStyle("-fx-font-size: 11px; -fx-font-weight: bold;");
-            timeBox.getChildren().add(timeText);
-            if (i < maxTime) {
-                Region spacer = new Region();
-                double spacerWidth = scale * step - 30;
-                spacer.setPrefWidth(Math.max(0, spacerWidth));
-                timeBox.getChildren().add(spacer);
-            }
-        }
-        
-        ganttContainer.getChildren().addAll(chartBox, new javafx.scene.control.Separator());
+    void drawGanttChart(List<GanttEntry> entries) {
+        ganttChart.setEntries(entries);
     }
     
     void clearResults() {
@@ -466,10 +636,11 @@ public class SchedulerController {
             p.startTime = -1;
             p.remainingTime = p.burstTime;
         }
-        processTable.refresh();
+        processList.refreshValues();
+        lastResult = null;
         avgWaitingLabel.setText("0.00");
         avgTurnaroundLabel.setText("0.00");
-        ganttContainer.getChildren().clear();
+        ganttChart.clear();
     }
     
     void showAlert(String message) {
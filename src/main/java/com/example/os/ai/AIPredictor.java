@@ -1,97 +1,252 @@
 package com.example.os.ai;
 
 import com.example.os.model.Process;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Enhanced AI Predictor that uses exponential averaging with adaptive learning
  * and pattern recognition for better burst time prediction.
+ *
+ * Per-process state is kept for at most {@code maxTrackedIds} ids; the least
+ * recently used id is evicted when the limit is reached. Ids without state fall
+ * back to a prediction learned for their coarse workload class (priority band
+ * and burst bucket), so memory stays flat even when ids are never reused.
  */
 public class AIPredictor {
-    // Prediction storage
-    private Map<Integer, Double> predictedBurstTimes = new HashMap<>();
-    private Map<Integer, Double> alphaValues = new HashMap<>();
-    private Map<Integer, List<Integer>> burstHistory = new HashMap<>();
+    public static final int DEFAULT_MAX_TRACKED_IDS = 10_000;
+    static final int HISTORY_SIZE = 10;
+
+    // Workload classes: priority band x log2 burst bucket
+    static final int PRIORITY_BANDS = 4;
+    static final int BURST_BUCKETS = 8;
+    static final int WORKLOAD_CLASSES = PRIORITY_BANDS * BURST_BUCKETS;
     
+    /** Workload classes the intelligent scheduler learns score weights for */
+    public static final int SCORE_WEIGHT_CLASSES = 8;
+
+    // Prediction storage (bounded, least recently used id is evicted first),
+    // null when a subclass keeps per-id state elsewhere
+    private final int maxTrackedIds;
+    private final IdStateTable states;
+
+    // Fallback predictions per workload class
+    private final WorkloadClassTable classPredictions;
+    
+    // Learned scheduler score weights per workload class
+    private final ScoreWeightTable scoreWeights = new ScoreWeightTable(SCORE_WEIGHT_CLASSES);
+
+    // Last completed bursts, the only bursts a model may see at prediction time
+    private final RecentBursts recentBursts;
+
+    // Optional backend for processes without per-id history
+    private BurstTimeModel burstTimeModel;
+
     // Adaptive parameters
     private double defaultAlpha = 0.5;
     private double minAlpha = 0.1;
     private double maxAlpha = 0.9;
-    
-    // Pattern recognition
-    private Map<Integer, Double> varianceMap = new HashMap<>();
-    
+
+    public AIPredictor() {
+        this(DEFAULT_MAX_TRACKED_IDS);
+    }
+
+    public AIPredictor(int maxTrackedIds) {
+        this(maxTrackedIds, new WorkloadClassTable(WORKLOAD_CLASSES), new RecentBursts());
+    }
+
+    AIPredictor(int maxTrackedIds, WorkloadClassTable classPredictions, RecentBursts recentBursts) {
+        this(maxTrackedIds, classPredictions, recentBursts, true);
+    }
+
+    /**
+     * For subclasses that keep per-id state themselves, such as
+     * {@link ConcurrentAIPredictor}: without {@code ownStates} no table is
+     * allocated and every per-id method must be overridden.
+     */
+    AIPredictor(int maxTrackedIds, WorkloadClassTable classPredictions, RecentBursts recentBursts,
+                boolean ownStates) {
+        if (maxTrackedIds <= 0) {
+            throw new IllegalArgumentException("maxTrackedIds must be positive");
+        }
+        this.maxTrackedIds = maxTrackedIds;
+        this.states = ownStates ? new IdStateTable(maxTrackedIds) : null;
+        this.classPredictions = classPredictions;
+        this.recentBursts = recentBursts;
+    }
+
+    /**
+     * Per-id state of this predictor. Fails instead of answering from an
+     * empty table when a subclass without its own table missed an override.
+     */
+    private IdStateTable states() {
+        if (states == null) {
+            throw new IllegalStateException(getClass().getSimpleName() + " keeps no per-id state here");
+        }
+        return states;
+    }
+
     /**
      * Updates prediction using exponential averaging with adaptive alpha
      */
     public void updatePrediction(int processId, int actualBurstTime) {
-        // Store history
-        burstHistory.putIfAbsent(processId, new ArrayList<>());
-        List<Integer> history = burstHistory.get(processId);
-        history.add(actualBurstTime);
-        
-        // Keep only recent history (last 10 executions)
-        if (history.size() > 10) {
-            history.remove(0);
-        }
-        
+        recordExecution(stateFor(processId, actualBurstTime), actualBurstTime);
+    }
+
+    /**
+     * Updates the per-id prediction and the fallback prediction of the
+     * process's workload class.
+     */
+    public void updatePrediction(Process process, int actualBurstTime) {
+        updatePrediction(process.id, process.priority, actualBurstTime);
+    }
+
+    public void updatePrediction(int processId, int priority, int actualBurstTime) {
+        PredictionState state = stateFor(processId, actualBurstTime);
+        state.workloadClass = workloadClass(priority, actualBurstTime);
+        recordExecution(state, actualBurstTime);
+    }
+
+    private PredictionState stateFor(int processId, int actualBurstTime) {
+        PredictionState state = states().get(processId);
+        if (state == null) {
+            state = new PredictionState();
+            state.prediction = actualBurstTime;
+            states().put(processId, state);
+        }
+        return state;
+    }
+
+    private void recordExecution(PredictionState state, int actualBurstTime) {
+        // Store history (ring buffer keeps the last HISTORY_SIZE executions)
+        state.record(actualBurstTime);
+        recentBursts.record(actualBurstTime);
+
         // Calculate variance to determine stability
-        double variance = calculateVariance(history);
-        varianceMap.put(processId, variance);
-        
+        state.variance = calculateVariance(state);
+
         // Adaptive alpha: use higher alpha for stable processes, lower for variable
-        double alpha = calculateAdaptiveAlpha(processId, variance);
-        alphaValues.put(processId, alpha);
-        
+        state.alpha = calculateAdaptiveAlpha(state.variance);
+
         // Exponential averaging
-        double currentPrediction = predictedBurstTimes.getOrDefault(processId, (double) actualBurstTime);
-        double newPrediction = alpha * actualBurstTime + (1 - alpha) * currentPrediction;
-        predictedBurstTimes.put(processId, newPrediction);
+        state.prediction = state.alpha * actualBurstTime + (1 - state.alpha) * state.prediction;
+
+        if (state.workloadClass >= 0) {
+            classPredictions.update(state.workloadClass, actualBurstTime);
+        }
     }
-    
+
     /**
      * Gets predicted burst time with pattern-based adjustment
      */
     public int getPredictedBurstTime(Process process) {
-        if (predictedBurstTimes.containsKey(process.id)) {
-            double basePrediction = predictedBurstTimes.get(process.id);
-            
+        PredictionState state = states().get(process.id);
+        if (state != null) {
+            double basePrediction = state.prediction;
+
             // Apply pattern-based adjustment if we have history
-            if (burstHistory.containsKey(process.id) && burstHistory.get(process.id).size() >= 3) {
-                double trend = calculateTrend(process.id);
+            if (state.historySize >= 3) {
+                double trend = calculateTrend(state);
                 // Adjust prediction based on trend (up to 10% adjustment)
                 basePrediction = basePrediction * (1.0 + trend * 0.1);
             }
-            
+
             return (int) Math.round(Math.max(1, basePrediction));
         }
-        
-        // Initial prediction: use actual burst time
+
+        // Unseen id: use what we learned for similar processes
+        double classPrediction = classPredictions.get(workloadClass(process.priority, process.burstTime));
+        if (!Double.isNaN(classPrediction)) {
+            return (int) Math.round(Math.max(1, classPrediction));
+        }
+
+        // Nothing learned yet: use actual burst time
         return process.burstTime;
     }
-    
+
     /**
      * Optimizes process list by replacing burst times with predictions
      */
     public List<Process> optimizeProcessList(List<Process> processes) {
+        int[] predictions = new int[processes.size()];
+        predictBurstTimes(processes, predictions);
+
         List<Process> optimized = new ArrayList<>();
-        for (Process p : processes) {
-            Process optimizedP = p.copy();
-            optimizedP.burstTime = getPredictedBurstTime(p);
+        for (int i = 0; i < processes.size(); i++) {
+            Process optimizedP = processes.get(i).copy();
+            optimizedP.burstTime = predictions[i];
             optimized.add(optimizedP);
         }
         return optimized;
     }
-    
+
+    /**
+     * Writes the predicted burst of {@code processes.get(i)} to {@code out[i]}.
+     * With a {@link BurstTimeModel} set, the whole workload is predicted in
+     * one batch and ids with their own history keep their per-id prediction.
+     */
+    public void predictBurstTimes(List<Process> processes, int[] out) {
+        int[] modelPredictions = burstTimeModel != null
+            ? burstTimeModel.predictBurstTimes(processes, recentBursts.mean())
+            : null;
+        for (int i = 0; i < processes.size(); i++) {
+            Process p = processes.get(i);
+            if (modelPredictions != null && !isTracked(p.id)) {
+                out[i] = modelPredictions[i];
+            } else {
+                out[i] = getPredictedBurstTime(p);
+            }
+        }
+    }
+
+    public void setBurstTimeModel(BurstTimeModel burstTimeModel) {
+        this.burstTimeModel = burstTimeModel;
+    }
+
+    public BurstTimeModel getBurstTimeModel() {
+        return burstTimeModel;
+    }
+
+    /**
+     * Whether the id currently has per-id state
+     */
+    public boolean isTracked(int processId) {
+        return states().containsKey(processId);
+    }
+
+    /**
+     * Maps a process to its coarse workload class: four priority bands
+     * times eight power-of-two burst buckets.
+     */
+    static int workloadClass(int priority, int burstTime) {
+        int band;
+        if (priority <= 1) {
+            band = 0;
+        } else if (priority <= 3) {
+            band = 1;
+        } else if (priority <= 6) {
+            band = 2;
+        } else {
+            band = 3;
+        }
+        int bucket = Math.min(BURST_BUCKETS - 1, 31 - Integer.numberOfLeadingZeros(Math.max(1, burstTime)));
+        return band * BURST_BUCKETS + bucket;
+    }
+
     /**
      * Calculates adaptive alpha based on process variance
      * Stable processes (low variance) get lower alpha (more weight to history)
      * Variable processes (high variance) get higher alpha (more weight to recent)
      */
-    private double calculateAdaptiveAlpha(int processId, double variance) {
+    private double calculateAdaptiveAlpha(double variance) {
         if (variance < 1.0) {
             // Very stable process - trust history more
             return minAlpha + 0.1;
@@ -104,61 +259,215 @@ public class AIPredictor {
             return defaultAlpha + (normalizedVariance * 0.2);
         }
     }
-    
+
     /**
      * Calculates variance of burst time history
      */
-    private double calculateVariance(List<Integer> history) {
-        if (history.size() < 2) return 0.0;
-        
-        double mean = history.stream().mapToInt(Integer::intValue).average().orElse(0.0);
-        double variance = history.stream()
-            .mapToDouble(x -> Math.pow(x - mean, 2))
-            .average()
-            .orElse(0.0);
-        
-        return variance;
+    private double calculateVariance(PredictionState state) {
+        if (state.historySize < 2) return 0.0;
+
+        double mean = state.historyAverage(0, state.historySize);
+        double sum = 0.0;
+        for (int i = 0; i < state.historySize; i++) {
+            double diff = state.historyAt(i) - mean;
+            sum += diff * diff;
+        }
+
+        return sum / state.historySize;
     }
-    
+
     /**
      * Calculates trend in burst times (positive = increasing, negative = decreasing)
      */
-    private double calculateTrend(int processId) {
-        List<Integer> history = burstHistory.get(processId);
-        if (history == null || history.size() < 3) return 0.0;
-        
+    private double calculateTrend(PredictionState state) {
+        if (state.historySize < 3) return 0.0;
+
         // Simple linear trend: compare recent average to older average
-        int recentCount = Math.min(3, history.size());
-        int olderCount = Math.min(3, history.size() - recentCount);
-        
+        int recentCount = Math.min(3, state.historySize);
+        int olderCount = Math.min(3, state.historySize - recentCount);
+
         if (olderCount == 0) return 0.0;
-        
-        double recentAvg = history.subList(history.size() - recentCount, history.size())
-            .stream().mapToInt(Integer::intValue).average().orElse(0.0);
-        
-        double olderAvg = history.subList(0, olderCount)
-            .stream().mapToInt(Integer::intValue).average().orElse(0.0);
-        
+
+        double recentAvg = state.historyAverage(state.historySize - recentCount, state.historySize);
+        double olderAvg = state.historyAverage(0, olderCount);
+
         // Normalize trend to -1 to 1 range
         if (olderAvg == 0) return 0.0;
         return (recentAvg - olderAvg) / olderAvg;
     }
-    
+
     /**
      * Resets all predictions and history
      */
     public void reset() {
-        predictedBurstTimes.clear();
-        alphaValues.clear();
-        burstHistory.clear();
-        varianceMap.clear();
+        states().clear();
+        classPredictions.clear();
+        recentBursts.clear();
+        scoreWeights.clear();
+    }
+    
+    /**
+     * Score weights learned for a workload class, {@link ScoreWeights#DEFAULT}
+     * until something was learned
+     *
+     * @param workloadClass 0 to {@link #SCORE_WEIGHT_CLASSES} - 1
+     */
+    public ScoreWeights getScoreWeights(int workloadClass) {
+        return scoreWeights.get(workloadClass);
+    }
+    
+    public void setScoreWeights(int workloadClass, ScoreWeights weights) {
+        scoreWeights.set(workloadClass, weights);
+    }
+    
+    /**
+     * Copies the weights learned for a class into {@code values}, laid out
+     * as by {@link ScoreWeights#copyInto}; unlike getScoreWeights this does
+     * not allocate
+     *
+     * @return version of the weights, for writeScoreWeights
+     */
+    public long readScoreWeights(int workloadClass, double[] values) {
+        return scoreWeights.read(workloadClass, values);
     }
     
+    /**
+     * Replaces the weights of a class with {@code values} only if they are
+     * still at the {@code version} read, so concurrent learners never undo
+     * each other's updates
+     */
+    public boolean writeScoreWeights(int workloadClass, long version, double[] values) {
+        return scoreWeights.compareAndSet(workloadClass, version, values);
+    }
+
     /**
      * Gets current prediction for a process (for debugging/display)
      */
     public double getCurrentPrediction(int processId) {
-        return predictedBurstTimes.getOrDefault(processId, 0.0);
+        PredictionState state = states().get(processId);
+        return state != null ? state.prediction : 0.0;
+    }
+
+    /**
+     * Number of process ids currently holding per-id state
+     */
+    public int getTrackedIdCount() {
+        return states().size();
+    }
+
+    public int getMaxTrackedIds() {
+        return maxTrackedIds;
+    }
+
+    /**
+     * Writes predictions, alphas, variances, history, the class table and
+     * the learned score weights in the compact binary snapshot format. Not safe against concurrent
+     * updates; use {@link ConcurrentAIPredictor} for background checkpoints.
+     */
+    public void writeSnapshot(WritableByteChannel channel) throws IOException {
+        PredictorSnapshot.Writer writer = new PredictorSnapshot.Writer(channel);
+        writer.writeHeader(classPredictions, scoreWeights);
+        writer.writeBlock(states());
+        writer.writeEnd();
+        writer.flush();
+    }
+
+    /**
+     * Replaces the current state with the contents of a snapshot
+     */
+    public void restoreSnapshot(ReadableByteChannel channel) throws IOException {
+        reset();
+        PredictorSnapshot.read(channel, classPredictions, scoreWeights, this::restoreState);
+    }
+
+    /**
+     * Writes a snapshot to a temporary file next to {@code path} and then
+     * atomically replaces {@code path}, so a crash never leaves a torn file.
+     */
+    public void saveSnapshot(Path path) throws IOException {
+        Path dir = path.toAbsolutePath().getParent();
+        Path tmp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                writeSnapshot(channel);
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Warm start from a snapshot file written by {@link #saveSnapshot(Path)}
+     */
+    public void loadSnapshot(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            restoreSnapshot(channel);
+        }
+    }
+
+    void restoreState(int processId, PredictionState state) {
+        states().put(processId, state);
+    }
+
+    /**
+     * Encodes the per-id records into a detached buffer, so a striped
+     * predictor can hold a stripe lock only while copying.
+     */
+    PredictorSnapshot.Writer encodeStates() throws IOException {
+        PredictorSnapshot.Writer encoded = new PredictorSnapshot.Writer(null);
+        encoded.writeBlock(states());
+        return encoded;
+    }
+
+    WorkloadClassTable classTable() {
+        return classPredictions;
+    }
+    
+    RecentBursts recentBursts() {
+        return recentBursts;
+    }
+    
+    ScoreWeightTable scoreWeightTable() {
+        return scoreWeights;
+    }
+
+    /**
+     * Learned state of a single process id. History is a fixed-size ring
+     * buffer so a long-lived id never grows.
+     */
+    static final class PredictionState {
+        double prediction;
+        double alpha;
+        double variance;
+        int workloadClass = -1;
+        final int[] history = new int[HISTORY_SIZE];
+        int historyStart;
+        int historySize;
+
+        void record(int burstTime) {
+            if (historySize < HISTORY_SIZE) {
+                history[(historyStart + historySize) % HISTORY_SIZE] = burstTime;
+                historySize++;
+            } else {
+                history[historyStart] = burstTime;
+                historyStart = (historyStart + 1) % HISTORY_SIZE;
+            }
+        }
+
+        /** i-th entry, oldest first */
+        int historyAt(int i) {
+            return history[(historyStart + i) % HISTORY_SIZE];
+        }
+
+        double historyAverage(int from, int to) {
+            if (to <= from) return 0.0;
+            long sum = 0;
+            for (int i = from; i < to; i++) {
+                sum += historyAt(i);
+            }
+            return (double) sum / (to - from);
+        }
     }
 }
 
@@ -0,0 +1,21 @@
+package com.example.os.ai;
+
+import com.example.os.model.Process;
+import java.util.List;
+
+/**
+ * Pluggable burst time predictor backend used by {@link AIPredictor} for
+ * processes it has no per-id history for.
+ */
+public interface BurstTimeModel {
+    /**
+     * Predicts burst times for a whole workload in one batched pass. The
+     * burst times in {@code processes} are what is being predicted and
+     * must not be read.
+     *
+     * @param recentBurstMean mean burst of the executions the predictor saw
+     *                        complete last, NaN if none yet
+     * @return predictions where index i belongs to {@code processes.get(i)}
+     */
+    int[] predictBurstTimes(List<Process> processes, double recentBurstMean);
+}
@@ -0,0 +1,151 @@
+package com.example.os.ai;
+
+import com.example.os.model.Process;
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Thread-safe {@link AIPredictor} for schedulers running on many threads.
+ *
+ * Process ids are hashed onto independent stripes, each an ordinary
+ * predictor guarded by its own monitor, so threads touching different ids
+ * rarely contend and there is no global lock. The workload class fallback
+ * table is shared by all stripes and updated lock-free.
+ *
+ * Per-id state lives only in the stripes; this predictor has no table of its
+ * own, so every per-id method is overridden to route to a stripe.
+ */
+public class ConcurrentAIPredictor extends AIPredictor {
+    private final AIPredictor[] stripes;
+    private final int stripeMask;
+
+    public ConcurrentAIPredictor() {
+        this(DEFAULT_MAX_TRACKED_IDS, defaultStripeCount());
+    }
+
+    public ConcurrentAIPredictor(int maxTrackedIds, int stripeCount) {
+        super(maxTrackedIds, new WorkloadClassTable(WORKLOAD_CLASSES), new RecentBursts(), false);
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("stripeCount must be positive");
+        }
+        // Round up to a power of two so the stripe index is a mask
+        int count = stripeCount == 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+
+        // Stripes share one class table and recent bursts with this predictor
+        WorkloadClassTable classPredictions = classTable();
+        int perStripe = Math.max(1, (maxTrackedIds + count - 1) / count);
+        stripes = new AIPredictor[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new AIPredictor(perStripe, classPredictions, recentBursts());
+        }
+        stripeMask = count - 1;
+    }
+
+    private static int defaultStripeCount() {
+        return Runtime.getRuntime().availableProcessors() * 4;
+    }
+
+    private AIPredictor stripeFor(int processId) {
+        // Fibonacci hashing spreads sequential ids across stripes
+        int h = processId * 0x9E3779B9;
+        return stripes[(h ^ (h >>> 16)) & stripeMask];
+    }
+
+    @Override
+    public void updatePrediction(int processId, int actualBurstTime) {
+        AIPredictor stripe = stripeFor(processId);
+        synchronized (stripe) {
+            stripe.updatePrediction(processId, actualBurstTime);
+        }
+    }
+
+    @Override
+    public void updatePrediction(int processId, int priority, int actualBurstTime) {
+        AIPredictor stripe = stripeFor(processId);
+        synchronized (stripe) {
+            stripe.updatePrediction(processId, priority, actualBurstTime);
+        }
+    }
+
+    @Override
+    public int getPredictedBurstTime(Process process) {
+        // Reads take the stripe monitor too: LRU lookups reorder the map
+        AIPredictor stripe = stripeFor(process.id);
+        synchronized (stripe) {
+            return stripe.getPredictedBurstTime(process);
+        }
+    }
+
+    @Override
+    public boolean isTracked(int processId) {
+        AIPredictor stripe = stripeFor(processId);
+        synchronized (stripe) {
+            return stripe.isTracked(processId);
+        }
+    }
+
+    @Override
+    public double getCurrentPrediction(int processId) {
+        AIPredictor stripe = stripeFor(processId);
+        synchronized (stripe) {
+            return stripe.getCurrentPrediction(processId);
+        }
+    }
+
+    @Override
+    public void reset() {
+        for (AIPredictor stripe : stripes) {
+            synchronized (stripe) {
+                stripe.reset();
+            }
+        }
+        scoreWeightTable().clear();
+    }
+
+    @Override
+    public int getTrackedIdCount() {
+        int count = 0;
+        for (AIPredictor stripe : stripes) {
+            synchronized (stripe) {
+                count += stripe.getTrackedIdCount();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Snapshots one stripe at a time: each stripe is locked only while its
+     * records are copied into a buffer, so updates on other stripes keep
+     * running during a background checkpoint.
+     */
+    @Override
+    public void writeSnapshot(WritableByteChannel channel) throws IOException {
+        PredictorSnapshot.Writer writer = new PredictorSnapshot.Writer(channel);
+        writer.writeHeader(classTable(), scoreWeightTable());
+        for (AIPredictor stripe : stripes) {
+            PredictorSnapshot.Writer encoded;
+            synchronized (stripe) {
+                encoded = stripe.encodeStates();
+            }
+            writer.append(encoded);
+        }
+        writer.writeEnd();
+        writer.flush();
+    }
+
+    @Override
+    public void restoreSnapshot(ReadableByteChannel channel) throws IOException {
+        reset();
+        PredictorSnapshot.read(channel, classTable(), scoreWeightTable(), (processId, state) -> {
+            AIPredictor stripe = stripeFor(processId);
+            synchronized (stripe) {
+                stripe.restoreState(processId, state);
+            }
+        });
+    }
+
+    public int getStripeCount() {
+        return stripes.length;
+    }
+}
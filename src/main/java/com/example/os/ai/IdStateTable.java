@@ -0,0 +1,212 @@
+package com.example.os.ai;
+
+import com.example.os.ai.AIPredictor.PredictionState;
+import java.util.Arrays;
+
+/**
+ * Bounded map from process id to prediction state that evicts the least
+ * recently used id, like an access-ordered LinkedHashMap but on primitive
+ * arrays, so lookups never box the id and a warmed-up table never
+ * allocates.
+ *
+ * Entries live in dense arrays linked in access order (eldest first); an
+ * open-addressing index with linear probing maps ids to entries.
+ */
+final class IdStateTable {
+    private static final int NONE = -1;
+
+    private final int maxSize;
+    private int size;
+
+    // Entries
+    private int[] keys = new int[0];
+    private PredictionState[] values = new PredictionState[0];
+    private int[] older = new int[0];
+    private int[] newer = new int[0];
+    private int eldest = NONE;
+    private int newest = NONE;
+    private int freeList = NONE; // chained through newer
+
+    // Index: entry + 1 per slot, 0 for empty
+    private int[] index = new int[0];
+    private int indexMask;
+
+    IdStateTable(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** State of {@code id}, which becomes the most recently used; null if absent */
+    PredictionState get(int id) {
+        int entry = find(id);
+        if (entry == NONE) return null;
+        moveToNewest(entry);
+        return values[entry];
+    }
+
+    /** Like {@link #get(int)} but leaves the access order alone */
+    boolean containsKey(int id) {
+        return find(id) != NONE;
+    }
+
+    /**
+     * Maps {@code id} to {@code state} as the most recently used id,
+     * evicting the least recently used one if the table is over its limit
+     */
+    void put(int id, PredictionState state) {
+        int entry = find(id);
+        if (entry != NONE) {
+            values[entry] = state;
+            moveToNewest(entry);
+            return;
+        }
+        if (freeList == NONE) {
+            grow();
+        }
+        entry = freeList;
+        freeList = newer[entry];
+        keys[entry] = id;
+        values[entry] = state;
+        linkNewest(entry);
+        insertIndex(id, entry);
+        size++;
+        if (size > maxSize) {
+            remove(eldest);
+        }
+    }
+
+    void clear() {
+        Arrays.fill(values, null);
+        Arrays.fill(index, 0);
+        size = 0;
+        eldest = NONE;
+        newest = NONE;
+        freeList = NONE;
+        for (int entry = keys.length - 1; entry >= 0; entry--) {
+            newer[entry] = freeList;
+            freeList = entry;
+        }
+    }
+
+    // Iteration from the least to the most recently used id:
+    // for (int e = eldestEntry(); e >= 0; e = newerEntry(e)) ... keyAt(e), valueAt(e)
+
+    int eldestEntry() {
+        return eldest;
+    }
+
+    /** Next more recently used entry, or -1 after the newest */
+    int newerEntry(int entry) {
+        return newer[entry];
+    }
+
+    int keyAt(int entry) {
+        return keys[entry];
+    }
+
+    PredictionState valueAt(int entry) {
+        return values[entry];
+    }
+
+    private int find(int id) {
+        if (size == 0) return NONE;
+        for (int slot = slotOf(id); ; slot = (slot + 1) & indexMask) {
+            int entry = index[slot] - 1;
+            if (entry == NONE) return NONE;
+            if (keys[entry] == id) return entry;
+        }
+    }
+
+    private int slotOf(int id) {
+        int h = id * 0x9E3779B9; // Fibonacci hashing spreads sequential ids
+        return (h ^ (h >>> 16)) & indexMask;
+    }
+
+    private void insertIndex(int id, int entry) {
+        int slot = slotOf(id);
+        while (index[slot] != 0) {
+            slot = (slot + 1) & indexMask;
+        }
+        index[slot] = entry + 1;
+    }
+
+    private void remove(int entry) {
+        // Backward-shift deletion keeps every probe sequence unbroken
+        int slot = slotOf(keys[entry]);
+        while (index[slot] - 1 != entry) {
+            slot = (slot + 1) & indexMask;
+        }
+        int hole = slot;
+        for (slot = (hole + 1) & indexMask; index[slot] != 0; slot = (slot + 1) & indexMask) {
+            int home = slotOf(keys[index[slot] - 1]);
+            // Move the entry back if the hole lies between its home slot and its slot
+            if (((slot - home) & indexMask) >= ((slot - hole) & indexMask)) {
+                index[hole] = index[slot];
+                hole = slot;
+            }
+        }
+        index[hole] = 0;
+
+        unlink(entry);
+        values[entry] = null;
+        newer[entry] = freeList;
+        freeList = entry;
+        size--;
+    }
+
+    private void moveToNewest(int entry) {
+        if (entry == newest) return;
+        unlink(entry);
+        linkNewest(entry);
+    }
+
+    private void linkNewest(int entry) {
+        older[entry] = newest;
+        newer[entry] = NONE;
+        if (newest == NONE) {
+            eldest = entry;
+        } else {
+            newer[newest] = entry;
+        }
+        newest = entry;
+    }
+
+    private void unlink(int entry) {
+        int before = older[entry];
+        int after = newer[entry];
+        if (before == NONE) {
+            eldest = after;
+        } else {
+            newer[before] = after;
+        }
+        if (after == NONE) {
+            newest = before;
+        } else {
+            older[after] = before;
+        }
+    }
+
+    /** Doubles the entry arrays (up to one past the limit) and rebuilds the index */
+    private void grow() {
+        int oldCapacity = keys.length;
+        int capacity = (int) Math.min((long) maxSize + 1, Math.max(16, oldCapacity * 2L));
+        keys = Arrays.copyOf(keys, capacity);
+        values = Arrays.copyOf(values, capacity);
+        older = Arrays.copyOf(older, capacity);
+        newer = Arrays.copyOf(newer, capacity);
+        for (int entry = capacity - 1; entry >= oldCapacity; entry--) {
+            newer[entry] = freeList;
+            freeList = entry;
+        }
+
+        // Keep the index at most half full
+        index = new int[Integer.highestOneBit(capacity) << 2];
+        indexMask = index.length - 1;
+        for (int entry = eldest; entry != NONE; entry = newer[entry]) {
+            insertIndex(keys[entry], entry);
+        }
+    }
+}
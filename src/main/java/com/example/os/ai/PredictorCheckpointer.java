@@ -0,0 +1,86 @@
+package com.example.os.ai;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically checkpoints a {@link ConcurrentAIPredictor} to disk on a
+ * background thread, so a restart can warm start instead of running cold.
+ * Updates are never paused as a whole; see
+ * {@link ConcurrentAIPredictor#writeSnapshot}.
+ */
+public class PredictorCheckpointer implements AutoCloseable {
+    private final ConcurrentAIPredictor predictor;
+    private final Path path;
+    private final ScheduledExecutorService executor;
+    private volatile IOException lastError;
+
+    public PredictorCheckpointer(ConcurrentAIPredictor predictor, Path path, Duration period) {
+        // Checked before the executor exists, so a bad period leaks no thread
+        if (period == null || period.toMillis() < 1) {
+            throw new IllegalArgumentException("Checkpoint period must be at least 1 ms: " + period);
+        }
+        this.predictor = predictor;
+        this.path = path;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "predictor-checkpoint");
+            t.setDaemon(true);
+            return t;
+        });
+        long millis = period.toMillis();
+        executor.scheduleWithFixedDelay(this::checkpointQuietly, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Restores {@code predictor} from {@code path} if a checkpoint exists
+     *
+     * @return true if state was restored
+     */
+    public static boolean warmStart(AIPredictor predictor, Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return false;
+        }
+        predictor.loadSnapshot(path);
+        return true;
+    }
+
+    public void checkpoint() throws IOException {
+        predictor.saveSnapshot(path);
+    }
+
+    private void checkpointQuietly() {
+        try {
+            checkpoint();
+            lastError = null;
+        } catch (IOException e) {
+            // Keep the schedule alive; the next period retries
+            lastError = e;
+        }
+    }
+
+    /**
+     * Error of the most recent background checkpoint, or null if it succeeded
+     */
+    public IOException getLastError() {
+        return lastError;
+    }
+
+    /**
+     * Stops the background schedule and writes a final checkpoint
+     */
+    @Override
+    public void close() throws IOException {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        checkpoint();
+    }
+}
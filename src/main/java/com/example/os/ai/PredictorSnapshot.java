@@ -0,0 +1,238 @@
+package com.example.os.ai;
+
+import com.example.os.ai.AIPredictor.PredictionState;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Binary snapshot format for {@link AIPredictor} state.
+ *
+ * Layout: magic, version, class table (count + doubles), score weight
+ * table (count + per class five parameters, cost and trials; since version
+ * 2), then blocks of per-id records (count + records), ended by a count
+ * of 0 and the end of the input. Since version 3 blocks are never empty, so
+ * bytes after the 0 are an error; older writers also wrote empty blocks.
+ * A record is id, prediction, alpha, variance, workload class, history size
+ * and the history values oldest first. Records are written in LRU order so
+ * a restore rebuilds the same eviction order.
+ */
+final class PredictorSnapshot {
+    static final int MAGIC = 0x41495053; // "AIPS"
+    static final int VERSION = 3;
+    private static final int WEIGHT_RECORD_BYTES = (ScoreWeights.PARAMETERS + 1) * 8 + 4;
+    static final int MAX_RECORD_BYTES = 4 + 3 * 8 + 2 + 4 * AIPredictor.HISTORY_SIZE;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private PredictorSnapshot() {}
+
+    /**
+     * Accumulates encoded bytes and flushes them to the channel when the
+     * buffer fills up. Without a channel the buffer grows instead, which
+     * lets a caller encode under a lock and write afterwards.
+     */
+    static final class Writer {
+        private final WritableByteChannel channel;
+        private ByteBuffer buffer;
+
+        Writer(WritableByteChannel channel) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) return;
+            if (channel != null) {
+                flush();
+            } else {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+                buffer.flip();
+                larger.put(buffer);
+                buffer = larger;
+            }
+        }
+
+        void writeHeader(WorkloadClassTable classPredictions, ScoreWeightTable scoreWeights) throws IOException {
+            ensure(12 + 8 * classPredictions.size());
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(classPredictions.size());
+            for (int i = 0; i < classPredictions.size(); i++) {
+                buffer.putDouble(classPredictions.get(i));
+            }
+            ensure(4 + WEIGHT_RECORD_BYTES * scoreWeights.size());
+            buffer.putInt(scoreWeights.size());
+            for (int i = 0; i < scoreWeights.size(); i++) {
+                ScoreWeights weights = scoreWeights.get(i);
+                for (int parameter = 0; parameter < ScoreWeights.PARAMETERS; parameter++) {
+                    buffer.putDouble(weights.get(parameter));
+                }
+                buffer.putDouble(weights.cost).putInt(weights.trials);
+            }
+        }
+
+        void writeBlock(IdStateTable states) throws IOException {
+            if (states.size() == 0) {
+                return; // a count of 0 ends the snapshot
+            }
+            ensure(4);
+            buffer.putInt(states.size());
+            for (int entry = states.eldestEntry(); entry >= 0; entry = states.newerEntry(entry)) {
+                PredictionState state = states.valueAt(entry);
+                ensure(MAX_RECORD_BYTES);
+                buffer.putInt(states.keyAt(entry))
+                      .putDouble(state.prediction)
+                      .putDouble(state.alpha)
+                      .putDouble(state.variance)
+                      .put((byte) state.workloadClass)
+                      .put((byte) state.historySize);
+                for (int i = 0; i < state.historySize; i++) {
+                    buffer.putInt(state.historyAt(i));
+                }
+            }
+        }
+
+        void writeEnd() throws IOException {
+            ensure(4);
+            buffer.putInt(0);
+        }
+
+        /** Appends everything encoded by another (channel-less) writer */
+        void append(Writer encoded) throws IOException {
+            flush();
+            ByteBuffer bytes = encoded.buffer.flip();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Sink for decoded records, so a striped predictor can route each id
+     * to its stripe.
+     */
+    interface StateSink {
+        void restore(int processId, PredictionState state);
+    }
+
+    /**
+     * Decodes a snapshot; version 1 snapshots leave the score weights alone
+     */
+    static void read(ReadableByteChannel channel, WorkloadClassTable classPredictions,
+                     ScoreWeightTable scoreWeights, StateSink sink) throws IOException {
+        Reader in = new Reader(channel);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not an AIPredictor snapshot");
+        }
+        int version = in.readInt();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported snapshot version " + version);
+        }
+        int classes = in.readInt();
+        if (classes != classPredictions.size()) {
+            throw new IOException("Snapshot has " + classes + " workload classes, expected "
+                + classPredictions.size());
+        }
+        in.ensure(8 * classes);
+        for (int i = 0; i < classes; i++) {
+            classPredictions.set(i, in.buffer.getDouble());
+        }
+        if (version >= 2) {
+            int weightClasses = in.readInt();
+            if (weightClasses != scoreWeights.size()) {
+                throw new IOException("Snapshot has score weights for " + weightClasses + " classes, expected "
+                    + scoreWeights.size());
+            }
+            in.ensure(WEIGHT_RECORD_BYTES * weightClasses);
+            for (int i = 0; i < weightClasses; i++) {
+                double[] parameters = new double[ScoreWeights.PARAMETERS];
+                for (int parameter = 0; parameter < parameters.length; parameter++) {
+                    parameters[parameter] = in.buffer.getDouble();
+                }
+                double cost = in.buffer.getDouble();
+                int trials = in.buffer.getInt();
+                scoreWeights.set(i, new ScoreWeights(parameters[0], parameters[1], parameters[2], parameters[3],
+                                                     parameters[4], cost, trials));
+            }
+        }
+
+        while (true) {
+            int count = in.readInt();
+            if (count < 0) {
+                throw new IOException("Corrupt snapshot block of " + count + " records");
+            }
+            if (count == 0) {
+                if (in.atEnd()) {
+                    break;
+                }
+                if (version >= 3) {
+                    throw new IOException("Trailing bytes after AIPredictor snapshot");
+                }
+                continue; // an empty block of an older writer
+            }
+            for (int r = 0; r < count; r++) {
+                in.ensure(4 + 3 * 8 + 2);
+                int processId = in.buffer.getInt();
+                PredictionState state = new PredictionState();
+                state.prediction = in.buffer.getDouble();
+                state.alpha = in.buffer.getDouble();
+                state.variance = in.buffer.getDouble();
+                state.workloadClass = in.buffer.get();
+                int historySize = in.buffer.get();
+                if (historySize < 0 || historySize > AIPredictor.HISTORY_SIZE) {
+                    throw new IOException("Corrupt snapshot record for process " + processId);
+                }
+                in.ensure(4 * historySize);
+                for (int i = 0; i < historySize; i++) {
+                    state.record(in.buffer.getInt());
+                }
+                sink.restore(processId, state);
+            }
+        }
+    }
+
+    private static final class Reader {
+        private final ReadableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).flip();
+
+        Reader(ReadableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        void ensure(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) return;
+            buffer.compact();
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("Truncated AIPredictor snapshot");
+                }
+            }
+            buffer.flip();
+        }
+
+        int readInt() throws IOException {
+            ensure(4);
+            return buffer.getInt();
+        }
+
+        /** Whether the input ends here */
+        boolean atEnd() throws IOException {
+            if (buffer.hasRemaining()) return false;
+            buffer.clear();
+            int read;
+            do {
+                read = channel.read(buffer);
+            } while (read == 0);
+            buffer.flip();
+            return read < 0;
+        }
+    }
+}
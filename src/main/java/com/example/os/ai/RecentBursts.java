@@ -0,0 +1,38 @@
+package com.example.os.ai;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bursts of the last few completed executions, whatever their id. Unlike
+ * the bursts of a workload about to run, these are known at dispatch, so a
+ * {@link BurstTimeModel} may use them as a feature. Lock-free, so one ring
+ * can be shared by every stripe of a {@link ConcurrentAIPredictor}; a mean
+ * taken during concurrent updates may mix old and new bursts.
+ */
+final class RecentBursts {
+    static final int SIZE = 3;
+
+    private final AtomicIntegerArray bursts = new AtomicIntegerArray(SIZE);
+    private final AtomicLong recorded = new AtomicLong();
+
+    void record(int burstTime) {
+        long index = recorded.getAndIncrement();
+        bursts.set((int) (index % SIZE), burstTime);
+    }
+
+    /** Mean of the last {@link #SIZE} bursts, or NaN before the first */
+    double mean() {
+        int count = (int) Math.min(SIZE, recorded.get());
+        if (count == 0) return Double.NaN;
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += bursts.get(i);
+        }
+        return sum / count;
+    }
+
+    void clear() {
+        recorded.set(0);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.os.ai;
+
+import com.example.os.model.ComparisonResult;
+import java.util.List;
+
+/**
+ * Outcome of {@link SchedulerRecommender#recommendFast}
+ */
+public class Recommendation {
+    public String algorithmName;
+    public double confidence;
+    // Full comparison results, or null if the feature model was confident enough
+    public List<ComparisonResult> comparison;
+
+    public Recommendation(String algorithmName, double confidence, List<ComparisonResult> comparison) {
+        this.algorithmName = algorithmName;
+        this.confidence = confidence;
+        this.comparison = comparison;
+    }
+
+    public boolean usedFullComparison() {
+        return comparison != null;
+    }
+}
@@ -1,9 +1,27 @@
 package com.example.os.ai;
 
 import com.example.os.model.ComparisonResult;
+import com.example.os.model.Process;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class SchedulerRecommender {
+    // Below this many training samples the feature model is never trusted
+    private static final int MIN_TRAINING_SAMPLES = 20;
+
+    // Nearest-centroid model over standardized workload features
+    private final Map<String, double[]> centroidSums = new LinkedHashMap<>();
+    private final Map<String, Integer> centroidCounts = new LinkedHashMap<>();
+    private final double[] featureMean = new double[WorkloadFeatures.DIMENSIONS];
+    private final double[] featureM2 = new double[WorkloadFeatures.DIMENSIONS];
+    private int samples;
+    private double minConfidence = 0.3;
+
     public String recommendBest(List<ComparisonResult> results) {
         if (results.isEmpty()) return "None";
         
@@ -29,6 +47,124 @@ public class SchedulerRecommender {
         
         return best;
     }
-}
 
+    /**
+     * Recommends an algorithm from workload features alone (one linear scan).
+     * Falls back to running {@code fullComparison} when the model is
+     * untrained, has seen only one winning algorithm, or its confidence is
+     * below {@link #getMinConfidence()}; the outcome of a fallback is learned for next time.
+     */
+    public Recommendation recommendFast(List<Process> processes, Supplier<List<ComparisonResult>> fullComparison) {
+        double[] features = WorkloadFeatures.of(processes).toVector();
+
+        String bestName = null;
+        double bestDistance = Double.POSITIVE_INFINITY;
+        double secondDistance = Double.POSITIVE_INFINITY;
+        for (Map.Entry<String, double[]> entry : centroidSums.entrySet()) {
+            double distance = distance(features, entry.getValue(), centroidCounts.get(entry.getKey()));
+            if (distance < bestDistance) {
+                secondDistance = bestDistance;
+                bestDistance = distance;
+                bestName = entry.getKey();
+            } else if (distance < secondDistance) {
+                secondDistance = distance;
+            }
+        }
+
+        // Confidence: how much closer the nearest centroid is than the runner-up;
+        // with a single centroid nothing was ever told apart, so there is none
+        double confidence = 0.0;
+        if (bestName != null && !Double.isInfinite(secondDistance)) {
+            confidence = 1.0 - bestDistance / Math.max(1e-12, secondDistance);
+        }
+        if (bestName != null && samples >= MIN_TRAINING_SAMPLES && confidence >= minConfidence) {
+            return new Recommendation(bestName, confidence, null);
+        }
+
+        List<ComparisonResult> results = fullComparison.get();
+        ComparisonResult best = getBestResult(results);
+        if (best == null) {
+            return new Recommendation("None", 0.0, results);
+        }
+        train(features, best.algorithmName);
+        return new Recommendation(best.algorithmName, confidence, results);
+    }
+
+    /**
+     * Learns the winner of a completed comparison
+     */
+    public void train(List<Process> processes, List<ComparisonResult> results) {
+        ComparisonResult best = getBestResult(results);
+        if (best != null) {
+            train(WorkloadFeatures.of(processes).toVector(), best.algorithmName);
+        }
+    }
+
+    /**
+     * Trains on {@code count} random workloads; {@code comparison} runs all
+     * schedulers on a workload and returns their results.
+     */
+    public void trainMonteCarlo(int count, Random random, Function<List<Process>, List<ComparisonResult>> comparison) {
+        for (int s = 0; s < count; s++) {
+            List<Process> workload = randomWorkload(random);
+            train(workload, comparison.apply(workload));
+        }
+    }
+
+    /**
+     * Random workload of 5-50 processes, with bursty arrivals half the time;
+     * the same random state always yields the same workload
+     */
+    public static List<Process> randomWorkload(Random random) {
+        int n = 5 + random.nextInt(46);
+        int maxArrival = 1 + random.nextInt(n * 5);
+        int maxBurst = 2 + random.nextInt(30);
+        int maxPriority = 1 + random.nextInt(10);
+        // Occasionally cluster arrivals to produce bursty workloads
+        boolean bursty = random.nextBoolean();
+        List<Process> workload = new ArrayList<>(n);
+        for (int i = 1; i <= n; i++) {
+            int arrival = bursty && random.nextInt(3) > 0 ? random.nextInt(Math.max(1, maxArrival / 10)) : random.nextInt(maxArrival);
+            int burst = 1 + random.nextInt(maxBurst);
+            int priority = 1 + random.nextInt(maxPriority);
+            workload.add(new Process(i, arrival, burst, priority));
+        }
+        return workload;
+    }
 
+    private void train(double[] features, String algorithmName) {
+        samples++;
+        for (int i = 0; i < features.length; i++) {
+            double d = features[i] - featureMean[i];
+            featureMean[i] += d / samples;
+            featureM2[i] += d * (features[i] - featureMean[i]);
+        }
+        double[] sum = centroidSums.computeIfAbsent(algorithmName, k -> new double[WorkloadFeatures.DIMENSIONS]);
+        for (int i = 0; i < features.length; i++) {
+            sum[i] += features[i];
+        }
+        centroidCounts.merge(algorithmName, 1, Integer::sum);
+    }
+
+    private double distance(double[] features, double[] centroidSum, int count) {
+        double distance = 0.0;
+        for (int i = 0; i < features.length; i++) {
+            double std = samples > 1 ? Math.sqrt(featureM2[i] / samples) : 1.0;
+            double d = (features[i] - centroidSum[i] / count) / Math.max(1e-9, std);
+            distance += d * d;
+        }
+        return Math.sqrt(distance);
+    }
+
+    public double getMinConfidence() {
+        return minConfidence;
+    }
+
+    public void setMinConfidence(double minConfidence) {
+        this.minConfidence = minConfidence;
+    }
+
+    public int getTrainingSamples() {
+        return samples;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.os.ai;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Learned {@link ScoreWeights} per workload class, kept as the raw bits of
+ * their {@link ScoreWeights#copyInto} values so schedulers read and learn
+ * them without allocating. Each class has a version, odd while a writer
+ * holds it: readers retry until they see the same even version before and
+ * after copying, and writers take the class by compare-and-set on the
+ * version they read, so concurrent learners never undo each other's
+ * updates and no one locks.
+ */
+final class ScoreWeightTable {
+    private final AtomicLongArray versions;
+    private final AtomicLongArray values;
+
+    ScoreWeightTable(int classes) {
+        versions = new AtomicLongArray(classes);
+        values = new AtomicLongArray(classes * ScoreWeights.VALUES);
+        clear();
+    }
+
+    /**
+     * Copies the weights of a class into {@code out}
+     *
+     * @return their version, for compareAndSet
+     */
+    long read(int workloadClass, double[] out) {
+        int base = workloadClass * ScoreWeights.VALUES;
+        while (true) {
+            long version = versions.get(workloadClass);
+            if ((version & 1) == 0) {
+                for (int v = 0; v < ScoreWeights.VALUES; v++) {
+                    out[v] = Double.longBitsToDouble(values.get(base + v));
+                }
+                if (versions.get(workloadClass) == version) {
+                    return version;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Replaces the weights of a class with {@code learned} if they are still
+     * at {@code version}
+     */
+    boolean compareAndSet(int workloadClass, long version, double[] learned) {
+        if ((version & 1) != 0 || !versions.compareAndSet(workloadClass, version, version + 1)) {
+            return false;
+        }
+        int base = workloadClass * ScoreWeights.VALUES;
+        for (int v = 0; v < ScoreWeights.VALUES; v++) {
+            values.set(base + v, Double.doubleToRawLongBits(learned[v]));
+        }
+        versions.set(workloadClass, version + 2);
+        return true;
+    }
+
+    ScoreWeights get(int workloadClass) {
+        double[] out = new double[ScoreWeights.VALUES];
+        read(workloadClass, out);
+        return ScoreWeights.of(out);
+    }
+
+    void set(int workloadClass, ScoreWeights learned) {
+        double[] in = new double[ScoreWeights.VALUES];
+        learned.copyInto(in);
+        while (!compareAndSet(workloadClass, versions.get(workloadClass), in)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    int size() {
+        return versions.length();
+    }
+
+    void clear() {
+        for (int i = 0; i < size(); i++) {
+            set(i, ScoreWeights.DEFAULT);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.os.ai;
+
+/**
+ * Weights of the intelligent scheduler's score factors and its preemption
+ * threshold, as learned for one workload class, together with the cost
+ * they were last measured at and how many variations were tried so far.
+ * Immutable; the predictor keeps the same values as plain doubles, see
+ * {@link #copyInto} for their layout, so learning does not allocate.
+ */
+public final class ScoreWeights {
+    // Parameter indices, see get and with
+    public static final int PRIORITY = 0;
+    public static final int BURST = 1;
+    public static final int WAITING = 2;
+    public static final int URGENCY = 3;
+    public static final int PREEMPTION_THRESHOLD = 4;
+    public static final int PARAMETERS = 5;
+    // The parameters are followed by these in copyInto's values
+    public static final int COST = 5;
+    public static final int TRIALS = 6;
+    public static final int VALUES = 7;
+
+    /** The hand-tuned policy: what every class starts from */
+    public static final ScoreWeights DEFAULT = new ScoreWeights(0.25, 0.30, 0.25, 0.20, 1.2, Double.NaN, 0);
+
+    public final double priority;
+    public final double burst;
+    public final double waiting;
+    public final double urgency;
+    public final double preemptionThreshold; // preempt for a score this many times the running one
+    public final double cost;                // lower is better; NaN until measured
+    public final int trials;
+
+    public ScoreWeights(double priority, double burst, double waiting, double urgency,
+                        double preemptionThreshold, double cost, int trials) {
+        this.priority = priority;
+        this.burst = burst;
+        this.waiting = waiting;
+        this.urgency = urgency;
+        this.preemptionThreshold = preemptionThreshold;
+        this.cost = cost;
+        this.trials = trials;
+    }
+
+    public double get(int parameter) {
+        switch (parameter) {
+            case PRIORITY: return priority;
+            case BURST: return burst;
+            case WAITING: return waiting;
+            case URGENCY: return urgency;
+            case PREEMPTION_THRESHOLD: return preemptionThreshold;
+            default: throw new IllegalArgumentException("Unknown parameter " + parameter);
+        }
+    }
+
+    /**
+     * Writes the parameters at their indices, then the cost and trial count
+     * at {@link #COST} and {@link #TRIALS}
+     *
+     * @param values at least {@link #VALUES} long
+     */
+    public void copyInto(double[] values) {
+        values[PRIORITY] = priority;
+        values[BURST] = burst;
+        values[WAITING] = waiting;
+        values[URGENCY] = urgency;
+        values[PREEMPTION_THRESHOLD] = preemptionThreshold;
+        values[COST] = cost;
+        values[TRIALS] = trials;
+    }
+
+    /** Weights from values laid out as by {@link #copyInto} */
+    public static ScoreWeights of(double[] values) {
+        return new ScoreWeights(values[PRIORITY], values[BURST], values[WAITING], values[URGENCY],
+                                values[PREEMPTION_THRESHOLD], values[COST], (int) values[TRIALS]);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("priority %.3f, burst %.3f, waiting %.3f, urgency %.3f, preempt at %.2fx (cost %.3f, %d trials)",
+                             priority, burst, waiting, urgency, preemptionThreshold, cost, trials);
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.os.ai;
+
+import com.example.os.model.Process;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import weka.classifiers.Classifier;
+import weka.classifiers.trees.REPTree;
+import weka.core.Attribute;
+import weka.core.BatchPredictor;
+import weka.core.DenseInstance;
+import weka.core.Instances;
+import weka.core.SerializationHelper;
+import weka.core.Utils;
+
+/**
+ * Burst time model trained offline with Weka on historical traces.
+ *
+ * Features per process, taken in arrival order: priority, gap since the
+ * previous arrival and the mean burst of the last few executions that had
+ * completed when it arrived. At prediction time that is the predictor's
+ * {@link RecentBursts}, since no process of the workload has run yet; its
+ * own burst times are never read. The whole workload is predicted in one
+ * batch.
+ */
+public class WekaBurstTimeModel implements BurstTimeModel {
+    private static final int RECENT_BURSTS = RecentBursts.SIZE;
+
+    private final Classifier classifier;
+    private final Instances header;
+
+    private WekaBurstTimeModel(Classifier classifier, Instances header) {
+        this.classifier = classifier;
+        this.header = header;
+    }
+
+    /**
+     * Trains a regression tree on completed traces (burstTime = actual burst),
+     * such as the processes of a schedule result
+     *
+     * @throws IllegalArgumentException if a process has not completed
+     */
+    public static WekaBurstTimeModel train(List<List<Process>> traces) {
+        return train(traces, new REPTree());
+    }
+
+    public static WekaBurstTimeModel train(List<List<Process>> traces, Classifier classifier) {
+        int rows = 0;
+        for (List<Process> trace : traces) {
+            rows += trace.size();
+        }
+        Instances data = emptyDataset(rows);
+        for (List<Process> trace : traces) {
+            for (Process p : trace) {
+                if (p.completionTime < p.arrivalTime + p.burstTime) {
+                    throw new IllegalArgumentException("Process " + p.id + " has not completed");
+                }
+            }
+            addRows(data, trace, Double.NaN, true);
+        }
+        if (data.isEmpty()) {
+            throw new IllegalArgumentException("No training data");
+        }
+        try {
+            classifier.buildClassifier(data);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to train burst time model", e);
+        }
+        return new WekaBurstTimeModel(classifier, new Instances(data, 0));
+    }
+
+    public void save(String path) throws Exception {
+        SerializationHelper.writeAll(path, new Object[] {classifier, header});
+    }
+
+    public static WekaBurstTimeModel load(String path) throws Exception {
+        Object[] objects = SerializationHelper.readAll(path);
+        return new WekaBurstTimeModel((Classifier) objects[0], (Instances) objects[1]);
+    }
+
+    @Override
+    public int[] predictBurstTimes(List<Process> processes, double recentBurstMean) {
+        int[] predictions = new int[processes.size()];
+        if (processes.isEmpty()) return predictions;
+
+        Instances data = new Instances(header, processes.size());
+        int[] order = addRows(data, processes, recentBurstMean, false);
+
+        try {
+            if (classifier instanceof BatchPredictor batch && batch.implementsMoreEfficientBatchPrediction()) {
+                double[][] distributions = batch.distributionsForInstances(data);
+                for (int row = 0; row < order.length; row++) {
+                    predictions[order[row]] = toBurstTime(distributions[row][0]);
+                }
+            } else {
+                for (int row = 0; row < order.length; row++) {
+                    predictions[order[row]] = toBurstTime(classifier.classifyInstance(data.instance(row)));
+                }
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Burst time model failed", e);
+        }
+        return predictions;
+    }
+
+    private static int toBurstTime(double value) {
+        if (Double.isNaN(value)) return 1;
+        return (int) Math.max(1, Math.round(value));
+    }
+
+    private static Instances emptyDataset(int capacity) {
+        ArrayList<Attribute> attributes = new ArrayList<>();
+        attributes.add(new Attribute("priority"));
+        attributes.add(new Attribute("arrivalGap"));
+        attributes.add(new Attribute("recentBurstMean"));
+        attributes.add(new Attribute("burstTime"));
+        Instances data = new Instances("burst-times", attributes, capacity);
+        data.setClassIndex(attributes.size() - 1);
+        return data;
+    }
+
+    /**
+     * Appends one row per process in arrival order. Training rows take the
+     * recent burst mean from the trace's completions before each arrival;
+     * prediction rows all take {@code recentBurstMean}.
+     *
+     * @return original list index of each appended row
+     */
+    private static int[] addRows(Instances data, List<Process> processes, double recentBurstMean,
+                                 boolean withTarget) {
+        Integer[] order = new Integer[processes.size()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Integer[] completions = order.clone();
+        Arrays.sort(order, Comparator.comparingInt(i -> processes.get(i).arrivalTime));
+        Arrays.sort(completions, Comparator.comparingInt(i -> processes.get(i).completionTime));
+
+        int[] rows = new int[order.length];
+        int[] recent = new int[RECENT_BURSTS];
+        int recentCount = 0;
+        int completed = 0;
+        int previousArrival = 0;
+        for (int row = 0; row < order.length; row++) {
+            Process p = processes.get(order[row]);
+            double[] values = new double[4];
+            values[0] = p.priority;
+            values[1] = row == 0 ? Utils.missingValue() : p.arrivalTime - previousArrival;
+            if (withTarget) {
+                while (completed < completions.length
+                        && processes.get(completions[completed]).completionTime <= p.arrivalTime) {
+                    recent[recentCount % RECENT_BURSTS] = processes.get(completions[completed]).burstTime;
+                    recentCount++;
+                    completed++;
+                }
+                values[2] = recentCount == 0 ? Utils.missingValue() : mean(recent, Math.min(recentCount, RECENT_BURSTS));
+                values[3] = p.burstTime;
+            } else {
+                values[2] = Double.isNaN(recentBurstMean) ? Utils.missingValue() : recentBurstMean;
+                values[3] = Utils.missingValue();
+            }
+            data.add(new DenseInstance(1.0, values));
+
+            previousArrival = p.arrivalTime;
+            rows[row] = order[row];
+        }
+        return rows;
+    }
+
+    private static double mean(int[] values, int count) {
+        double sum = 0;
+        for (int i = 0; i < count; i++) sum += values[i];
+        return sum / count;
+    }
+}
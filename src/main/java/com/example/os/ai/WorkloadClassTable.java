@@ -0,0 +1,54 @@
+package com.example.os.ai;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Exponentially averaged burst time per workload class. Updates are
+ * lock-free (CAS on the raw double bits) so one table can be shared by
+ * every stripe of a {@link ConcurrentAIPredictor}.
+ */
+class WorkloadClassTable {
+    private static final double CLASS_ALPHA = 0.3;
+    private static final long EMPTY = Double.doubleToRawLongBits(Double.NaN);
+
+    private final AtomicLongArray predictions;
+
+    WorkloadClassTable(int classes) {
+        predictions = new AtomicLongArray(classes);
+        clear();
+    }
+
+    /**
+     * Returns the learned prediction, or NaN if nothing was learned yet
+     */
+    double get(int workloadClass) {
+        return Double.longBitsToDouble(predictions.get(workloadClass));
+    }
+
+    void update(int workloadClass, int actualBurstTime) {
+        while (true) {
+            long bits = predictions.get(workloadClass);
+            double current = Double.longBitsToDouble(bits);
+            double next = Double.isNaN(current)
+                ? actualBurstTime
+                : CLASS_ALPHA * actualBurstTime + (1 - CLASS_ALPHA) * current;
+            if (predictions.compareAndSet(workloadClass, bits, Double.doubleToRawLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    void set(int workloadClass, double prediction) {
+        predictions.set(workloadClass, Double.doubleToRawLongBits(prediction));
+    }
+
+    int size() {
+        return predictions.length();
+    }
+
+    void clear() {
+        for (int i = 0; i < predictions.length(); i++) {
+            predictions.set(i, EMPTY);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.os.ai;
+
+import com.example.os.model.Process;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Cheap workload statistics computed in a single pass over a process list,
+ * used to predict the best scheduler without simulating all of them.
+ */
+public class WorkloadFeatures {
+    public static final int DIMENSIONS = 5;
+
+    public int processCount;
+    public double burstMean;
+    public double burstCv;            // coefficient of variation of burst times
+    public double arrivalBurstiness;  // coefficient of variation of inter-arrival gaps
+    public double prioritySpread;     // standard deviation of priorities
+    public double load;               // total burst / arrival span
+
+    public static WorkloadFeatures of(List<Process> processes) {
+        WorkloadFeatures f = new WorkloadFeatures();
+        int n = processes.size();
+        f.processCount = n;
+        if (n == 0) return f;
+
+        // Welford running moments for burst and priority; arrivals are only
+        // sorted (and copied) if the input is not already in arrival order
+        double burstMean = 0, burstM2 = 0, prioMean = 0, prioM2 = 0;
+        long totalBurst = 0;
+        boolean sorted = true;
+        int previousArrival = Integer.MIN_VALUE;
+        double gapMean = 0, gapM2 = 0;
+        int gaps = 0;
+        int minArrival = Integer.MAX_VALUE, maxArrival = Integer.MIN_VALUE;
+
+        for (int i = 0; i < n; i++) {
+            Process p = processes.get(i);
+            double d = p.burstTime - burstMean;
+            burstMean += d / (i + 1);
+            burstM2 += d * (p.burstTime - burstMean);
+            d = p.priority - prioMean;
+            prioMean += d / (i + 1);
+            prioM2 += d * (p.priority - prioMean);
+            totalBurst += p.burstTime;
+            minArrival = Math.min(minArrival, p.arrivalTime);
+            maxArrival = Math.max(maxArrival, p.arrivalTime);
+
+            if (sorted && p.arrivalTime < previousArrival) {
+                sorted = false;
+            }
+            if (sorted && i > 0) {
+                int gap = p.arrivalTime - previousArrival;
+                gaps++;
+                d = gap - gapMean;
+                gapMean += d / gaps;
+                gapM2 += d * (gap - gapMean);
+            }
+            previousArrival = p.arrivalTime;
+        }
+
+        if (!sorted) {
+            int[] arrivals = new int[n];
+            for (int i = 0; i < n; i++) arrivals[i] = processes.get(i).arrivalTime;
+            Arrays.sort(arrivals);
+            gapMean = 0;
+            gapM2 = 0;
+            gaps = 0;
+            for (int i = 1; i < n; i++) {
+                int gap = arrivals[i] - arrivals[i - 1];
+                gaps++;
+                double d = gap - gapMean;
+                gapMean += d / gaps;
+                gapM2 += d * (gap - gapMean);
+            }
+        }
+
+        f.burstMean = burstMean;
+        f.burstCv = burstMean > 0 ? Math.sqrt(burstM2 / n) / burstMean : 0;
+        f.prioritySpread = Math.sqrt(prioM2 / n);
+        f.arrivalBurstiness = gaps > 0 && gapMean > 0 ? Math.sqrt(gapM2 / gaps) / gapMean : 0;
+        f.load = (double) totalBurst / Math.max(1, maxArrival - minArrival);
+        return f;
+    }
+
+    /**
+     * Feature vector used by {@link SchedulerRecommender}; magnitudes are
+     * log-compressed so no single feature dominates distances.
+     */
+    public double[] toVector() {
+        return new double[] {
+            Math.log1p(burstMean),
+            burstCv,
+            arrivalBurstiness,
+            prioritySpread,
+            Math.log1p(load)
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.os.model;
+
+import java.util.Arrays;
+
+/**
+ * Per-workload summary metrics of a batch run, stored in reusable primitive
+ * arrays so repeated batches do not allocate.
+ */
+public class BatchResult {
+    public double[] avgWaitingTimes = new double[0];
+    public double[] avgTurnaroundTimes = new double[0];
+    public int[] makespans = new int[0];
+    public int size;
+
+    /**
+     * Clears the result and makes room for {@code count} workloads
+     */
+    public void reset(int count) {
+        if (avgWaitingTimes.length < count) {
+            avgWaitingTimes = Arrays.copyOf(avgWaitingTimes, count);
+            avgTurnaroundTimes = Arrays.copyOf(avgTurnaroundTimes, count);
+            makespans = Arrays.copyOf(makespans, count);
+        }
+        size = 0;
+    }
+
+    public void add(double avgWaitingTime, double avgTurnaroundTime, int makespan) {
+        avgWaitingTimes[size] = avgWaitingTime;
+        avgTurnaroundTimes[size] = avgTurnaroundTime;
+        makespans[size] = makespan;
+        size++;
+    }
+}
@@ -7,16 +7,82 @@ public class ComparisonResult {
     public int totalTime;
     public double score;
     
+    // Tail latency and throughput (absent when built from a bare ScheduleResult)
+    public int p50WaitingTime;
+    public int p95WaitingTime;
+    public int p99WaitingTime;
+    public int maxWaitingTime;
+    public int p95TurnaroundTime;
+    public int p99TurnaroundTime;
+    public int p95ResponseTime;
+    public double throughput;
+    public double cpuUtilization;
+    public int contextSwitches;
+    public long overheadTime;
+    public double overheadFraction;
+    
+    // Distance from optimal, NaN until a bound is known: a lower bound on
+    // the average turnaround of any schedule of the workload, and how far
+    // above it this one lies (0.05 = 5%)
+    public double turnaroundLowerBound = Double.NaN;
+    public double optimalityGap = Double.NaN;
+    
     public ComparisonResult(String algorithmName, ScheduleResult result) {
         this.algorithmName = algorithmName;
         this.avgWaitingTime = result.avgWaitingTime;
         this.avgTurnaroundTime = result.avgTurnaroundTime;
         this.totalTime = result.ganttChart.isEmpty() ? 0 : 
                         result.ganttChart.get(result.ganttChart.size() - 1).endTime;
+        if (result.summary != null) {
+            setSummary(result.summary);
+        }
+        this.score = calculateScore();
+    }
+    
+    /**
+     * Builds a result from a summary-only run
+     */
+    public ComparisonResult(String algorithmName, MetricsSummary summary) {
+        this.algorithmName = algorithmName;
+        this.avgWaitingTime = summary.waiting.getMean();
+        this.avgTurnaroundTime = summary.turnaround.getMean();
+        this.totalTime = summary.makespan;
+        setSummary(summary);
         this.score = calculateScore();
     }
     
+    private void setSummary(MetricsSummary summary) {
+        p50WaitingTime = summary.waiting.percentile(50);
+        p95WaitingTime = summary.waiting.percentile(95);
+        p99WaitingTime = summary.waiting.percentile(99);
+        maxWaitingTime = summary.waiting.getMax();
+        p95TurnaroundTime = summary.turnaround.percentile(95);
+        p99TurnaroundTime = summary.turnaround.percentile(99);
+        p95ResponseTime = summary.response.percentile(95);
+        throughput = summary.getThroughput();
+        cpuUtilization = summary.getCpuUtilization();
+        contextSwitches = summary.contextSwitches;
+        overheadTime = summary.overheadTime;
+        overheadFraction = summary.getOverheadFraction();
+    }
+    
+    /**
+     * Sets the lower bound on the average turnaround of the workload, e.g.
+     * from {@code LowerBounds}, and derives the optimality gap from it
+     */
+    public void setTurnaroundLowerBound(double bound) {
+        turnaroundLowerBound = bound;
+        optimalityGap = bound > 0 ? (avgTurnaroundTime - bound) / bound : Double.NaN;
+    }
+    
     double calculateScore() {
+        return score(avgWaitingTime, avgTurnaroundTime);
+    }
+    
+    /**
+     * Score of a schedule with the given averages, as reported by {@link #getScore()}
+     */
+    public static double score(double avgWaitingTime, double avgTurnaroundTime) {
         // Score based on waiting time and turnaround time (lower is better)
         // Normalize to 0-1 range where higher score is better
         double w = 0.5; // weight for waiting time
@@ -32,5 +98,19 @@ public class ComparisonResult {
     public double getAvgWaitingTime() { return avgWaitingTime; }
     public double getAvgTurnaroundTime() { return avgTurnaroundTime; }
     public double getScore() { return score; }
+    public int getP50WaitingTime() { return p50WaitingTime; }
+    public int getP95WaitingTime() { return p95WaitingTime; }
+    public int getP99WaitingTime() { return p99WaitingTime; }
+    public int getMaxWaitingTime() { return maxWaitingTime; }
+    public int getP95TurnaroundTime() { return p95TurnaroundTime; }
+    public int getP99TurnaroundTime() { return p99TurnaroundTime; }
+    public int getP95ResponseTime() { return p95ResponseTime; }
+    public double getThroughput() { return throughput; }
+    public double getCpuUtilization() { return cpuUtilization; }
+    public int getContextSwitches() { return contextSwitches; }
+    public long getOverheadTime() { return overheadTime; }
+    public double getOverheadFraction() { return overheadFraction; }
+    public double getTurnaroundLowerBound() { return turnaroundLowerBound; }
+    public double getOptimalityGap() { return optimalityGap; }
 }
 
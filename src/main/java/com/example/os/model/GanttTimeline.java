@@ -0,0 +1,164 @@
+package com.example.os.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Time index over a Gantt chart for "what ran at t" and "what ran between
+ * t1 and t2" queries. Slices are kept sorted by start time next to a running
+ * maximum of end times, so lookups are binary searches and range queries
+ * cost O(log n + k) for a single CPU lane. Overlapping slices (several lanes)
+ * are still answered correctly.
+ */
+public class GanttTimeline {
+    private GanttEntry[] entries;
+    private int[] starts;
+    private int[] maxEnds;    // maxEnds[i] = max endTime of entries [0, i]
+    private long[] busyPrefix; // busyPrefix[i] = total duration of entries [0, i)
+    private int size;
+
+    public GanttTimeline(List<GanttEntry> ganttChart) {
+        GanttEntry[] sorted = ganttChart.toArray(new GanttEntry[0]);
+        boolean inOrder = true;
+        for (int i = 1; i < sorted.length && inOrder; i++) {
+            inOrder = sorted[i - 1].startTime <= sorted[i].startTime;
+        }
+        if (!inOrder) {
+            Arrays.sort(sorted, (a, b) -> Integer.compare(a.startTime, b.startTime));
+        }
+
+        int capacity = Math.max(16, sorted.length);
+        entries = new GanttEntry[capacity];
+        starts = new int[capacity];
+        maxEnds = new int[capacity];
+        busyPrefix = new long[capacity + 1];
+        for (GanttEntry entry : sorted) {
+            add(entry);
+        }
+    }
+
+    /**
+     * Appends a slice, e.g. while a schedule is being played back. Slices
+     * must be added in start time order.
+     */
+    public void add(GanttEntry entry) {
+        if (size > 0 && entry.startTime < starts[size - 1]) {
+            throw new IllegalArgumentException("Slices must be added in start time order");
+        }
+        if (size == entries.length) {
+            int capacity = entries.length * 2;
+            entries = Arrays.copyOf(entries, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            maxEnds = Arrays.copyOf(maxEnds, capacity);
+            busyPrefix = Arrays.copyOf(busyPrefix, capacity + 1);
+        }
+        entries[size] = entry;
+        starts[size] = entry.startTime;
+        maxEnds[size] = size == 0 ? entry.endTime : Math.max(maxEnds[size - 1], entry.endTime);
+        busyPrefix[size + 1] = busyPrefix[size] + (entry.endTime - entry.startTime);
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public GanttEntry get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return entries[index];
+    }
+
+    public int getEndTime() {
+        return size == 0 ? 0 : maxEnds[size - 1];
+    }
+
+    /**
+     * Slice running at time t, or null if the CPU is idle
+     */
+    public GanttEntry entryAt(double t) {
+        for (int i = firstStartingAfter(t) - 1; i >= 0 && maxEnds[i] > t; i--) {
+            if (entries[i].endTime > t) {
+                return entries[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Process running at time t, or -1 if the CPU is idle
+     */
+    public int processAt(double t) {
+        GanttEntry entry = entryAt(t);
+        return entry != null ? entry.processId : -1;
+    }
+
+    /**
+     * Slices overlapping [from, to), in start time order
+     */
+    public List<GanttEntry> query(double from, double to) {
+        List<GanttEntry> result = new ArrayList<>();
+        for (int i = firstStartingAtOrAfter(to) - 1; i >= 0 && maxEnds[i] > from; i--) {
+            if (entries[i].endTime > from) {
+                result.add(entries[i]);
+            }
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * Busy CPU time in [0, t); assumes a single lane (no overlapping slices)
+     */
+    public double busyTimeBefore(double t) {
+        int i = firstStartingAtOrAfter(t);
+        double busy = busyPrefix[i];
+        if (i > 0) {
+            busy -= Math.max(0, entries[i - 1].endTime - t);
+        }
+        return busy;
+    }
+
+    /**
+     * Index of the first slice with startTime >= t
+     */
+    public int firstStartingAtOrAfter(double t) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] < t) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * Index of the first slice with startTime > t
+     */
+    public int firstStartingAfter(double t) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] <= t) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * Index of the first slice that may overlap [t, ...): every slice before
+     * it ends at or before t
+     */
+    public int firstEndingAfter(double t) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (maxEnds[mid] <= t) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.os.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Constant-memory histogram of non-negative int latencies.
+ *
+ * Values below 32 get their own bucket; above that each power of two is
+ * split into 32 log-spaced sub-buckets, so a percentile is within about 3%
+ * of the exact value. Count, sum, min and max are exact.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = (31 - SUB_BITS + 1) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long sum;
+    private int min = Integer.MAX_VALUE;
+    private int max;
+
+    public void record(int value) {
+        value = Math.max(0, value);
+        counts[bucketOf(value)]++;
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    static int bucketOf(int value) {
+        if (value < SUB_BUCKETS) {
+            return value;
+        }
+        int exponent = 31 - Integer.numberOfLeadingZeros(value);
+        int sub = (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /** Largest value that falls into {@code bucket} */
+    static int bucketUpperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        int sub = bucket % SUB_BUCKETS;
+        long lower = ((long) (SUB_BUCKETS + sub)) << (exponent - SUB_BITS);
+        return (int) Math.min(Integer.MAX_VALUE, lower + (1L << (exponent - SUB_BITS)) - 1);
+    }
+
+    /**
+     * Value at the given percentile (0-100), reported as the upper bound of
+     * its bucket and never above the recorded maximum
+     */
+    public int percentile(double percentile) {
+        if (count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += counts[b];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(max, bucketUpperBound(b)));
+            }
+        }
+        return max;
+    }
+
+    public long getCount() { return count; }
+    public double getMean() { return count == 0 ? 0 : (double) sum / count; }
+    public int getMin() { return count == 0 ? 0 : min; }
+    public int getMax() { return max; }
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        sum = 0;
+        min = Integer.MAX_VALUE;
+        max = 0;
+    }
+
+    /** Makes this histogram an exact copy of {@code other} */
+    public void set(LatencyHistogram other) {
+        System.arraycopy(other.counts, 0, counts, 0, BUCKETS);
+        count = other.count;
+        sum = other.sum;
+        min = other.min;
+        max = other.max;
+    }
+
+    /** Adds every value recorded in {@code other} to this histogram */
+    public void add(LatencyHistogram other) {
+        for (int b = 0; b < BUCKETS; b++) {
+            counts[b] += other.counts[b];
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /** Writes the non-empty buckets and the exact statistics */
+    public void write(DataOutput out) throws IOException {
+        int used = 0;
+        for (long c : counts) {
+            if (c != 0) used++;
+        }
+        out.writeShort(used);
+        for (int b = 0; b < BUCKETS; b++) {
+            if (counts[b] != 0) {
+                out.writeShort(b);
+                out.writeLong(counts[b]);
+            }
+        }
+        out.writeLong(count);
+        out.writeLong(sum);
+        out.writeInt(min);
+        out.writeInt(max);
+    }
+
+    /** Replaces this histogram with one written by {@link #write(DataOutput)} */
+    public void read(DataInput in) throws IOException {
+        Arrays.fill(counts, 0);
+        int used = in.readUnsignedShort();
+        for (int i = 0; i < used; i++) {
+            int bucket = in.readUnsignedShort();
+            if (bucket >= BUCKETS) {
+                throw new IOException("Histogram bucket out of range: " + bucket);
+            }
+            counts[bucket] = in.readLong();
+        }
+        count = in.readLong();
+        sum = in.readLong();
+        min = in.readInt();
+        max = in.readInt();
+    }
+}
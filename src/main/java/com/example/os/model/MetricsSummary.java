@@ -0,0 +1,74 @@
+package com.example.os.model;
+
+/**
+ * Aggregate metrics of one schedule, accumulated in constant memory while
+ * the schedule runs, so it needs neither per-process results nor the Gantt
+ * chart.
+ */
+public class MetricsSummary {
+    public final LatencyHistogram waiting = new LatencyHistogram();
+    public final LatencyHistogram turnaround = new LatencyHistogram();
+    public final LatencyHistogram response = new LatencyHistogram(); // first dispatch - arrival
+    public int makespan;       // time the last process completed
+    public long busyTime;      // time the CPU ran a process
+    public int contextSwitches; // dispatches of a different process than the previous one
+    public long overheadTime;  // time spent switching and warming caches
+    public long ioTime;        // time processes spent queued for or in I/O
+
+    /**
+     * Records a completed process
+     */
+    public void recordCompletion(int waitingTime, int turnaroundTime, int responseTime) {
+        waiting.record(waitingTime);
+        turnaround.record(turnaroundTime);
+        response.record(responseTime);
+    }
+
+    public long getProcessCount() {
+        return turnaround.getCount();
+    }
+
+    /** Completed processes per time unit */
+    public double getThroughput() {
+        return makespan == 0 ? 0 : (double) getProcessCount() / makespan;
+    }
+
+    /** Fraction of the makespan the CPU was busy (0-1) */
+    public double getCpuUtilization() {
+        return makespan == 0 ? 0 : (double) busyTime / makespan;
+    }
+
+    /** Fraction of the makespan lost to context-switch overhead (0-1) */
+    public double getOverheadFraction() {
+        return makespan == 0 ? 0 : (double) overheadTime / makespan;
+    }
+
+    public void clear() {
+        waiting.clear();
+        turnaround.clear();
+        response.clear();
+        makespan = 0;
+        busyTime = 0;
+        contextSwitches = 0;
+        overheadTime = 0;
+        ioTime = 0;
+    }
+
+    public MetricsSummary copy() {
+        MetricsSummary copy = new MetricsSummary();
+        copy.set(this);
+        return copy;
+    }
+
+    /** Makes this summary an exact copy of {@code other} */
+    public void set(MetricsSummary other) {
+        waiting.set(other.waiting);
+        turnaround.set(other.turnaround);
+        response.set(other.response);
+        makespan = other.makespan;
+        busyTime = other.busyTime;
+        contextSwitches = other.contextSwitches;
+        overheadTime = other.overheadTime;
+        ioTime = other.ioTime;
+    }
+}
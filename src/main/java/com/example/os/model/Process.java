@@ -10,6 +10,10 @@ public class Process {
     public int completionTime;
     public int remainingTime;
     public int startTime;
+    // CPU and I/O bursts alternating, starting and ending with CPU; null for
+    // a purely CPU-bound process whose only burst is burstTime
+    public int[] bursts;
+    public int ioDevice; // device serving this process's I/O bursts
     
     public Process(int id, int arrivalTime, int burstTime, int priority) {
         this.id = id;
@@ -23,6 +27,50 @@ public class Process {
         this.startTime = -1;
     }
     
+    /**
+     * Process alternating CPU and I/O bursts; burstTime becomes the total
+     * CPU time
+     */
+    public Process(int id, int arrivalTime, int[] bursts, int priority, int ioDevice) {
+        this(id, arrivalTime, cpuTime(bursts), priority);
+        if (ioDevice < 0) {
+            throw new IllegalArgumentException("I/O device must not be negative: " + ioDevice);
+        }
+        this.bursts = bursts.length > 1 ? bursts.clone() : null;
+        this.ioDevice = ioDevice;
+    }
+    
+    private static int cpuTime(int[] bursts) {
+        if (bursts.length % 2 == 0) {
+            throw new IllegalArgumentException("Burst sequence must start and end with a CPU burst");
+        }
+        int total = 0;
+        for (int i = 0; i < bursts.length; i++) {
+            if (bursts[i] < 0) {
+                throw new IllegalArgumentException("Burst lengths must not be negative");
+            }
+            if (i % 2 == 0) {
+                try {
+                    total = Math.addExact(total, bursts[i]);
+                } catch (ArithmeticException e) {
+                    throw new IllegalArgumentException("Total CPU time exceeds " + Integer.MAX_VALUE);
+                }
+            }
+        }
+        return total;
+    }
+    
+    /** Total time spent in I/O bursts, excluding device queueing */
+    public int getIoTime() {
+        int total = 0;
+        if (bursts != null) {
+            for (int i = 1; i < bursts.length; i += 2) {
+                total += bursts[i];
+            }
+        }
+        return total;
+    }
+    
     public Process copy() {
         Process p = new Process(id, arrivalTime, burstTime, priority);
         p.waitingTime = waitingTime;
@@ -30,6 +78,8 @@ public class Process {
         p.completionTime = completionTime;
         p.remainingTime = remainingTime;
         p.startTime = startTime;
+        p.bursts = bursts;
+        p.ioDevice = ioDevice;
         return p;
     }
 }
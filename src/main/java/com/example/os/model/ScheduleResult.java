@@ -7,6 +7,8 @@ public class ScheduleResult {
     public List<GanttEntry> ganttChart;
     public double avgWaitingTime;
     public double avgTurnaroundTime;
+    public MetricsSummary summary; // null unless produced by a ScheduleRun
+    private GanttTimeline timeline;
     
     public ScheduleResult(List<Process> processes, List<GanttEntry> ganttChart, 
                          double avgWaitingTime, double avgTurnaroundTime) {
@@ -15,5 +17,26 @@ public class ScheduleResult {
         this.avgWaitingTime = avgWaitingTime;
         this.avgTurnaroundTime = avgTurnaroundTime;
     }
+    
+    /**
+     * Refills a reused result, dropping the cached timeline
+     */
+    public void set(List<Process> processes, List<GanttEntry> ganttChart,
+                    double avgWaitingTime, double avgTurnaroundTime) {
+        this.processes = processes;
+        this.ganttChart = ganttChart;
+        this.avgWaitingTime = avgWaitingTime;
+        this.avgTurnaroundTime = avgTurnaroundTime;
+        this.timeline = null;
+    }
+    
+    /**
+     * Time index over the Gantt chart, built on first use
+     */
+    public GanttTimeline timeline() {
+        if (timeline == null || timeline.size() != ganttChart.size()) {
+            timeline = new GanttTimeline(ganttChart);
+        }
+        return timeline;
+    }
 }
-
@@ -0,0 +1,47 @@
+package com.example.os.runtime;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A submitted task with its scheduling attributes
+ */
+final class Job<T> {
+    final int id;
+    final int priority;
+    final int expectedMillis;
+    final Callable<T> task;
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    final long submitNanos = System.nanoTime();
+
+    // Set by the dispatcher thread only
+    long sequence;
+    int predictedMillis;
+
+    // Set by the worker before the job is handed back to the dispatcher
+    int runMillis;
+
+    Job(int id, int priority, int expectedMillis, Callable<T> task) {
+        this.id = id;
+        this.priority = priority;
+        this.expectedMillis = expectedMillis;
+        this.task = task;
+    }
+
+    void run() {
+        long start = System.nanoTime();
+        try {
+            T result = task.call();
+            runMillis = elapsedMillis(start);
+            future.complete(result);
+        } catch (Throwable e) {
+            runMillis = elapsedMillis(start);
+            future.completeExceptionally(e);
+        }
+    }
+
+    private static int elapsedMillis(long startNanos) {
+        long millis = (System.nanoTime() - startNanos + 500_000) / 1_000_000;
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, millis));
+    }
+}
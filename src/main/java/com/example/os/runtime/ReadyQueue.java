@@ -0,0 +1,164 @@
+package com.example.os.runtime;
+
+import com.example.os.scheduler.IntelligentAIScheduler;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Jobs waiting for a worker, ordered by a policy. Only the dispatcher
+ * thread touches a ready queue, so none of these are synchronized.
+ */
+abstract class ReadyQueue {
+    abstract void add(Job<?> job);
+
+    /** Removes the job to start next; {@code nowNanos} is the current time */
+    abstract Job<?> poll(long nowNanos);
+
+    abstract int size();
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    static ReadyQueue forPolicy(SchedulingPolicy policy) {
+        switch (policy) {
+            case SJF:
+                return new Ordered(Comparator.<Job<?>>comparingInt(j -> j.predictedMillis)
+                                             .thenComparingLong(j -> j.sequence));
+            case PRIORITY:
+                return new Ordered(Comparator.<Job<?>>comparingInt(j -> j.priority)
+                                             .thenComparingLong(j -> j.sequence));
+            case ROUND_ROBIN:
+                return new RoundRobin();
+            case INTELLIGENT:
+                return new Scored();
+            default:
+                return new Fifo();
+        }
+    }
+
+    private static final class Fifo extends ReadyQueue {
+        private final ArrayDeque<Job<?>> jobs = new ArrayDeque<>();
+
+        @Override
+        void add(Job<?> job) {
+            jobs.add(job);
+        }
+
+        @Override
+        Job<?> poll(long nowNanos) {
+            return jobs.poll();
+        }
+
+        @Override
+        int size() {
+            return jobs.size();
+        }
+    }
+
+    private static final class Ordered extends ReadyQueue {
+        private final PriorityQueue<Job<?>> jobs;
+
+        Ordered(Comparator<Job<?>> order) {
+            jobs = new PriorityQueue<>(order);
+        }
+
+        @Override
+        void add(Job<?> job) {
+            jobs.add(job);
+        }
+
+        @Override
+        Job<?> poll(long nowNanos) {
+            return jobs.poll();
+        }
+
+        @Override
+        int size() {
+            return jobs.size();
+        }
+    }
+
+    /** One FIFO per job id; ids take turns in the order they became ready */
+    private static final class RoundRobin extends ReadyQueue {
+        private final Map<Integer, ArrayDeque<Job<?>>> queues = new HashMap<>();
+        private final ArrayDeque<Integer> turns = new ArrayDeque<>();
+        private int size;
+
+        @Override
+        void add(Job<?> job) {
+            ArrayDeque<Job<?>> queue = queues.get(job.id);
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                queues.put(job.id, queue);
+                turns.add(job.id);
+            }
+            queue.add(job);
+            size++;
+        }
+
+        @Override
+        Job<?> poll(long nowNanos) {
+            Integer id = turns.poll();
+            if (id == null) return null;
+            ArrayDeque<Job<?>> queue = queues.get(id);
+            Job<?> job = queue.poll();
+            if (queue.isEmpty()) {
+                queues.remove(id);
+            } else {
+                turns.add(id);
+            }
+            size--;
+            return job;
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+    }
+
+    /** Scans for the best score, which changes as jobs wait */
+    private static final class Scored extends ReadyQueue {
+        private final ArrayList<Job<?>> jobs = new ArrayList<>();
+
+        @Override
+        void add(Job<?> job) {
+            jobs.add(job);
+        }
+
+        @Override
+        Job<?> poll(long nowNanos) {
+            if (jobs.isEmpty()) return null;
+            int best = 0;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int pos = 0; pos < jobs.size(); pos++) {
+                Job<?> job = jobs.get(pos);
+                int waitingMillis = (int) Math.min(Integer.MAX_VALUE, (nowNanos - job.submitNanos) / 1_000_000);
+                double score = IntelligentAIScheduler.score(job.priority, job.predictedMillis, waitingMillis,
+                                                            jobs.size());
+                // Ties go to the earliest submission, as in the simulator
+                if (score > bestScore || (score == bestScore && job.sequence < jobs.get(best).sequence)) {
+                    bestScore = score;
+                    best = pos;
+                }
+            }
+            // Swap-remove: order among the rest does not matter for a scan
+            Job<?> job = jobs.get(best);
+            Job<?> last = jobs.remove(jobs.size() - 1);
+            if (best < jobs.size()) {
+                jobs.set(best, last);
+            }
+            return job;
+        }
+
+        @Override
+        int size() {
+            return jobs.size();
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.os.runtime;
+
+import com.example.os.ai.AIPredictor;
+import com.example.os.model.Process;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs real tasks on a bounded set of workers, starting queued jobs in the
+ * order of a {@link SchedulingPolicy}.
+ *
+ * Each job carries an id (the kind of job, used as the predictor key) and a
+ * priority. Its runtime is predicted by an {@link AIPredictor} when it is
+ * queued, and the measured runtime is fed back with
+ * {@link AIPredictor#updatePrediction(int, int, int)} when it finishes, so
+ * SJF and the intelligent policy learn as jobs run. Times are milliseconds.
+ *
+ * Submission is lock-free: producers append to a multi-producer queue and
+ * unpark a single dispatcher thread, which owns the ready queue and the
+ * predictor, so neither needs locking. Workers hand finished jobs back the
+ * same way. Workers are either a fixed pool of platform threads or one
+ * virtual thread per job, with concurrency capped at {@code parallelism}.
+ */
+public class SchedulingExecutor implements Executor, AutoCloseable {
+    public static final int DEFAULT_PRIORITY = 3;
+
+    private final SchedulingPolicy policy;
+    private final AIPredictor predictor;
+    private final int parallelism;
+    private final ExecutorService workers;
+    private final Thread dispatcher;
+
+    private final ConcurrentLinkedQueue<Job<?>> submitted = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Job<?>> finished = new ConcurrentLinkedQueue<>();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private volatile boolean shutdown;
+    private final AtomicLong completedCount = new AtomicLong();
+
+    // Dispatcher thread only
+    private final ReadyQueue ready;
+    private int running;
+    private long sequence;
+
+    public SchedulingExecutor(SchedulingPolicy policy, AIPredictor predictor, int parallelism) {
+        this(policy, predictor, parallelism, false);
+    }
+
+    /**
+     * @param virtualThreads run each job on its own virtual thread instead
+     *                       of a fixed pool of platform threads
+     */
+    public SchedulingExecutor(SchedulingPolicy policy, AIPredictor predictor, int parallelism,
+                              boolean virtualThreads) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.policy = policy;
+        this.predictor = predictor;
+        this.parallelism = parallelism;
+        this.ready = ReadyQueue.forPolicy(policy);
+        if (virtualThreads) {
+            workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("scheduled-job-", 0).factory());
+        } else {
+            ThreadFactory factory = Thread.ofPlatform().name("scheduled-worker-", 0).daemon(true).factory();
+            workers = Executors.newFixedThreadPool(parallelism, factory);
+        }
+        dispatcher = Thread.ofPlatform().name("scheduling-dispatcher").daemon(true).unstarted(this::dispatch);
+        dispatcher.start();
+    }
+
+    public <T> CompletableFuture<T> submit(Callable<T> task, int jobId, int priority) {
+        return submit(task, jobId, priority, 1);
+    }
+
+    /**
+     * Queues a task
+     *
+     * @param jobId          kind of job; jobs with the same id share predictions
+     * @param priority       lower number = more important
+     * @param expectedMillis runtime estimate used until the predictor knows the job
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task, int jobId, int priority, int expectedMillis) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor is shut down");
+        }
+        Job<T> job = new Job<>(jobId, priority, expectedMillis, task);
+        submitted.add(job);
+        // A shutdown since the check above may already have let the dispatcher
+        // drain the queue and exit; take the job back unless it was picked up
+        if (shutdown && submitted.remove(job)) {
+            throw new RejectedExecutionException("Executor is shut down");
+        }
+        LockSupport.unpark(dispatcher);
+        return job.future;
+    }
+
+    public CompletableFuture<Void> submit(Runnable task, int jobId, int priority) {
+        return submit(() -> {
+            task.run();
+            return null;
+        }, jobId, priority);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        submit(command, 0, DEFAULT_PRIORITY);
+    }
+
+    /**
+     * Stops accepting jobs; queued and running jobs still complete
+     */
+    public void shutdown() {
+        shutdown = true;
+        LockSupport.unpark(dispatcher);
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    /**
+     * Shuts down and waits until every queued job has run
+     */
+    @Override
+    public void close() {
+        shutdown();
+        boolean interrupted = false;
+        while (true) {
+            try {
+                terminated.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public SchedulingPolicy getPolicy() {
+        return policy;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public long getCompletedCount() {
+        return completedCount.get();
+    }
+
+    private void dispatch() {
+        try {
+            while (true) {
+                Job<?> job;
+                while ((job = finished.poll()) != null) {
+                    running--;
+                    predictor.updatePrediction(job.id, job.priority, job.runMillis);
+                }
+                while ((job = submitted.poll()) != null) {
+                    job.sequence = sequence++;
+                    job.predictedMillis = predictor.getPredictedBurstTime(
+                        new Process(job.id, 0, job.expectedMillis, job.priority));
+                    ready.add(job);
+                }
+                long now = System.nanoTime();
+                while (running < parallelism && !ready.isEmpty()) {
+                    Job<?> next = ready.poll(now);
+                    if (next.future.isDone()) continue; // cancelled while queued
+                    running++;
+                    workers.execute(() -> {
+                        next.run();
+                        completedCount.incrementAndGet();
+                        finished.add(next);
+                        LockSupport.unpark(dispatcher);
+                    });
+                }
+                if (shutdown && running == 0 && ready.isEmpty() && submitted.isEmpty()) {
+                    break;
+                }
+                // A lock inside workers.execute may have parked this thread and
+                // used up the permit of a hand-off since the polls above
+                if (finished.isEmpty() && submitted.isEmpty()) {
+                    LockSupport.park(this);
+                }
+            }
+        } finally {
+            // Jobs that raced with shutdown, or were stranded by a failure here
+            Job<?> job;
+            while ((job = submitted.poll()) != null) {
+                job.future.completeExceptionally(new RejectedExecutionException("Executor is shut down"));
+            }
+            while (!ready.isEmpty()) {
+                ready.poll(System.nanoTime()).future.completeExceptionally(
+                    new RejectedExecutionException("Executor stopped"));
+            }
+            workers.shutdown();
+            terminated.countDown();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.os.runtime;
+
+/**
+ * Order in which a {@link SchedulingExecutor} starts queued jobs. Jobs are
+ * not preempted once running, so each policy is the non-preemptive form of
+ * the simulator's scheduler of the same name.
+ */
+public enum SchedulingPolicy {
+    /** Submission order */
+    FCFS,
+    /** Shortest predicted runtime first */
+    SJF,
+    /** Lowest priority number first */
+    PRIORITY,
+    /**
+     * Takes turns between job ids, one job per id per round, so a burst of
+     * one kind of job cannot starve the others
+     */
+    ROUND_ROBIN,
+    /** Highest {@link com.example.os.scheduler.IntelligentAIScheduler#score} first */
+    INTELLIGENT
+}
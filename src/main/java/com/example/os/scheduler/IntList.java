@@ -0,0 +1,41 @@
+package com.example.os.scheduler;
+
+/**
+ * Growable list of int indices that keeps insertion order on removal
+ */
+final class IntList {
+    private int[] items = new int[16];
+    private int size;
+
+    void add(int value) {
+        if (size == items.length) {
+            int[] larger = new int[items.length * 2];
+            System.arraycopy(items, 0, larger, 0, size);
+            items = larger;
+        }
+        items[size++] = value;
+    }
+
+    int get(int index) {
+        return items[index];
+    }
+
+    int removeAt(int index) {
+        int value = items[index];
+        System.arraycopy(items, index + 1, items, index, size - index - 1);
+        size--;
+        return value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.os.scheduler;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of int values ordered by (key, insertion order), so equal
+ * keys come out first-in first-out like a stable sort would give them.
+ */
+final class IntMinHeap {
+    private long[] order = new long[16];
+    private int[] values = new int[16];
+    private int size;
+    private int sequence;
+
+    void add(int key, int value) {
+        if (size == values.length) {
+            order = Arrays.copyOf(order, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        long rank = ((long) key << 32) | (sequence++ & 0xFFFFFFFFL);
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (order[parent] <= rank) break;
+            order[i] = order[parent];
+            values[i] = values[parent];
+            i = parent;
+        }
+        order[i] = rank;
+        values[i] = value;
+    }
+
+    int poll() {
+        int result = values[0];
+        size--;
+        if (size > 0) {
+            long rank = order[size];
+            int value = values[size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) break;
+                if (child + 1 < size && order[child + 1] < order[child]) child++;
+                if (order[child] >= rank) break;
+                order[i] = order[child];
+                values[i] = values[child];
+                i = child;
+            }
+            order[i] = rank;
+            values[i] = value;
+        }
+        return result;
+    }
+
+    /** Key of the value poll() would return */
+    int peekKey() {
+        return (int) (order[0] >> 32);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        size = 0;
+        sequence = 0;
+    }
+}
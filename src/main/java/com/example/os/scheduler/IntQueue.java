@@ -0,0 +1,43 @@
+package com.example.os.scheduler;
+
+/**
+ * FIFO of int indices backed by a growable ring buffer
+ */
+final class IntQueue {
+    private int[] items = new int[16];
+    private int head;
+    private int size;
+
+    void add(int value) {
+        if (size == items.length) {
+            int[] larger = new int[items.length * 2];
+            for (int i = 0; i < size; i++) {
+                larger[i] = items[(head + i) % items.length];
+            }
+            items = larger;
+            head = 0;
+        }
+        items[(head + size) % items.length] = value;
+        size++;
+    }
+
+    int poll() {
+        int value = items[head];
+        head = (head + 1) % items.length;
+        size--;
+        return value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        head = 0;
+        size = 0;
+    }
+}
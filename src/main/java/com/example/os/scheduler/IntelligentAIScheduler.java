@@ -1,290 +1,704 @@
 package com.example.os.scheduler;
 
 import com.example.os.ai.AIPredictor;
+import com.example.os.ai.ScoreWeights;
+import com.example.os.model.MetricsSummary;
 import com.example.os.model.Process;
-import com.example.os.model.ScheduleResult;
-import com.example.os.model.GanttEntry;
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Intelligent AI Scheduler that uses multi-factor decision making
  * to optimize process scheduling based on learned patterns and predictions.
+ *
+ * The weights of the score factors and the preemption threshold are
+ * learned per workload class and kept by the predictor, so they carry over
+ * to every scheduler sharing it and into its snapshots. Learning happens
+ * only in {@link #trainWeights}: each of its runs varies one parameter of
+ * the class's weights by the learning rate, in turn, and a variation that
+ * beats the class's last cost is kept. Every other run of a list or
+ * workload uses its class's learned weights as they are, so its schedule
+ * does not depend on how many runs came before. Weights stay fixed within
+ * a run.
  */
 public class IntelligentAIScheduler extends Scheduler {
     private AIPredictor predictor;
     private double learningRate = 0.3;
     
-    // Historical performance data
-    private List<Double> historicalWaitingTimes = new ArrayList<>();
-    private List<Double> historicalTurnaroundTimes = new ArrayList<>();
+    // Historical performance data: rings of the last HISTORY_SIZE executions
+    private static final int HISTORY_SIZE = 10;
+    private final double[] historicalWaitingTimes = new double[HISTORY_SIZE];
+    private final double[] historicalTurnaroundTimes = new double[HISTORY_SIZE];
+    private int historyStart;
+    private int historySize;
+    
+    // Approximate selection, off while sampleSize is 0
+    private int sampleSize;
+    private int trackedCandidates = DEFAULT_TRACKED_CANDIDATES;
+    private long samplingSeed = 0x5DEECE66DL;
+    static final int DEFAULT_TRACKED_CANDIDATES = 8;
+    private QuantumController quantumController; // null for the built-in adaptive quantum
+    private boolean weightLearning = true;
+    private boolean exploring; // within trainWeights
+    
+    // Learned parameters stay within these bounds
+    private static final double MIN_WEIGHT = 0.01;
+    private static final double MAX_WEIGHT = 1.0;
+    private static final double MIN_PREEMPTION_THRESHOLD = 1.0;
+    private static final double MAX_PREEMPTION_THRESHOLD = 3.0;
+    // Share of a rejected variation's cost blended into the class's cost,
+    // so the bar follows the class rather than its luckiest workload
+    private static final double COST_DRIFT = 0.1;
     
     public IntelligentAIScheduler(AIPredictor predictor) {
         this.predictor = predictor;
     }
     
+    /**
+     * Approximate selection for runs started after this call. A selection
+     * over more than {@code sampleSize} plus the tracked candidates scores
+     * only {@code sampleSize} random ready processes (power-of-k choices)
+     * and the best processes seen in earlier selections, instead of the
+     * whole ready list, so it costs O(sampleSize) however long the list.
+     * The pick may be worse than the exact one; smaller lists are still
+     * scored exactly.
+     *
+     * @param sampleSize random processes scored per selection; 0 (the default) selects exactly
+     */
+    public void setApproximateSelection(int sampleSize) {
+        setApproximateSelection(sampleSize, DEFAULT_TRACKED_CANDIDATES);
+    }
+    
+    /**
+     * @param trackedCandidates best processes kept from earlier selections and always rescored
+     */
+    public void setApproximateSelection(int sampleSize, int trackedCandidates) {
+        if (sampleSize < 0 || trackedCandidates < 0) {
+            throw new IllegalArgumentException("Sample size and tracked candidates must not be negative");
+        }
+        this.sampleSize = sampleSize;
+        this.trackedCandidates = trackedCandidates;
+    }
+    
+    public int getSampleSize() {
+        return sampleSize;
+    }
+    
+    /**
+     * Lets {@code controller} pick the quantum of preempted slices in runs
+     * started after this call, fed with this scheduler's burst predictions
+     *
+     * @param controller the quantum controller, or null for the built-in thresholds
+     */
+    public void setQuantumController(QuantumController controller) {
+        this.quantumController = controller;
+    }
+    
+    public QuantumController getQuantumController() {
+        return quantumController;
+    }
+    
+    /**
+     * Whether runs started after this call use the score weights learned
+     * for their workload class; without, they use {@link ScoreWeights#DEFAULT}
+     */
+    public void setWeightLearning(boolean weightLearning) {
+        this.weightLearning = weightLearning;
+    }
+    
+    public boolean isWeightLearning() {
+        return weightLearning;
+    }
+    
+    /**
+     * Learns score weights for the workload class of {@code workload} from
+     * {@code trials} summary-only runs of it, each trying one variation of
+     * the class's weights
+     */
+    public void trainWeights(Workload workload, int trials) {
+        if (trials < 0) {
+            throw new IllegalArgumentException("Trials must not be negative: " + trials);
+        }
+        exploring = true;
+        try {
+            for (int t = 0; t < trials; t++) {
+                summarize(workload);
+            }
+        } finally {
+            exploring = false;
+        }
+    }
+    
+    /**
+     * Seed of the sampling; every approximate run starts from it, so runs
+     * of the same workload pick the same processes
+     */
+    public void setSamplingSeed(long samplingSeed) {
+        this.samplingSeed = samplingSeed;
+    }
+    
     @Override
-    public ScheduleResult schedule(List<Process> processes) {
-        if (processes.isEmpty()) {
-            return new ScheduleResult(new ArrayList<>(), new ArrayList<>(), 0, 0);
+    protected ScheduleRun createRun() {
+        return new Run();
+    }
+    
+    // Ready lists at least this long are scored in bulk by ScoreKernel
+    static final int BULK_SCORING_THRESHOLD = 64;
+    
+    // Unweighted urgency for each combination of ScoreKernel flags
+    private static final double[] URGENCY_CASES = new double[ScoreKernel.URGENCY_CASES];
+    static {
+        for (int flags = 0; flags < ScoreKernel.URGENCY_CASES; flags++) {
+            // Any inputs that raise exactly these flags with more than 2 ready
+            int priority = (flags & ScoreKernel.HIGH_PRIORITY) != 0 ? 1 : 3;
+            int predictedBurst = (flags & ScoreKernel.SHORT_BURST) != 0 ? 3 : 4;
+            int waitingTime = (flags & ScoreKernel.URGENT_WAIT) != 0 ? predictedBurst + 1 : predictedBurst;
+            URGENCY_CASES[flags] = calculateUrgency(priority, predictedBurst, waitingTime, 3);
         }
+    }
+    
+    private class Run extends ScheduleRun {
+        private final ScoredReadyList ready = new ScoredReadyList();
+        private int minReadyArrival; // earliest arrival ever admitted, bounds waiting times
+        // Predicted burst per workload index, and the same in input order
+        private int[] predicted = new int[0];
+        private int[] inputPredictions = new int[0];
+        // Sampled selection: settings of the current run, and the tracked
+        // candidates as ready positions with the score they last had
+        private int samples;
+        private boolean sampling;
+        private long random;
+        private int[] trackedPositions = new int[0];
+        private double[] trackedScores = new double[0];
+        private int trackedCount;
+        private QuantumController.Feedback feedback; // null for the built-in quantum
+        // Score weights of the run, fixed since base scores are packed at admission:
+        // the class's learned weights, or a variation of them on trial
+        private boolean trial;
+        private final double[] learned = new double[ScoreWeights.VALUES]; // as read at learnedVersion
+        private long learnedVersion;
+        private final double[] weights = new double[ScoreWeights.VALUES];
+        private double priorityWeight, burstWeight, waitingWeight, urgencyWeight, preemptionThreshold;
+        private int workloadClass;
+        private double meanBurst;
+        private final double[] urgencyTerms = new double[ScoreKernel.URGENCY_CASES]; // weighted
         
-        // Create copies to avoid modifying originals
-        List<Process> workingProcesses = new ArrayList<>();
-        Map<Integer, Integer> originalBurstTimes = new java.util.HashMap<>();
-        for (Process p : processes) {
-            workingProcesses.add(p.copy());
-            originalBurstTimes.put(p.id, p.burstTime); // Store original burst time
+        Run() {
+            super(IntelligentAIScheduler.this);
         }
         
-        // Use AI to predict and optimize burst times
-        List<Process> optimized = predictor.optimizeProcessList(workingProcesses);
-        
-        // Intelligent scheduling using multi-factor scoring
-        List<GanttEntry> gantt = new ArrayList<>();
-        int currentTime = 0;
-        List<Process> ready = new ArrayList<>();
-        List<Process> completed = new ArrayList<>();
-        int idx = 0;
-        
-        // Sort by arrival time first
-        optimized.sort(Comparator.comparingInt(p -> p.arrivalTime));
-        
-        while (idx < optimized.size() || !ready.isEmpty()) {
-            // Add all arrived processes to ready queue
-            while (idx < optimized.size() && optimized.get(idx).arrivalTime <= currentTime) {
-                ready.add(optimized.get(idx++));
+        @Override
+        protected void onLoad(List<Process> processes) {
+            if (predicted.length < n) {
+                predicted = new int[ids.length];
+                inputPredictions = new int[ids.length];
             }
             
-            if (ready.isEmpty()) {
-                if (idx < optimized.size()) {
-                    currentTime = optimized.get(idx).arrivalTime;
-                    continue;
-                }
-                break;
+            // Use AI to predict and optimize burst times. Predictions are made once
+            // per run (batched if the predictor has a model) and cached here,
+            // so selection below never calls back into the predictor.
+            predictor.predictBurstTimes(processes, inputPredictions);
+            for (int i = 0; i < n; i++) {
+                predicted[i] = inputPredictions[inputIndex[i]];
             }
             
-            // AI-based process selection using multi-factor scoring
-            Process selected = selectBestProcess(ready, currentTime);
-            ready.remove(selected);
+            // Streamed runs are never classified, so they keep the default weights
+            if ((weightLearning || exploring) && n > 0) {
+                workloadClass = classify();
+                learnedVersion = predictor.readScoreWeights(workloadClass, learned);
+                System.arraycopy(learned, 0, weights, 0, ScoreWeights.VALUES);
+                trial = exploring;
+                if (trial) {
+                    vary();
+                }
+                useWeights();
+            }
+        }
+        
+        @Override
+        protected void onLoad(int i, Process process) {
+            if (predicted.length < ids.length) {
+                predicted = Arrays.copyOf(predicted, ids.length);
+            }
+            predicted[i] = predictor.getPredictedBurstTime(process);
+        }
+        
+        @Override
+        protected void clearReady() {
+            ready.clear();
+            minReadyArrival = Integer.MAX_VALUE;
             
-            if (selected.startTime == -1) {
-                selected.startTime = currentTime;
+            samples = sampleSize;
+            sampling = samples > 0;
+            random = samplingSeed != 0 ? samplingSeed : 1; // xorshift state must not be 0
+            if (trackedPositions.length != trackedCandidates) {
+                trackedPositions = new int[trackedCandidates];
+                trackedScores = new double[trackedCandidates];
             }
+            trackedCount = 0;
+            
+            trial = false;
+            ScoreWeights.DEFAULT.copyInto(weights);
+            useWeights();
             
+            if (quantumController == null) {
+                feedback = null;
+            } else {
+                if (feedback == null || feedback.controller != quantumController) {
+                    feedback = new QuantumController.Feedback(quantumController);
+                }
+                feedback.reset(getOverheadModel());
+            }
+        }
+        
+        @Override
+        protected void admit(int i) {
+            ready.add(i, baseScore(priority[i], predicted[i], priorityWeight, burstWeight), arrival[i], predicted[i],
+                      ScoreKernel.staticFlags(priority[i], predicted[i]));
+            minReadyArrival = Math.min(minReadyArrival, arrival[i]);
+            if (feedback != null && start[i] == -1) {
+                feedback.observeBurst(predicted[i]);
+            }
+            if (sampling) {
+                // A newcomer may be the best, and sampling alone could miss it for long
+                int position = ready.size() - 1;
+                track(position, scoreAt(position));
+            }
+        }
+        
+        @Override
+        protected boolean hasReady() {
+            return !ready.isEmpty();
+        }
+        
+        @Override
+        protected int selectNext() {
+            // AI-based process selection using multi-factor scoring
+            boolean sampled = isSampledSelection();
+            int position = selectBestPosition();
+            // An exact pick keeps the ready order, so ties break as without sampling
+            return sampled ? removeSampled(position) : removeInOrder(position);
+        }
+        
+        @Override
+        protected int sliceLength(int selected) {
             // Calculate execution time (could be partial for preemption)
-            int executionTime = selected.remainingTime;
+            int executionTime = remaining[selected];
+            if (feedback != null) {
+                feedback.observeDispatch(this, selected);
+            }
             
             // Check if we should preempt (for better overall performance)
-            if (ready.size() > 0 && shouldPreempt(selected, ready, currentTime)) {
+            if (ready.size() > 0 && shouldPreempt(selected)) {
                 // Execute for a time quantum and then reconsider
-                int quantum = calculateAdaptiveQuantum(selected, ready);
-                executionTime = Math.min(quantum, selected.remainingTime);
+                int quantum = calculateAdaptiveQuantum(selected);
+                executionTime = Math.min(quantum, remaining[selected]);
+            }
+            return executionTime;
+        }
+        
+        @Override
+        protected void onComplete(int i) {
+            // Update AI predictions using actual burst time
+            predictor.updatePrediction(ids[i], priority[i], burst[i]);
+        }
+        
+        @Override
+        protected void onRunEnd(MetricsSummary summary) {
+            // Learn from this execution
+            learnFromExecution(summary.waiting.getMean(), summary.turnaround.getMean());
+            if (trial) {
+                learnWeights(summary);
+            }
+        }
+        
+        private void useWeights() {
+            priorityWeight = weights[ScoreWeights.PRIORITY];
+            burstWeight = weights[ScoreWeights.BURST];
+            waitingWeight = weights[ScoreWeights.WAITING];
+            urgencyWeight = weights[ScoreWeights.URGENCY];
+            preemptionThreshold = weights[ScoreWeights.PREEMPTION_THRESHOLD];
+            for (int flags = 0; flags < urgencyTerms.length; flags++) {
+                urgencyTerms[flags] = URGENCY_CASES[flags] * urgencyWeight;
+            }
+        }
+        
+        /**
+         * Turns the weights into the ones to try: the next parameter in turn
+         * scaled up or down by the learning rate, unless the learned weights
+         * were never measured
+         */
+        private void vary() {
+            if (Double.isNaN(learned[ScoreWeights.COST])) {
+                return;
+            }
+            int trials = (int) learned[ScoreWeights.TRIALS];
+            int parameter = trials % ScoreWeights.PARAMETERS;
+            // Each parameter is tried up, then down on its next turn
+            double direction = (trials / ScoreWeights.PARAMETERS) % 2 == 0 ? 1 : -1;
+            double value = learned[parameter] * (1 + direction * learningRate * 0.5);
+            if (parameter == ScoreWeights.PREEMPTION_THRESHOLD) {
+                value = Math.max(MIN_PREEMPTION_THRESHOLD, Math.min(MAX_PREEMPTION_THRESHOLD, value));
+            } else {
+                value = Math.max(MIN_WEIGHT, Math.min(MAX_WEIGHT, value));
+            }
+            weights[parameter] = value;
+        }
+        
+        /**
+         * Keeps the run's variation if it beat the class's cost; the cost is
+         * waiting plus turnaround relative to the mean burst, so workloads of
+         * one class compare whatever their size
+         */
+        private void learnWeights(MetricsSummary summary) {
+            double cost = (summary.waiting.getMean() + summary.turnaround.getMean()) / Math.max(1, meanBurst);
+            double learnedCost = learned[ScoreWeights.COST];
+            double[] next;
+            if (Double.isNaN(learnedCost)) {
+                next = learned;
+                next[ScoreWeights.COST] = cost;
+            } else if (cost < learnedCost) {
+                next = weights;
+                next[ScoreWeights.COST] = cost;
+                next[ScoreWeights.TRIALS] = learned[ScoreWeights.TRIALS] + 1;
+            } else {
+                next = learned;
+                next[ScoreWeights.COST] = learnedCost + (cost - learnedCost) * COST_DRIFT;
+                next[ScoreWeights.TRIALS] = learned[ScoreWeights.TRIALS] + 1;
+            }
+            // Lost to a concurrent run of the same class: its update stands
+            predictor.writeScoreWeights(workloadClass, learnedVersion, next);
+        }
+        
+        /**
+         * Workload class of the loaded columns (slots in arrival order), one
+         * bit each for overload, highly variable bursts and bursty arrivals
+         */
+        private int classify() {
+            long totalBurst = 0;
+            double burstMean = 0, burstM2 = 0, gapMean = 0, gapM2 = 0;
+            for (int i = 0; i < n; i++) {
+                totalBurst += burst[i];
+                double d = burst[i] - burstMean;
+                burstMean += d / (i + 1);
+                burstM2 += d * (burst[i] - burstMean);
+                if (i > 0) {
+                    int gap = arrival[i] - arrival[i - 1];
+                    d = gap - gapMean;
+                    gapMean += d / i;
+                    gapM2 += d * (gap - gapMean);
+                }
+            }
+            meanBurst = burstMean;
+            boolean overloaded = totalBurst > Math.max(1, arrival[n - 1] - arrival[0]);
+            boolean variableBursts = burstMean > 0 && Math.sqrt(burstM2 / n) > burstMean;
+            boolean burstyArrivals = n > 1 && gapMean > 0 && Math.sqrt(gapM2 / (n - 1)) > gapMean;
+            return (overloaded ? 1 : 0) | (variableBursts ? 2 : 0) | (burstyArrivals ? 4 : 0);
+        }
+        
+        /**
+         * Selects the best process using AI-based multi-factor scoring
+         *
+         * @return position of the best process in the ready queue
+         */
+        private int selectBestPosition() {
+            if (ready.size() == 1) {
+                return 0;
+            }
+            if (isSampledSelection()) {
+                return selectSampledPosition();
+            }
+            if (ready.size() >= BULK_SCORING_THRESHOLD) {
+                // Same scores and winner as the loop below, computed over packed columns
+                return ScoreKernel.INSTANCE.selectBest(ready, currentTime, currentTime - minReadyArrival,
+                                                       waitingWeight, urgencyTerms);
             }
             
-            gantt.add(new GanttEntry(selected.id, currentTime, currentTime + executionTime));
-            currentTime += executionTime;
-            selected.remainingTime -= executionTime;
+            int best = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
             
-            // Add any newly arrived processes to ready queue
-            while (idx < optimized.size() && optimized.get(idx).arrivalTime <= currentTime) {
-                ready.add(optimized.get(idx++));
+            for (int pos = 0; pos < ready.size(); pos++) {
+                double score = calculateProcessScore(ready.get(pos));
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = pos;
+                }
             }
             
-            if (selected.remainingTime <= 0) {
-                selected.completionTime = currentTime;
-                selected.turnaroundTime = Math.max(0, selected.completionTime - selected.arrivalTime); // Ensure non-negative
-                // Use original burst time for waiting time calculation
-                int originalBurstTime = originalBurstTimes.getOrDefault(selected.id, selected.burstTime);
-                selected.waitingTime = Math.max(0, selected.turnaroundTime - originalBurstTime); // Ensure non-negative
-                completed.add(selected);
-                
-                // Update AI predictions using original burst time
-                predictor.updatePrediction(selected.id, originalBurstTime);
-            } else {
-                // Process not completed, add back to ready queue
-                ready.add(selected);
+            return best;
+        }
+        
+        /** Whether the next selection samples rather than scoring every ready process */
+        private boolean isSampledSelection() {
+            return sampling && ready.size() > samples + trackedCount;
+        }
+        
+        /**
+         * Best of the tracked candidates and {@code samples} random ready
+         * processes; the scores seen refresh the tracked candidates
+         */
+        private int selectSampledPosition() {
+            int best = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            
+            // Rescore the tracked candidates, whose scores grew while they waited
+            for (int t = 0; t < trackedCount; t++) {
+                double score = scoreAt(trackedPositions[t]);
+                trackedScores[t] = score;
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = trackedPositions[t];
+                }
             }
+            
+            for (int k = 0; k < samples; k++) {
+                int position = (int) (((nextRandom() >>> 32) * ready.size()) >>> 32);
+                double score = scoreAt(position);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = position;
+                }
+                track(position, score);
+            }
+            
+            return best;
         }
         
-        // Ensure all processes are in completed list (they should be, but safety check)
-        // Update original processes with results from completed list
-        for (Process original : processes) {
-            Process completedProc = findProcessById(completed, original.id);
-            if (completedProc != null) {
-                original.waitingTime = completedProc.waitingTime;
-                original.turnaroundTime = completedProc.turnaroundTime;
-                original.completionTime = completedProc.completionTime;
-                original.startTime = completedProc.startTime;
-            } else {
-                // Safety: if process not found in completed, it means it wasn't scheduled
-                // This shouldn't happen, but handle it gracefully
-                System.err.println("Warning: Process " + original.id + " not found in completed list");
-                // Set default values to avoid division issues
-                original.waitingTime = 0;
-                original.turnaroundTime = 0;
+        /** Same value as calculateProcessScore for the process at {@code position} */
+        private double scoreAt(int position) {
+            return ScoreKernel.score(ready, position, currentTime, ScoreKernel.flagMask(ready.size()),
+                                     waitingWeight, urgencyTerms);
+        }
+        
+        /** Tracks the process at {@code position} if it is among the best scores seen */
+        private void track(int position, double score) {
+            int worst = -1;
+            for (int t = 0; t < trackedCount; t++) {
+                if (trackedPositions[t] == position) {
+                    trackedScores[t] = score;
+                    return;
+                }
+                if (worst < 0 || trackedScores[t] < trackedScores[worst]) {
+                    worst = t;
+                }
+            }
+            if (trackedCount < trackedPositions.length) {
+                worst = trackedCount++;
+            } else if (worst < 0 || score <= trackedScores[worst]) {
+                return;
             }
+            trackedPositions[worst] = position;
+            trackedScores[worst] = score;
         }
         
-        // Calculate metrics on the updated processes list
-        ScheduleResult result = calculateMetrics(processes, gantt);
+        /**
+         * Removes the process at {@code position} keeping the order of the
+         * rest, and keeps the tracked positions pointing at the same processes
+         */
+        private int removeInOrder(int position) {
+            int slot = ready.removeAt(position);
+            for (int t = 0; t < trackedCount; t++) {
+                if (trackedPositions[t] == position) {
+                    trackedCount--;
+                    trackedPositions[t] = trackedPositions[trackedCount];
+                    trackedScores[t] = trackedScores[trackedCount];
+                    t--; // the moved-in candidate still needs checking
+                } else if (trackedPositions[t] > position) {
+                    trackedPositions[t]--;
+                }
+            }
+            return slot;
+        }
         
-        // Learn from this execution
-        learnFromExecution(result);
+        /**
+         * Removes the process at {@code position} in constant time, moving the
+         * last one into its place, and keeps the tracked positions pointing at
+         * the same processes; only for sampled picks, which need not keep the
+         * ready order
+         */
+        private int removeSampled(int position) {
+            int last = ready.size() - 1;
+            int slot = ready.swapRemove(position);
+            for (int t = 0; t < trackedCount; t++) {
+                if (trackedPositions[t] == position) {
+                    trackedCount--;
+                    trackedPositions[t] = trackedPositions[trackedCount];
+                    trackedScores[t] = trackedScores[trackedCount];
+                    t--; // the moved-in candidate still needs checking
+                } else if (trackedPositions[t] == last) {
+                    trackedPositions[t] = position;
+                }
+            }
+            return slot;
+        }
         
-        return result;
-    }
-    
-    /**
-     * Selects the best process using AI-based multi-factor scoring
-     */
-    private Process selectBestProcess(List<Process> ready, int currentTime) {
-        if (ready.size() == 1) {
-            return ready.get(0);
+        /** xorshift64*: cheap, allocation-free and reproducible from the seed */
+        private long nextRandom() {
+            random ^= random >>> 12;
+            random ^= random << 25;
+            random ^= random >>> 27;
+            return random * 0x2545F4914F6CDD1DL;
         }
         
-        Process best = null;
-        double bestScore = Double.NEGATIVE_INFINITY;
+        private double calculateProcessScore(int i) {
+            return score(priority[i], predicted[i], currentTime - arrival[i], ready.size(),
+                         priorityWeight, burstWeight, waitingWeight, urgencyWeight);
+        }
         
-        for (Process p : ready) {
-            double score = calculateProcessScore(p, currentTime, ready);
-            if (score > bestScore) {
-                bestScore = score;
-                best = p;
+        /**
+         * Determines if current process should be preempted
+         */
+        private boolean shouldPreempt(int current) {
+            if (ready.isEmpty()) return false;
+            
+            // Find best alternative process
+            int bestAlternative = ready.get(selectBestPosition());
+            
+            // Preempt if alternative is significantly better
+            double currentScore = calculateProcessScore(current);
+            double alternativeScore = calculateProcessScore(bestAlternative);
+            
+            // Preempt if alternative is clearly better (by default 20%) and current has run for a while
+            if (alternativeScore > currentScore * preemptionThreshold) {
+                int runTime = currentTime - start[current];
+                if (runTime > 2) { // Don't preempt immediately
+                    return true;
+                }
             }
+            
+            return false;
         }
         
-        return best;
+        /**
+         * Calculates adaptive time quantum based on process characteristics
+         */
+        private int calculateAdaptiveQuantum(int i) {
+            if (feedback != null) {
+                return feedback.quantum(ready.size());
+            }
+            int baseQuantum = 2;
+            
+            // Adjust quantum based on predicted burst time
+            int predictedBurst = predicted[i];
+            if (predictedBurst < 5) {
+                baseQuantum = Math.min(predictedBurst, 3);
+            } else if (predictedBurst > 10) {
+                baseQuantum = 4;
+            }
+            
+            // Adjust based on queue length (shorter quantum if many waiting)
+            if (ready.size() > 3) {
+                baseQuantum = Math.max(1, baseQuantum - 1);
+            }
+            
+            return baseQuantum;
+        }
+    }
+    
+    /**
+     * Calculates a multi-factor score for process selection; the highest
+     * score runs first. Factors: predicted burst time, priority, waiting
+     * time, urgency. Shared with the live runtime, which orders real jobs
+     * by the same policy.
+     *
+     * @param readyCount number of processes currently in the ready queue
+     */
+    public static double score(int priority, int predictedBurst, int waitingTime, int readyCount) {
+        return score(priority, predictedBurst, waitingTime, readyCount, ScoreWeights.DEFAULT);
     }
     
     /**
-     * Calculates a multi-factor score for process selection
-     * Factors: predicted burst time, priority, waiting time, urgency
+     * Score with the factors weighted by {@code weights}
      */
-    private double calculateProcessScore(Process p, int currentTime, List<Process> readyQueue) {
-        double score = 0.0;
+    public static double score(int priority, int predictedBurst, int waitingTime, int readyCount,
+                               ScoreWeights weights) {
+        return score(priority, predictedBurst, waitingTime, readyCount,
+                     weights.priority, weights.burst, weights.waiting, weights.urgency);
+    }
+    
+    static double score(int priority, int predictedBurst, int waitingTime, int readyCount,
+                        double priorityWeight, double burstWeight, double waitingWeight, double urgencyWeight) {
+        // Factors 1 and 2: priority and predicted burst time
+        double score = baseScore(priority, predictedBurst, priorityWeight, burstWeight);
+        
+        // Factor 3: Waiting time (longer waiting = higher urgency)
+        score += waitingScore(waitingTime) * waitingWeight;
         
+        // Factor 4: Urgency (how critical is it to run now)
+        double urgency = calculateUrgency(priority, predictedBurst, waitingTime, readyCount);
+        score += urgency * urgencyWeight;
+        
+        return score;
+    }
+    
+    static double baseScore(int priority, int predictedBurst, ScoreWeights weights) {
+        return baseScore(priority, predictedBurst, weights.priority, weights.burst);
+    }
+    
+    /**
+     * Weighted priority and burst terms, the part of the score that does
+     * not change while a process waits
+     */
+    static double baseScore(int priority, int predictedBurst, double priorityWeight, double burstWeight) {
         // Factor 1: Priority (higher priority = higher score)
         // Normalize priority (lower number = higher priority, so invert)
-        double priorityScore = 1.0 / (1.0 + p.priority);
-        score += priorityScore * 0.25;
+        double priorityScore = 1.0 / (1.0 + priority);
         
         // Factor 2: Predicted burst time (shorter = better, but not always)
-        int predictedBurst = predictor.getPredictedBurstTime(p);
         double burstScore = 1.0 / (1.0 + predictedBurst);
-        score += burstScore * 0.30;
         
-        // Factor 3: Waiting time (longer waiting = higher urgency)
-        int waitingTime = currentTime - p.arrivalTime;
-        double waitingScore = Math.log(1.0 + waitingTime) / 10.0; // Logarithmic to prevent dominance
-        score += waitingScore * 0.25;
-        
-        // Factor 4: Urgency (how critical is it to run now)
-        double urgency = calculateUrgency(p, currentTime, readyQueue);
-        score += urgency * 0.20;
-        
-        return score;
+        return priorityScore * priorityWeight + burstScore * burstWeight;
+    }
+    
+    /** Unweighted waiting term; logarithmic to prevent dominance */
+    static double waitingScore(int waitingTime) {
+        return Math.log(1.0 + waitingTime) / 10.0;
     }
     
     /**
      * Calculates urgency based on process characteristics and queue state
      */
-    private double calculateUrgency(Process p, int currentTime, List<Process> readyQueue) {
+    private static double calculateUrgency(int priority, int predictedBurst, int waitingTime, int readyCount) {
         double urgency = 0.0;
         
         // If process has been waiting long, increase urgency
-        int waitTime = currentTime - p.arrivalTime;
-        if (waitTime > p.burstTime) {
+        if (waitingTime > predictedBurst) {
             urgency += 0.5; // High urgency if waiting longer than execution time
         }
         
         // If process is short and many are waiting, it's urgent to clear it
-        if (p.burstTime <= 3 && readyQueue.size() > 2) {
+        if (predictedBurst <= 3 && readyCount > 2) {
             urgency += 0.3;
         }
         
         // High priority processes are more urgent
-        if (p.priority <= 2) {
+        if (priority <= 2) {
             urgency += 0.2;
         }
         
         return Math.min(1.0, urgency);
     }
     
-    /**
-     * Determines if current process should be preempted
-     */
-    private boolean shouldPreempt(Process current, List<Process> ready, int currentTime) {
-        if (ready.isEmpty()) return false;
-        
-        // Find best alternative process
-        Process bestAlternative = selectBestProcess(ready, currentTime);
-        
-        // Preempt if alternative is significantly better
-        double currentScore = calculateProcessScore(current, currentTime, ready);
-        double alternativeScore = calculateProcessScore(bestAlternative, currentTime, ready);
-        
-        // Preempt if alternative is 20% better and current has run for a while
-        if (alternativeScore > currentScore * 1.2) {
-            int runTime = currentTime - current.startTime;
-            if (runTime > 2) { // Don't preempt immediately
-                return true;
-            }
-        }
-        
-        return false;
-    }
-    
-    /**
-     * Calculates adaptive time quantum based on process characteristics
-     */
-    private int calculateAdaptiveQuantum(Process p, List<Process> readyQueue) {
-        int baseQuantum = 2;
-        
-        // Adjust quantum based on predicted burst time
-        int predictedBurst = predictor.getPredictedBurstTime(p);
-        if (predictedBurst < 5) {
-            baseQuantum = Math.min(predictedBurst, 3);
-        } else if (predictedBurst > 10) {
-            baseQuantum = 4;
-        }
-        
-        // Adjust based on queue length (shorter quantum if many waiting)
-        if (readyQueue.size() > 3) {
-            baseQuantum = Math.max(1, baseQuantum - 1);
-        }
-        
-        return baseQuantum;
-    }
-    
     /**
      * Learns from execution results to improve future decisions
      */
-    private void learnFromExecution(ScheduleResult result) {
-        historicalWaitingTimes.add(result.avgWaitingTime);
-        historicalTurnaroundTimes.add(result.avgTurnaroundTime);
-        
+    private void learnFromExecution(double avgWaitingTime, double avgTurnaroundTime) {
         // Keep only recent history (last 10 executions)
-        if (historicalWaitingTimes.size() > 10) {
-            historicalWaitingTimes.remove(0);
-            historicalTurnaroundTimes.remove(0);
+        int slot = (historyStart + historySize) % HISTORY_SIZE;
+        historicalWaitingTimes[slot] = avgWaitingTime;
+        historicalTurnaroundTimes[slot] = avgTurnaroundTime;
+        if (historySize < HISTORY_SIZE) {
+            historySize++;
+        } else {
+            historyStart = (historyStart + 1) % HISTORY_SIZE;
         }
         
         // Adjust learning rate based on performance trends
-        if (historicalWaitingTimes.size() >= 3) {
-            double recentAvg = historicalWaitingTimes.subList(
-                historicalWaitingTimes.size() - 3, 
-                historicalWaitingTimes.size()
-            ).stream().mapToDouble(Double::doubleValue).average().orElse(0);
-            
-            double olderAvg = historicalWaitingTimes.subList(
-                0, 
-                Math.min(3, historicalWaitingTimes.size() - 3)
-            ).stream().mapToDouble(Double::doubleValue).average().orElse(0);
+        if (historySize >= 3) {
+            double recentAvg = averageWaitingTime(historySize - 3, historySize);
+            double olderAvg = averageWaitingTime(0, Math.min(3, historySize - 3));
             
-            // If performance is improving, increase learning rate slightly
+            // If performance is improving, take slightly larger steps when varying weights
             if (recentAvg < olderAvg) {
                 learningRate = Math.min(0.5, learningRate * 1.05);
             } else {
@@ -293,13 +707,16 @@ public class IntelligentAIScheduler extends Scheduler {
         }
     }
     
-    private Process findProcessById(List<Process> processes, int id) {
-        for (Process p : processes) {
-            if (p.id == id) {
-                return p;
-            }
+    /**
+     * Mean waiting time of history entries [from, to), oldest first; 0 if empty
+     */
+    private double averageWaitingTime(int from, int to) {
+        if (from >= to) return 0;
+        double sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += historicalWaitingTimes[(historyStart + i) % HISTORY_SIZE];
         }
-        return null;
+        return sum / (to - from);
     }
 }
 
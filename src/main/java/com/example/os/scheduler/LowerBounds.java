@@ -0,0 +1,81 @@
+package com.example.os.scheduler;
+
+/**
+ * Lower bounds on the average turnaround time of any single-CPU schedule
+ * of a workload, to tell how far a policy is from optimal.
+ *
+ * {@link #srpt} is the optimum when switches are free and processes may be
+ * preempted: shortest remaining processing time first minimizes the total
+ * completion time of jobs with release dates (1|r_j,pmtn|&Sigma;C_j). The
+ * CPU slices of a process with I/O also form such a schedule of its total
+ * CPU demand, so the bound holds for every policy, preemptive or not, with
+ * or without I/O and overhead, which can only add time. {@link #relaxed}
+ * is the trivial relaxation where each process has the CPU and its device
+ * to itself from arrival on, i.e. its CPU plus I/O demand.
+ */
+public final class LowerBounds {
+    public final double srpt;       // average turnaround of SRPT over the CPU demand
+    public final double relaxed;    // average CPU plus I/O demand
+    public final double turnaround; // the tighter (larger) of the two
+
+    private LowerBounds(double srpt, double relaxed) {
+        this.srpt = srpt;
+        this.relaxed = relaxed;
+        this.turnaround = Math.max(srpt, relaxed);
+    }
+
+    /**
+     * Bounds for a workload, in O(n log n): SRPT is simulated with one heap
+     * operation per arrival and completion
+     */
+    public static LowerBounds of(Workload workload) {
+        int n = workload.size;
+        if (n == 0) {
+            return new LowerBounds(0, 0);
+        }
+        int[] arrival = workload.arrival; // slots are in arrival order
+        int[] burst = workload.burst;
+
+        IntMinHeap ready = new IntMinHeap(); // keyed by remaining CPU demand
+        long time = 0;
+        long totalTurnaround = 0;
+        int next = 0;
+        while (next < n || ready.size() > 0) {
+            if (ready.size() == 0) {
+                time = Math.max(time, arrival[next]);
+            }
+            while (next < n && arrival[next] <= time) {
+                ready.add(burst[next], next);
+                next++;
+            }
+            int left = ready.peekKey();
+            int i = ready.poll();
+            long nextArrival = next < n ? arrival[next] : Long.MAX_VALUE;
+            if (time + left <= nextArrival) {
+                time += left;
+                totalTurnaround += time - arrival[i];
+            } else {
+                // Run up to the next arrival, which may preempt
+                ready.add((int) (left - (nextArrival - time)), i);
+                time = nextArrival;
+            }
+        }
+
+        long totalDemand = 0;
+        for (int i = 0; i < n; i++) {
+            totalDemand += burst[i];
+            int[] bursts = workload.burstSequence[i];
+            if (bursts != null) {
+                for (int b = 1; b < bursts.length; b += 2) {
+                    totalDemand += bursts[b];
+                }
+            }
+        }
+        return new LowerBounds((double) totalTurnaround / n, (double) totalDemand / n);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("avg turnaround >= %.2f (SRPT %.2f, relaxation %.2f)", turnaround, srpt, relaxed);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.os.scheduler;
+
+/**
+ * Cost of switching the CPU between processes, charged by every scheduler.
+ *
+ * A dispatch of a different process than the previous one costs
+ * {@code switchCost}. A process that already ran and resumes after others
+ * used the CPU additionally pays {@code cacheWarmupPenalty} for refilling
+ * its cache and TLB. Overhead advances the clock but does no work, so it
+ * shows up as waiting time and lower CPU utilization.
+ */
+public final class OverheadModel {
+    /** Free context switches (the classic textbook assumption) */
+    public static final OverheadModel NONE = new OverheadModel(0, 0);
+
+    public final int switchCost;
+    public final int cacheWarmupPenalty;
+
+    public OverheadModel(int switchCost, int cacheWarmupPenalty) {
+        if (switchCost < 0 || cacheWarmupPenalty < 0) {
+            throw new IllegalArgumentException("Overhead costs must not be negative");
+        }
+        this.switchCost = switchCost;
+        this.cacheWarmupPenalty = cacheWarmupPenalty;
+    }
+
+    /**
+     * Overhead of dispatching a process
+     *
+     * @param switched a different process (or none) ran before this one
+     * @param resumed the process already ran earlier in the schedule
+     */
+    public int dispatchCost(boolean switched, boolean resumed) {
+        if (!switched) return 0;
+        return resumed ? switchCost + cacheWarmupPenalty : switchCost;
+    }
+
+    public boolean isFree() {
+        return switchCost == 0 && cacheWarmupPenalty == 0;
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.os.scheduler;
+
+import com.example.os.model.MetricsSummary;
+import java.util.Arrays;
+
+/**
+ * Feedback-controlled time quantum, recomputed at every dispatch from the
+ * ready-queue length, the recent predicted burst distribution and the
+ * context-switch cost of the overhead model.
+ *
+ * {@link Objective#RESPONSE_TIME} aims at a mean response time (arrival to
+ * first dispatch) of {@code target}: the quantum is about the median burst,
+ * but short enough that a newcomer behind the queue is reached in time,
+ * and never under twice the switch cost.
+ * {@link Objective#THROUGHPUT} keeps the share of time lost to switching
+ * below {@code target}: the quantum covers most bursts in one slice and
+ * is long enough to amortize a switch. In both cases a gain, nudged after
+ * every observation that misses or meets the target, corrects the estimate.
+ */
+public final class QuantumController {
+    public enum Objective { RESPONSE_TIME, THROUGHPUT }
+
+    // Recent predicted bursts the distribution is taken from
+    static final int BURST_WINDOW = 64;
+    private static final double MIN_GAIN = 0.25;
+    private static final double MAX_GAIN = 4.0;
+
+    public final Objective objective;
+    public final double target; // mean response time, or the largest overhead fraction
+    public final int minQuantum;
+    public final int maxQuantum;
+
+    public QuantumController(Objective objective, double target, int minQuantum, int maxQuantum) {
+        if (objective == null) {
+            throw new IllegalArgumentException("Objective is required");
+        }
+        if (!(target > 0) || (objective == Objective.THROUGHPUT && target >= 1)) {
+            throw new IllegalArgumentException("Invalid target for " + objective + ": " + target);
+        }
+        if (minQuantum < 1 || maxQuantum < minQuantum) {
+            throw new IllegalArgumentException("Invalid quantum bounds: " + minQuantum + ".." + maxQuantum);
+        }
+        this.objective = objective;
+        this.target = target;
+        this.minQuantum = minQuantum;
+        this.maxQuantum = maxQuantum;
+    }
+
+    /** Targets a mean response time, with quanta between 1 and 64 */
+    public static QuantumController responseTime(double targetResponse) {
+        return new QuantumController(Objective.RESPONSE_TIME, targetResponse, 1, 64);
+    }
+
+    /** Keeps switching overhead below a fraction of CPU time, with quanta between 1 and 64 */
+    public static QuantumController throughput(double maxOverheadFraction) {
+        return new QuantumController(Objective.THROUGHPUT, maxOverheadFraction, 1, 64);
+    }
+
+    @Override
+    public String toString() {
+        return objective + " " + target + " [" + minQuantum + ".." + maxQuantum + "]";
+    }
+
+    /**
+     * Per-run state of a controller, owned by a run and reset between runs
+     */
+    static final class Feedback {
+        final QuantumController controller;
+        private final int[] bursts = new int[BURST_WINDOW]; // ring of recent predictions
+        private final int[] sorted = new int[BURST_WINDOW];
+        private int burstCount;
+        private int burstNext;
+        private boolean sortedValid;
+        private double gain;
+        private double meanResponse;
+        private boolean observedResponse;
+        private int switchCost; // of preempting a process and resuming it later
+
+        Feedback(QuantumController controller) {
+            this.controller = controller;
+        }
+
+        void reset(OverheadModel overhead) {
+            switchCost = overhead.dispatchCost(true, true);
+            burstCount = 0;
+            burstNext = 0;
+            sortedValid = false;
+            gain = 1.0;
+            meanResponse = 0;
+            observedResponse = false;
+        }
+
+        /** Predicted burst of a newly arrived process */
+        void observeBurst(int predictedBurst) {
+            bursts[burstNext] = Math.max(1, predictedBurst);
+            burstNext = (burstNext + 1) % BURST_WINDOW;
+            burstCount = Math.min(BURST_WINDOW, burstCount + 1);
+            sortedValid = false;
+        }
+
+        /** Observes the dispatch of slot {@code i} of {@code run}, before its slice */
+        void observeDispatch(ScheduleRun run, int i) {
+            if (run.start[i] == run.currentTime) {
+                observeResponse(run.start[i] - run.arrival[i]);
+            }
+            MetricsSummary summary = run.getSummary();
+            observeOverhead(summary.overheadTime, summary.busyTime);
+        }
+
+        /** Response time of a process at its first dispatch */
+        private void observeResponse(int responseTime) {
+            if (controller.objective != Objective.RESPONSE_TIME) return;
+            // Exponential moving average, so bursts of arrivals register quickly
+            meanResponse = observedResponse ? meanResponse * 0.9 + responseTime * 0.1 : responseTime;
+            observedResponse = true;
+            gain = meanResponse > controller.target ? Math.max(MIN_GAIN, gain * 0.95) : Math.min(MAX_GAIN, gain * 1.02);
+        }
+
+        /** Share of the time so far spent switching, checked at every dispatch */
+        private void observeOverhead(long overheadTime, long busyTime) {
+            if (controller.objective != Objective.THROUGHPUT || overheadTime + busyTime == 0) return;
+            double fraction = (double) overheadTime / (overheadTime + busyTime);
+            // Too much switching calls for longer slices; within target, relax back
+            gain = fraction > controller.target ? Math.min(MAX_GAIN, gain * 1.05) : Math.max(1.0, gain * 0.99);
+        }
+
+        /**
+         * Quantum for the next slice
+         *
+         * @param queueLength processes waiting behind the one dispatched
+         */
+        int quantum(int queueLength) {
+            double quantum;
+            if (controller.objective == Objective.RESPONSE_TIME) {
+                // A newcomer waits for about one slice (plus switch) per queued process
+                double reach = controller.target / Math.max(1, queueLength) - switchCost;
+                quantum = Math.min(burstQuantile(0.5), reach);
+                // Below twice the switch cost, switching would eat the CPU and every response grow
+                quantum = Math.max(quantum, 2.0 * switchCost / gain);
+            } else {
+                // Switch cost c per slice of length q stays below fraction f when q >= c(1-f)/f
+                double f = controller.target;
+                quantum = Math.max(burstQuantile(0.8), switchCost * (1 - f) / f);
+            }
+            long rounded = Math.round(quantum * gain);
+            return (int) Math.max(controller.minQuantum, Math.min(controller.maxQuantum, rounded));
+        }
+
+        /** Quantile of the recent predicted bursts; the maximum quantum before any */
+        private int burstQuantile(double q) {
+            if (burstCount == 0) return controller.maxQuantum;
+            if (!sortedValid) {
+                System.arraycopy(bursts, 0, sorted, 0, burstCount);
+                Arrays.sort(sorted, 0, burstCount);
+                sortedValid = true;
+            }
+            return sorted[(int) Math.min(burstCount - 1, Math.ceil(q * burstCount) - 1)];
+        }
+    }
+}
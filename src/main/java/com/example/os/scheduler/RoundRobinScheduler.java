@@ -1,72 +1,114 @@
 package com.example.os.scheduler;
 
+import com.example.os.ai.AIPredictor;
 import com.example.os.model.Process;
-import com.example.os.model.ScheduleResult;
-import com.example.os.model.GanttEntry;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.LinkedList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Queue;
 
 public class RoundRobinScheduler extends Scheduler {
     int timeQuantum = 2;
+    private QuantumController quantumController; // null for the fixed quantum
+    private AIPredictor predictor;
     
     public RoundRobinScheduler(int timeQuantum) {
         this.timeQuantum = timeQuantum;
     }
     
-    @Override
-    public ScheduleResult schedule(List<Process> processes) {
-        List<Process> sorted = new ArrayList<>();
-        for (Process p : processes) {
-            sorted.add(p.copy());
+    /**
+     * Replaces the fixed quantum of runs started after this call by one the
+     * controller adapts at every dispatch, fed with the bursts
+     * {@code predictor} predicts for arriving processes
+     *
+     * @param controller the quantum controller, or null to restore the fixed quantum
+     */
+    public void setQuantumController(QuantumController controller, AIPredictor predictor) {
+        if (controller != null && predictor == null) {
+            throw new IllegalArgumentException("An adaptive quantum needs a burst predictor");
         }
-        sorted.sort(Comparator.comparingInt(p -> p.arrivalTime));
+        this.quantumController = controller;
+        this.predictor = predictor;
+    }
+    
+    public QuantumController getQuantumController() {
+        return quantumController;
+    }
+    
+    @Override
+    protected ScheduleRun createRun() {
+        return new Run();
+    }
+    
+    private class Run extends ScheduleRun {
+        private final IntQueue ready = new IntQueue();
+        // Adaptive quantum only: the run's controller state and predicted burst per slot
+        private QuantumController.Feedback feedback;
+        private int[] predicted = new int[0];
+        private int[] inputPredictions = new int[0];
         
-        List<GanttEntry> gantt = new ArrayList<>();
-        Queue<Process> ready = new LinkedList<>();
-        int currentTime = 0;
-        int idx = 0;
+        Run() {
+            super(RoundRobinScheduler.this);
+        }
         
-        while (idx < sorted.size() || !ready.isEmpty()) {
-            while (idx < sorted.size() && sorted.get(idx).arrivalTime <= currentTime) {
-                ready.add(sorted.get(idx++));
-            }
-            
-            if (ready.isEmpty()) {
-                if (idx < sorted.size()) {
-                    currentTime = sorted.get(idx).arrivalTime;
-                    continue;
-                }
-                break;
+        @Override
+        protected void onLoad(List<Process> processes) {
+            if (feedback == null) return;
+            if (predicted.length < n) {
+                predicted = new int[ids.length];
+                inputPredictions = new int[ids.length];
             }
-            
-            Process p = ready.poll();
-            if (p.startTime == -1) {
-                p.startTime = currentTime;
+            predictor.predictBurstTimes(processes, inputPredictions);
+            for (int i = 0; i < n; i++) {
+                predicted[i] = inputPredictions[inputIndex[i]];
             }
-            
-            int execTime = Math.min(timeQuantum, p.remainingTime);
-            gantt.add(new GanttEntry(p.id, currentTime, currentTime + execTime));
-            currentTime += execTime;
-            p.remainingTime -= execTime;
-            
-            while (idx < sorted.size() && sorted.get(idx).arrivalTime <= currentTime) {
-                ready.add(sorted.get(idx++));
+        }
+        
+        @Override
+        protected void onLoad(int i, Process process) {
+            if (feedback == null) return;
+            if (predicted.length < ids.length) {
+                predicted = Arrays.copyOf(predicted, ids.length);
             }
-            
-            if (p.remainingTime > 0) {
-                ready.add(p);
+            predicted[i] = predictor.getPredictedBurstTime(process);
+        }
+        
+        @Override
+        protected void clearReady() {
+            ready.clear();
+            if (quantumController == null) {
+                feedback = null;
             } else {
-                p.completionTime = currentTime;
-                p.turnaroundTime = Math.max(0, p.completionTime - p.arrivalTime); // Ensure non-negative
-                p.waitingTime = Math.max(0, p.turnaroundTime - p.burstTime); // Ensure non-negative
+                if (feedback == null || feedback.controller != quantumController) {
+                    feedback = new QuantumController.Feedback(quantumController);
+                }
+                feedback.reset(getOverheadModel());
             }
         }
         
-        return calculateMetrics(sorted, gantt);
+        @Override
+        protected void admit(int i) {
+            if (feedback != null && start[i] == -1) {
+                feedback.observeBurst(predicted[i]);
+            }
+            ready.add(i);
+        }
+        
+        @Override
+        protected boolean hasReady() {
+            return !ready.isEmpty();
+        }
+        
+        @Override
+        protected int selectNext() {
+            return ready.poll();
+        }
+        
+        @Override
+        protected int sliceLength(int i) {
+            if (feedback != null) {
+                feedback.observeDispatch(this, i);
+                return Math.min(feedback.quantum(ready.size()), remaining[i]);
+            }
+            return Math.min(timeQuantum, remaining[i]);
+        }
     }
 }
-
-
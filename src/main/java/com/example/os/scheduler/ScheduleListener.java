@@ -0,0 +1,41 @@
+package com.example.os.scheduler;
+
+import com.example.os.model.GanttEntry;
+import com.example.os.model.MetricsSummary;
+import com.example.os.model.Process;
+import com.example.os.model.ScheduleResult;
+
+/**
+ * Receives a schedule as it is produced, one slice and one completed
+ * process at a time, so results can be streamed out without keeping them.
+ * Values are passed as primitives; nothing is allocated per event.
+ */
+public interface ScheduleListener {
+    /** The CPU ran {@code processId} from {@code start} to {@code end} */
+    void onSlice(int processId, int start, int end);
+
+    /** A process finished its last burst */
+    void onComplete(int processId, int arrivalTime, int burstTime, int priority,
+                    int startTime, int completionTime, int waitingTime, int turnaroundTime);
+
+    /** The schedule is complete */
+    default void onFinish(MetricsSummary summary) {
+    }
+
+    /**
+     * Feeds an already materialized result to a listener: every Gantt slice
+     * in time order, then every process
+     */
+    static void replay(ScheduleResult result, ScheduleListener listener) {
+        for (GanttEntry entry : result.ganttChart) {
+            listener.onSlice(entry.processId, entry.startTime, entry.endTime);
+        }
+        for (Process p : result.processes) {
+            listener.onComplete(p.id, p.arrivalTime, p.burstTime, p.priority,
+                                p.startTime, p.completionTime, p.waitingTime, p.turnaroundTime);
+        }
+        if (result.summary != null) {
+            listener.onFinish(result.summary);
+        }
+    }
+}
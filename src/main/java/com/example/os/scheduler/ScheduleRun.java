@@ -0,0 +1,515 @@
+package com.example.os.scheduler;
+
+import com.example.os.model.GanttEntry;
+import com.example.os.model.MetricsSummary;
+import com.example.os.model.Process;
+import com.example.os.model.ScheduleResult;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * One execution of a scheduling policy that advances one dispatch at a time.
+ *
+ * A run can be stopped between any two {@link #step()} calls and resumed
+ * later, which is what playback in the UI uses; {@link #runToCompletion()}
+ * is the batch equivalent of {@link Scheduler#schedule}. The workload is
+ * read through the primitive columns of a {@link Workload}, which runs
+ * never write, so runs of several policies can share one; the mutable run
+ * state lives in arrays owned by the run. Policies plug in through the
+ * ready-queue hooks.
+ *
+ * The simulation is event-driven: the clock jumps from dispatch to dispatch,
+ * or to the next arrival or I/O completion when the CPU is idle. A process
+ * whose CPU burst ends with more bursts to go is served by its I/O device
+ * (one request at a time, FIFO) and becomes ready again when that finishes.
+ *
+ * A streamed run pulls processes from an iterator as they arrive and hands
+ * the column slot of each completed process to a later one, so memory is
+ * bounded by the number of processes alive at once, not the trace length.
+ */
+public abstract class ScheduleRun {
+    // Workload columns indexed by slot, read-only: those of the workload
+    // being run. Loaded from a list, slot i is the i-th process in arrival
+    // order (stable for equal arrival times); a streamed run reuses slots.
+    // Arrays may be longer than n.
+    protected int n;
+    protected int[] ids = new int[0];
+    protected int[] arrival = new int[0];
+    protected int[] burst = new int[0];
+    protected int[] priority = new int[0];
+    protected int[] inputIndex = new int[0]; // position in the list (or stream) passed to the scheduler
+    protected int[][] burstSequence = new int[0][]; // CPU, I/O, CPU, ...; null for a single CPU burst
+    protected int[] ioDevice = new int[0];
+
+    // Run state, owned by the run and reused across workloads
+    protected int[] remaining = new int[0]; // left in the current CPU burst
+    protected int[] phase = new int[0];     // position of the current CPU burst in burstSequence
+    protected int[] ioTime = new int[0];    // time spent queued for or in I/O
+    protected int[] start = new int[0];
+    protected int[] completion = new int[0];
+    protected int currentTime;
+
+    private final Scheduler scheduler;
+    private final Workload buffer = new Workload(); // own columns for lists and streams
+    private OverheadModel overhead = OverheadModel.NONE;
+    private ScheduleListener[] listeners = new ScheduleListener[0];
+    private final List<GanttEntry> gantt = new ArrayList<>();
+    private final IntMinHeap ioCompletions = new IntMinHeap(); // keyed by completion time
+    private int[] deviceFreeAt = new int[0];
+    private boolean recordGantt = true;
+    private SimulationArena arena; // recycles Gantt entries and the result when set
+    private int nextArrival;
+    private MetricsSummary summary = new MetricsSummary(); // handed to the result, not copied
+    private int lastDispatched;
+    private int lastIndex;
+    private int loadedCount;
+    private int completedCount;
+    private ScheduleResult result;
+
+    // Streamed runs only
+    private Iterator<Process> source;
+    private Process pending; // next process from source, not yet arrived
+    private final IntList freeSlots = new IntList();
+
+    protected ScheduleRun(Scheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Loads a workload into this run's own columns, reusing its buffers;
+     * any previous progress is discarded. Only grows the buffers when the
+     * workload is larger than every earlier one.
+     */
+    void reset(List<Process> processes) {
+        buffer.load(processes);
+        reset(buffer);
+        buffer.processes = null;
+    }
+
+    /**
+     * Runs a shared workload: only the run state is (re)initialized, the
+     * workload's columns are read in place
+     */
+    void reset(Workload workload) {
+        clear();
+        use(workload);
+        n = workload.size;
+        loadedCount = n;
+        ensureStateCapacity(n);
+        for (int i = 0; i < n; i++) {
+            initState(i);
+        }
+        if (deviceFreeAt.length < workload.deviceCount) {
+            deviceFreeAt = new int[workload.deviceCount];
+        }
+        onLoad(workload.processes);
+    }
+
+    /**
+     * Starts a streamed run over {@code processes}, which must come in
+     * non-decreasing arrival order; a process that arrives late is admitted
+     * when it is read. The source is read lazily, one process ahead of the
+     * simulation clock.
+     */
+    void reset(Iterator<Process> processes) {
+        clear();
+        use(buffer);
+        n = 0;
+        loadedCount = 0;
+        source = processes;
+        pending = processes.hasNext() ? processes.next() : null;
+    }
+
+    private void clear() {
+        clearReady();
+        gantt.clear();
+        currentTime = 0;
+        nextArrival = 0;
+        completedCount = 0;
+        lastIndex = -1;
+        if (result != null && result.summary == summary) {
+            summary = new MetricsSummary(); // the finished result keeps the old one
+        } else {
+            summary.clear();
+        }
+        overhead = scheduler.getOverheadModel();
+        listeners = scheduler.getScheduleListeners();
+        result = null;
+        ioCompletions.clear();
+        Arrays.fill(deviceFreeAt, 0);
+        source = null;
+        pending = null;
+        freeSlots.clear();
+    }
+
+    private void use(Workload workload) {
+        ids = workload.ids;
+        arrival = workload.arrival;
+        burst = workload.burst;
+        priority = workload.priority;
+        inputIndex = workload.inputIndex;
+        burstSequence = workload.burstSequence;
+        ioDevice = workload.ioDevice;
+    }
+
+    /** Grows this run's own columns to at least {@code capacity} slots, keeping their contents */
+    private void ensureCapacity(int capacity) {
+        buffer.ensureCapacity(capacity);
+        use(buffer);
+        ensureStateCapacity(capacity);
+    }
+
+    private void ensureStateCapacity(int capacity) {
+        if (remaining.length >= capacity) return;
+        capacity = Math.max(capacity, remaining.length * 2);
+        remaining = Arrays.copyOf(remaining, capacity);
+        phase = Arrays.copyOf(phase, capacity);
+        ioTime = Arrays.copyOf(ioTime, capacity);
+        start = Arrays.copyOf(start, capacity);
+        completion = Arrays.copyOf(completion, capacity);
+    }
+
+    private void initState(int i) {
+        int[] bursts = burstSequence[i];
+        phase[i] = 0;
+        remaining[i] = bursts == null ? burst[i] : bursts[0];
+        ioTime[i] = 0;
+        start[i] = -1;
+    }
+
+    /** Loads a streamed process into slot i of this run's own columns */
+    private void load(int i, Process p, int position) {
+        buffer.set(i, p, position);
+        initState(i);
+        if (p.bursts != null && deviceFreeAt.length <= p.ioDevice) {
+            deviceFreeAt = Arrays.copyOf(deviceFreeAt, p.ioDevice + 1);
+        }
+    }
+
+    void setArena(SimulationArena arena) {
+        this.arena = arena;
+    }
+
+    /**
+     * Turns Gantt recording off for runs that only need metrics; step()
+     * then returns null
+     */
+    void setRecordGantt(boolean recordGantt) {
+        this.recordGantt = recordGantt;
+    }
+
+    /** Called after a workload was loaded into the columns */
+    protected void onLoad(List<Process> processes) {
+    }
+
+    /** Called when a streamed process was loaded into slot i */
+    protected void onLoad(int i, Process process) {
+    }
+
+    /** Empties the ready queue */
+    protected abstract void clearReady();
+
+    /** Adds a process (by workload index) to the ready queue */
+    protected abstract void admit(int i);
+
+    protected abstract boolean hasReady();
+
+    /** Removes and returns the ready process to dispatch next */
+    protected abstract int selectNext();
+
+    /** How long the selected process runs before the policy decides again */
+    protected int sliceLength(int i) {
+        return remaining[i];
+    }
+
+    /** Puts a process that still has work back into the ready queue */
+    protected void requeue(int i) {
+        admit(i);
+    }
+
+    /** Called when a process finishes its burst */
+    protected void onComplete(int i) {
+    }
+
+    /** Called once with the final result */
+    protected void onFinish(ScheduleResult result) {
+    }
+
+    /** Called once when the last process completed, in every run mode */
+    protected void onRunEnd(MetricsSummary summary) {
+    }
+
+    public boolean hasNext() {
+        return completedCount < loadedCount || pending != null;
+    }
+
+    /**
+     * Executes exactly one dispatch and returns its Gantt slice
+     */
+    public GanttEntry step() {
+        int sliceStart = dispatch();
+        if (!recordGantt) {
+            return null;
+        }
+        GanttEntry entry = arena != null
+                ? arena.ganttEntry(gantt.size(), lastDispatched, sliceStart, currentTime)
+                : new GanttEntry(lastDispatched, sliceStart, currentTime);
+        gantt.add(entry);
+        return entry;
+    }
+
+    /**
+     * One dispatch without touching the Gantt chart
+     *
+     * @return start time of the slice
+     */
+    private int dispatch() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("Schedule already finished");
+        }
+
+        admitArrivals();
+        if (!hasReady()) {
+            // CPU idle until the next arrival or I/O completion
+            currentTime = nextEventTime();
+            admitArrivals();
+        }
+
+        int i = selectNext();
+        boolean switched = lastIndex != -1 && lastIndex != i;
+        if (switched) {
+            summary.contextSwitches++;
+            // Switch and cache warm-up delay the slice; the process does no work meanwhile
+            int cost = overhead.dispatchCost(true, start[i] != -1);
+            currentTime += cost;
+            summary.overheadTime += cost;
+        }
+        lastIndex = i;
+        if (start[i] == -1) {
+            start[i] = currentTime;
+        }
+
+        int slice = sliceLength(i);
+        int sliceStart = currentTime;
+        lastDispatched = ids[i];
+        currentTime += slice;
+        summary.busyTime += slice;
+        remaining[i] -= slice;
+
+        for (ScheduleListener listener : listeners) {
+            listener.onSlice(lastDispatched, sliceStart, currentTime);
+        }
+
+        // Arrivals during the slice queue up before the preempted process
+        admitArrivals();
+
+        if (remaining[i] > 0) {
+            requeue(i);
+        } else if (burstSequence[i] != null && phase[i] + 1 < burstSequence[i].length) {
+            startIo(i);
+        } else {
+            completion[i] = currentTime;
+            completedCount++;
+            int turnaround = Math.max(0, completion[i] - arrival[i]);
+            int waiting = Math.max(0, turnaround - burst[i] - ioTime[i]);
+            summary.recordCompletion(waiting, turnaround, start[i] - arrival[i]);
+            summary.makespan = currentTime;
+            for (ScheduleListener listener : listeners) {
+                listener.onComplete(ids[i], arrival[i], burst[i], priority[i], start[i], completion[i],
+                                    waiting, turnaround);
+            }
+            onComplete(i);
+            // Whatever runs next, even in this slot, is a different process
+            lastIndex = -2;
+            if (source != null) {
+                burstSequence[i] = null;
+                freeSlots.add(i);
+            }
+            if (!hasNext()) {
+                onRunEnd(summary);
+                for (ScheduleListener listener : listeners) {
+                    listener.onFinish(summary);
+                }
+            }
+        }
+        return sliceStart;
+    }
+
+    /**
+     * Queues the next I/O burst of process i on its device. Devices serve
+     * requests in FIFO order, so the completion time is known on enqueue
+     * and only the completion needs to be an event.
+     */
+    private void startIo(int i) {
+        int[] bursts = burstSequence[i];
+        int length = bursts[phase[i] + 1];
+        int device = ioDevice[i];
+        int done = Math.max(currentTime, deviceFreeAt[device]) + length;
+        deviceFreeAt[device] = done;
+        ioTime[i] += done - currentTime;
+        summary.ioTime += done - currentTime;
+        phase[i] += 2;
+        remaining[i] = bursts[phase[i]];
+        ioCompletions.add(done, i);
+    }
+
+    /**
+     * Admits arrivals and I/O completions up to the current time in time
+     * order; at equal times new arrivals go first
+     */
+    private void admitArrivals() {
+        while (true) {
+            int arrivalAt = nextArrivalTime();
+            int ioAt = ioCompletions.isEmpty() ? Integer.MAX_VALUE : ioCompletions.peekKey();
+            if (arrivalAt <= currentTime && arrivalAt <= ioAt) {
+                admit(takeArrival());
+            } else if (ioAt <= currentTime) {
+                admit(ioCompletions.poll());
+            } else {
+                return;
+            }
+        }
+    }
+
+    private int nextEventTime() {
+        int ioAt = ioCompletions.isEmpty() ? Integer.MAX_VALUE : ioCompletions.peekKey();
+        return Math.min(nextArrivalTime(), ioAt);
+    }
+
+    private int nextArrivalTime() {
+        if (source != null) {
+            return pending == null ? Integer.MAX_VALUE : pending.arrivalTime;
+        }
+        return nextArrival < n ? arrival[nextArrival] : Integer.MAX_VALUE;
+    }
+
+    /** Slot of the next arriving process; streamed ones are loaded here */
+    private int takeArrival() {
+        if (source == null) {
+            return nextArrival++;
+        }
+        int i;
+        if (freeSlots.isEmpty()) {
+            i = n++;
+            ensureCapacity(n);
+        } else {
+            i = freeSlots.removeAt(freeSlots.size() - 1);
+        }
+        load(i, pending, loadedCount++);
+        onLoad(i, pending);
+        pending = source.hasNext() ? source.next() : null;
+        return i;
+    }
+
+    /**
+     * Runs to the end without building a result (batch mode)
+     */
+    void runToEnd() {
+        while (hasNext()) {
+            dispatch();
+        }
+    }
+
+    public double getAvgWaitingTime() {
+        return summary.waiting.getMean();
+    }
+
+    public double getAvgTurnaroundTime() {
+        return summary.turnaround.getMean();
+    }
+
+    /**
+     * Metrics accumulated so far; updated in place as the run advances
+     */
+    public MetricsSummary getSummary() {
+        return summary;
+    }
+
+    public ScheduleResult runToCompletion() {
+        while (hasNext()) {
+            step();
+        }
+        return getResult();
+    }
+
+    /**
+     * Final result; only available once {@link #hasNext()} is false, and
+     * not for streamed runs, which keep no per-process results (use
+     * {@link #getSummary()})
+     */
+    public ScheduleResult getResult() {
+        if (hasNext()) {
+            throw new IllegalStateException("Schedule not finished");
+        }
+        if (source != null) {
+            throw new IllegalStateException("Streamed runs keep only the summary");
+        }
+        if (result == null && arena != null) {
+            result = arena.result(n, gantt, summary);
+            double totalWaiting = 0;
+            double totalTurnaround = 0;
+            for (int i = 0; i < n; i++) {
+                Process p = result.processes.get(i);
+                p.id = ids[i];
+                p.arrivalTime = arrival[i];
+                p.burstTime = burst[i];
+                p.priority = priority[i];
+                p.bursts = burstSequence[i];
+                p.ioDevice = ioDevice[i];
+                p.startTime = start[i];
+                p.completionTime = completion[i];
+                p.remainingTime = 0;
+                p.turnaroundTime = Math.max(0, completion[i] - arrival[i]);
+                p.waitingTime = Math.max(0, p.turnaroundTime - burst[i] - ioTime[i]);
+                totalWaiting += p.waitingTime;
+                totalTurnaround += p.turnaroundTime;
+            }
+            result.avgWaitingTime = n == 0 ? 0 : totalWaiting / n;
+            result.avgTurnaroundTime = n == 0 ? 0 : totalTurnaround / n;
+            onFinish(result);
+        } else if (result == null) {
+            List<Process> processes = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                Process p = new Process(ids[i], arrival[i], burst[i], priority[i]);
+                p.bursts = burstSequence[i];
+                p.ioDevice = ioDevice[i];
+                p.startTime = start[i];
+                p.completionTime = completion[i];
+                p.remainingTime = 0;
+                p.turnaroundTime = Math.max(0, completion[i] - arrival[i]); // Ensure non-negative
+                p.waitingTime = Math.max(0, p.turnaroundTime - burst[i] - ioTime[i]); // Ensure non-negative
+                processes.add(p);
+            }
+            result = scheduler.calculateMetrics(processes, gantt);
+            result.summary = summary; // the run is finished, so it no longer changes
+            onFinish(result);
+        }
+        return result;
+    }
+
+    /**
+     * Slices dispatched so far, in time order
+     */
+    public List<GanttEntry> getGanttChart() {
+        return Collections.unmodifiableList(gantt);
+    }
+
+    public int getCurrentTime() {
+        return currentTime;
+    }
+
+    public int getCompletedCount() {
+        return completedCount;
+    }
+
+    /**
+     * Processes loaded so far; for a streamed run this grows as it advances
+     */
+    public int getProcessCount() {
+        return loadedCount;
+    }
+}
@@ -1,12 +1,170 @@
 package com.example.os.scheduler;
 
+import com.example.os.model.BatchResult;
+import com.example.os.model.MetricsSummary;
 import com.example.os.model.Process;
 import com.example.os.model.ScheduleResult;
 import com.example.os.model.GanttEntry;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 public abstract class Scheduler {
-    public abstract ScheduleResult schedule(List<Process> processes);
+    // Run reused by scheduleBatch, so its buffers survive across batches
+    private ScheduleRun batchRun;
+    private OverheadModel overheadModel = OverheadModel.NONE;
+    private final List<ScheduleListener> listeners = new ArrayList<>();
+    private ScheduleListener[] listenerArray = new ScheduleListener[0]; // handed to every run
+    
+    /**
+     * Context-switch costs charged by runs started after this call
+     */
+    public void setOverheadModel(OverheadModel overheadModel) {
+        this.overheadModel = overheadModel;
+    }
+    
+    public OverheadModel getOverheadModel() {
+        return overheadModel;
+    }
+    
+    /**
+     * Streams slices and completed processes of runs started after this
+     * call to {@code listener}, in every mode including summary-only and
+     * streaming runs
+     */
+    public void addScheduleListener(ScheduleListener listener) {
+        listeners.add(listener);
+        listenerArray = listeners.toArray(new ScheduleListener[0]);
+    }
+    
+    public void removeScheduleListener(ScheduleListener listener) {
+        listeners.remove(listener);
+        listenerArray = listeners.toArray(new ScheduleListener[0]);
+    }
+    
+    /** Current listeners; runs only read the array, so it is shared */
+    ScheduleListener[] getScheduleListeners() {
+        return listenerArray;
+    }
+    
+    /**
+     * Creates an empty run of this policy; workloads are loaded with
+     * {@link ScheduleRun#reset}
+     */
+    protected abstract ScheduleRun createRun();
+    
+    /**
+     * Starts a step-wise run over {@code processes}; the list is not modified
+     */
+    public ScheduleRun start(List<Process> processes) {
+        ScheduleRun run = createRun();
+        run.reset(processes);
+        return run;
+    }
+    
+    /**
+     * Starts a step-wise run that reads {@code workload} in place; any
+     * number of runs may share it
+     */
+    public ScheduleRun start(Workload workload) {
+        ScheduleRun run = createRun();
+        run.reset(workload);
+        return run;
+    }
+    
+    public ScheduleResult schedule(List<Process> processes) {
+        return start(processes).runToCompletion();
+    }
+    
+    public ScheduleResult schedule(Workload workload) {
+        return start(workload).runToCompletion();
+    }
+    
+    /**
+     * Full run, Gantt chart included, on the reusable scratch space of
+     * {@code arena}; once the arena has seen a workload this large, the
+     * run allocates nothing. The result belongs to the arena and is only
+     * valid until its next run.
+     */
+    public ScheduleResult schedule(List<Process> processes, SimulationArena arena) {
+        ScheduleRun run = arena.runFor(this);
+        run.reset(processes);
+        return run.runToCompletion();
+    }
+    
+    public ScheduleResult schedule(Workload workload, SimulationArena arena) {
+        ScheduleRun run = arena.runFor(this);
+        run.reset(workload);
+        return run.runToCompletion();
+    }
+    
+    /**
+     * Schedules many workloads in one call and records only their summary
+     * metrics. Scratch arrays, ready queues and {@code results} are reused
+     * across workloads and calls, and no Gantt chart or per-process result
+     * is built, so a warmed-up batch allocates next to nothing. Not thread
+     * safe: use one scheduler instance per thread.
+     */
+    public BatchResult scheduleBatch(List<List<Process>> workloads, BatchResult results) {
+        ScheduleRun run = batchRun();
+        results.reset(workloads.size());
+        for (int w = 0; w < workloads.size(); w++) {
+            run.reset(workloads.get(w));
+            run.runToEnd();
+            results.add(run.getAvgWaitingTime(), run.getAvgTurnaroundTime(), run.getCurrentTime());
+        }
+        return results;
+    }
+    
+    public BatchResult scheduleBatch(List<List<Process>> workloads) {
+        return scheduleBatch(workloads, new BatchResult());
+    }
+    
+    /**
+     * Summary-only mode: runs {@code processes} without keeping the Gantt
+     * chart or per-process results and returns the aggregated metrics,
+     * including latency percentiles. Shares the reusable run of
+     * {@link #scheduleBatch}.
+     */
+    public MetricsSummary summarize(List<Process> processes) {
+        ScheduleRun run = batchRun();
+        run.reset(processes);
+        run.runToEnd();
+        return run.getSummary().copy();
+    }
+    
+    /**
+     * Summary-only run over a shared workload; nothing of the workload is
+     * copied, so a comparison can build it once for all schedulers
+     */
+    public MetricsSummary summarize(Workload workload) {
+        ScheduleRun run = batchRun();
+        run.reset(workload);
+        run.runToEnd();
+        return run.getSummary().copy();
+    }
+    
+    /**
+     * Streaming mode: schedules processes pulled from {@code processes} as
+     * the simulation reaches their arrival, reusing the state of completed
+     * ones, so arbitrarily long traces run in memory proportional to the
+     * number of processes alive at once. Processes must come in
+     * non-decreasing arrival order.
+     */
+    public MetricsSummary summarize(Iterator<Process> processes) {
+        ScheduleRun run = batchRun();
+        run.reset(processes);
+        run.runToEnd();
+        return run.getSummary().copy();
+    }
+    
+    private ScheduleRun batchRun() {
+        if (batchRun == null) {
+            batchRun = createRun();
+            batchRun.setRecordGantt(false);
+        }
+        return batchRun;
+    }
     
     protected ScheduleResult calculateMetrics(List<Process> processes, List<GanttEntry> ganttChart) {
         double totalWaiting = 0;
@@ -23,4 +181,3 @@ public abstract class Scheduler {
         return new ScheduleResult(processes, ganttChart, avgWaiting, avgTurnaround);
     }
 }
-
@@ -0,0 +1,77 @@
+package com.example.os.scheduler;
+
+import com.example.os.ai.AIPredictor;
+import java.util.List;
+
+/**
+ * Creates schedulers by algorithm name, for the UI and headless callers
+ * alike. Names are the ones shown in the UI; lookups also accept them in
+ * any case and without spaces, plus the short forms "rr" and "intelligent".
+ */
+public final class SchedulerFactory {
+    public static final String FCFS = "FCFS";
+    public static final String SJF = "SJF";
+    public static final String ROUND_ROBIN = "Round Robin";
+    public static final String PRIORITY = "Priority";
+    public static final String INTELLIGENT = "Intelligent AI Scheduler";
+    public static final List<String> ALGORITHMS = List.of(FCFS, SJF, ROUND_ROBIN, PRIORITY, INTELLIGENT);
+    public static final int DEFAULT_TIME_QUANTUM = 2;
+
+    private SchedulerFactory() {}
+
+    /**
+     * UI name of an algorithm, or null if {@code algorithm} names none
+     */
+    public static String canonicalName(String algorithm) {
+        if (algorithm == null) return null;
+        String key = algorithm.replaceAll("[^A-Za-z]", "").toLowerCase();
+        switch (key) {
+            case "fcfs":
+                return FCFS;
+            case "sjf":
+                return SJF;
+            case "roundrobin":
+            case "rr":
+                return ROUND_ROBIN;
+            case "priority":
+                return PRIORITY;
+            case "intelligentaischeduler":
+            case "intelligent":
+                return INTELLIGENT;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @param timeQuantum used by Round Robin only
+     * @param predictor   used by the intelligent scheduler only
+     * @throws IllegalArgumentException for an unknown algorithm
+     */
+    public static Scheduler create(String algorithm, int timeQuantum, AIPredictor predictor,
+                                   OverheadModel overheadModel) {
+        String name = canonicalName(algorithm);
+        if (name == null) {
+            throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+        Scheduler scheduler;
+        switch (name) {
+            case SJF:
+                scheduler = new SJFScheduler();
+                break;
+            case ROUND_ROBIN:
+                scheduler = new RoundRobinScheduler(timeQuantum);
+                break;
+            case PRIORITY:
+                scheduler = new PriorityScheduler();
+                break;
+            case INTELLIGENT:
+                scheduler = new IntelligentAIScheduler(predictor);
+                break;
+            default:
+                scheduler = new FCFSScheduler();
+        }
+        scheduler.setOverheadModel(overheadModel);
+        return scheduler;
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.os.scheduler;
+
+/**
+ * Bulk form of {@link IntelligentAIScheduler#score}: finds the best of a
+ * whole ready list in one pass over its packed columns.
+ *
+ * A score is {@code (base + waitingScore(w) * waitingWeight) + urgency},
+ * added in exactly the order of the scalar policy. The base (priority and
+ * burst terms) is fixed per process and packed at admission;
+ * {@code waitingScore} comes from a table of the very values
+ * {@code Math.log} yields; the urgency term takes one of eight values
+ * picked by three flags. Every kernel therefore produces bit-for-bit the
+ * scalar scores, and the same winner: the highest score, the earliest
+ * position on ties.
+ *
+ * {@link #INSTANCE} uses the {@code jdk.incubator.vector} API when that
+ * module is present (run with {@code --add-modules jdk.incubator.vector})
+ * and a scalar loop over the same tables otherwise.
+ */
+abstract class ScoreKernel {
+    // Urgency flags: URGENT_WAIT is set per pass, the others at admission
+    static final int URGENT_WAIT = 1;   // waiting longer than the predicted burst
+    static final int SHORT_BURST = 2;   // predicted burst <= 3, counts only with more than 2 ready
+    static final int HIGH_PRIORITY = 4; // priority <= 2
+    static final int URGENCY_CASES = 8;
+
+    /** Waiting scores are tabulated up to this waiting time */
+    static final int WAITING_TABLE_LIMIT = 1 << 20;
+    private static volatile double[] waitingScores = new double[0];
+
+    static final ScoreKernel INSTANCE = create();
+
+    /**
+     * Position of the best entry of {@code ready}
+     *
+     * @param maxWaiting    upper bound of any entry's waiting time
+     * @param urgencyTerms  weighted urgency by flags
+     */
+    abstract int selectBest(ScoredReadyList ready, int now, int maxWaiting,
+                            double waitingWeight, double[] urgencyTerms);
+
+    static int staticFlags(int priority, int predictedBurst) {
+        return (predictedBurst <= 3 ? SHORT_BURST : 0) | (priority <= 2 ? HIGH_PRIORITY : 0);
+    }
+
+    /** Flags honoured in a pass over {@code readyCount} processes */
+    static int flagMask(int readyCount) {
+        return readyCount > 2 ? SHORT_BURST | HIGH_PRIORITY : HIGH_PRIORITY;
+    }
+
+    /**
+     * Table of {@link IntelligentAIScheduler#waitingScore} covering waiting
+     * times up to {@code maxWaiting}, or shorter at the size limit. Tables
+     * only grow and hold the same values whoever builds them, so threads
+     * share them without locking.
+     */
+    static double[] waitingScores(int maxWaiting) {
+        double[] table = waitingScores;
+        if (maxWaiting < table.length || table.length == WAITING_TABLE_LIMIT) {
+            return table;
+        }
+        int length = (int) Math.min(WAITING_TABLE_LIMIT, Math.max(maxWaiting + 1L, Math.max(1024, table.length * 2L)));
+        double[] larger = new double[length];
+        System.arraycopy(table, 0, larger, 0, table.length);
+        for (int w = table.length; w < length; w++) {
+            larger[w] = IntelligentAIScheduler.waitingScore(w);
+        }
+        waitingScores = larger;
+        return larger;
+    }
+
+    private static ScoreKernel create() {
+        try {
+            if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+                return (ScoreKernel) Class.forName("com.example.os.scheduler.VectorScoreKernel")
+                        .getDeclaredConstructor().newInstance();
+            }
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Module present but unusable here; the scalar kernel gives the same results
+        }
+        return new Scalar();
+    }
+
+    /**
+     * Score of entry {@code p} the slow way, for waiting times outside the table
+     */
+    static double score(ScoredReadyList ready, int p, int now, int mask,
+                        double waitingWeight, double[] urgencyTerms) {
+        int waiting = now - ready.arrival[p];
+        int flags = (ready.flags[p] & mask) | (waiting > ready.predicted[p] ? URGENT_WAIT : 0);
+        return (ready.base[p] + IntelligentAIScheduler.waitingScore(waiting) * waitingWeight) + urgencyTerms[flags];
+    }
+
+    static final class Scalar extends ScoreKernel {
+        @Override
+        int selectBest(ScoredReadyList ready, int now, int maxWaiting,
+                       double waitingWeight, double[] urgencyTerms) {
+            double[] table = waitingScores(maxWaiting);
+            int mask = flagMask(ready.size);
+            double[] base = ready.base;
+            int[] arrival = ready.arrival;
+            int[] predicted = ready.predicted;
+            int[] flags = ready.flags;
+
+            int best = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int p = 0; p < ready.size; p++) {
+                int waiting = now - arrival[p];
+                double score;
+                if (waiting >= 0 && waiting < table.length) {
+                    int f = (flags[p] & mask) | (waiting > predicted[p] ? URGENT_WAIT : 0);
+                    score = (base[p] + table[waiting] * waitingWeight) + urgencyTerms[f];
+                } else {
+                    score = score(ready, p, now, mask, waitingWeight, urgencyTerms);
+                }
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = p;
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.os.scheduler;
+
+import java.util.Arrays;
+
+/**
+ * Ready list of the intelligent scheduler. The inputs of each process's
+ * score are packed next to its slot in ready order, so a selection pass
+ * streams through contiguous primitive arrays. Removal keeps the order,
+ * which decides ties; sampled selection, which has no ties to decide,
+ * removes in constant time instead.
+ */
+final class ScoredReadyList {
+    int size;
+    int[] slots = new int[16];
+    double[] base = new double[16]; // priority and burst terms of the score
+    int[] arrival = new int[16];
+    int[] predicted = new int[16];
+    int[] flags = new int[16];      // static urgency bits, see ScoreKernel
+    // Scratch for the vector kernel's gathers
+    int[] waiting = new int[16];
+    int[] urgency = new int[16];
+
+    void add(int slot, double baseScore, int arrivalTime, int predictedBurst, int urgencyFlags) {
+        if (size == slots.length) {
+            int capacity = size * 2;
+            slots = Arrays.copyOf(slots, capacity);
+            base = Arrays.copyOf(base, capacity);
+            arrival = Arrays.copyOf(arrival, capacity);
+            predicted = Arrays.copyOf(predicted, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+            waiting = new int[capacity];
+            urgency = new int[capacity];
+        }
+        slots[size] = slot;
+        base[size] = baseScore;
+        arrival[size] = arrivalTime;
+        predicted[size] = predictedBurst;
+        flags[size] = urgencyFlags;
+        size++;
+    }
+
+    int get(int position) {
+        return slots[position];
+    }
+
+    /** Removes the entry at {@code position} and returns its slot */
+    int removeAt(int position) {
+        int slot = slots[position];
+        int tail = size - position - 1;
+        System.arraycopy(slots, position + 1, slots, position, tail);
+        System.arraycopy(base, position + 1, base, position, tail);
+        System.arraycopy(arrival, position + 1, arrival, position, tail);
+        System.arraycopy(predicted, position + 1, predicted, position, tail);
+        System.arraycopy(flags, position + 1, flags, position, tail);
+        size--;
+        return slot;
+    }
+
+    /**
+     * Removes the entry at {@code position} by moving the last entry into
+     * its place, and returns its slot
+     */
+    int swapRemove(int position) {
+        int slot = slots[position];
+        int last = --size;
+        slots[position] = slots[last];
+        base[position] = base[last];
+        arrival[position] = arrival[last];
+        predicted[position] = predicted[last];
+        flags[position] = flags[last];
+        return slot;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.os.scheduler;
+
+import com.example.os.model.GanttEntry;
+import com.example.os.model.MetricsSummary;
+import com.example.os.model.Process;
+import com.example.os.model.ScheduleResult;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Reusable scratch space for repeated full runs, see
+ * {@link Scheduler#schedule(Workload, SimulationArena)}.
+ *
+ * The arena keeps one run per scheduler, with its columns, ready queue and
+ * heaps, plus pools of Gantt entries and result processes and a single
+ * result object. Everything grows to the largest workload seen and is
+ * reset, not reallocated, between runs, so a warmed-up arena runs without
+ * allocating. In exchange a result is only valid until the arena's next
+ * run. Not thread safe: use one arena per thread.
+ */
+public final class SimulationArena {
+    private final IdentityHashMap<Scheduler, ScheduleRun> runs = new IdentityHashMap<>();
+    private GanttEntry[] ganttPool = new GanttEntry[0];
+    private Process[] processPool = new Process[0];
+    private final ArrayList<Process> processes = new ArrayList<>();
+    private final ScheduleResult result = new ScheduleResult(processes, List.of(), 0, 0);
+
+    public SimulationArena() {
+        result.summary = new MetricsSummary();
+    }
+
+    /** The arena's run of {@code scheduler}, created on first use */
+    ScheduleRun runFor(Scheduler scheduler) {
+        ScheduleRun run = runs.get(scheduler);
+        if (run == null) {
+            run = scheduler.createRun();
+            run.setArena(this);
+            runs.put(scheduler, run);
+        }
+        return run;
+    }
+
+    /** Recycled Gantt entry for slice {@code index} of the current run */
+    GanttEntry ganttEntry(int index, int processId, int startTime, int endTime) {
+        if (index >= ganttPool.length) {
+            int oldLength = ganttPool.length;
+            ganttPool = Arrays.copyOf(ganttPool, Math.max(16, Math.max(index + 1, oldLength * 2)));
+            for (int i = oldLength; i < ganttPool.length; i++) {
+                ganttPool[i] = new GanttEntry(0, 0, 0);
+            }
+        }
+        GanttEntry entry = ganttPool[index];
+        entry.processId = processId;
+        entry.startTime = startTime;
+        entry.endTime = endTime;
+        return entry;
+    }
+
+    /**
+     * The shared result, emptied and holding {@code count} recycled
+     * processes for the caller to fill
+     */
+    ScheduleResult result(int count, List<GanttEntry> gantt, MetricsSummary summary) {
+        if (count > processPool.length) {
+            int oldLength = processPool.length;
+            processPool = Arrays.copyOf(processPool, Math.max(count, oldLength * 2));
+            for (int i = oldLength; i < processPool.length; i++) {
+                processPool[i] = new Process(0, 0, 0, 0);
+            }
+        }
+        processes.clear();
+        for (int i = 0; i < count; i++) {
+            processes.add(processPool[i]);
+        }
+        result.set(processes, gantt, 0, 0);
+        result.summary.set(summary);
+        return result;
+    }
+
+    /**
+     * Drops the runs and pools, e.g. after a one-off huge workload
+     */
+    public void clear() {
+        runs.clear();
+        ganttPool = new GanttEntry[0];
+        processPool = new Process[0];
+        processes.clear();
+        processes.trimToSize();
+        result.set(processes, List.of(), 0, 0);
+    }
+}
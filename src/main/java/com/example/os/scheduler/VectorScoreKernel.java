@@ -0,0 +1,90 @@
+package com.example.os.scheduler;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD {@link ScoreKernel}: scores one vector of ready entries per step
+ * with table gathers, keeping the best score and its position per lane.
+ * Only loaded when the {@code jdk.incubator.vector} module is present.
+ */
+final class VectorScoreKernel extends ScoreKernel {
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    // Ints with as many lanes as DOUBLES, so masks convert lane for lane
+    private static final VectorSpecies<Integer> INTS =
+            VectorSpecies.of(int.class, VectorShape.forBitSize(DOUBLES.length() * Integer.SIZE));
+    private static final int LANES = DOUBLES.length();
+
+    @Override
+    int selectBest(ScoredReadyList ready, int now, int maxWaiting,
+                   double waitingWeight, double[] urgencyTerms) {
+        double[] table = waitingScores(maxWaiting);
+        int count = ready.size;
+        int mask = flagMask(count);
+        double[] base = ready.base;
+        int[] arrival = ready.arrival;
+        int[] predicted = ready.predicted;
+        int[] flags = ready.flags;
+        int[] waiting = ready.waiting;
+        int[] urgency = ready.urgency;
+
+        IntVector nowVector = IntVector.broadcast(INTS, now);
+        DoubleVector bestScores = DoubleVector.broadcast(DOUBLES, Double.NEGATIVE_INFINITY);
+        IntVector bestPositions = IntVector.broadcast(INTS, -1);
+        IntVector positions = IntVector.zero(INTS).addIndex(1);
+        // Entries the vectors cannot score (waiting time outside the table) go scalar
+        int best = -1;
+        double bestScore = Double.NEGATIVE_INFINITY;
+
+        int bound = INTS.loopBound(count);
+        for (int p = 0; p < bound; p += LANES, positions = positions.add(LANES)) {
+            IntVector w = nowVector.sub(IntVector.fromArray(INTS, arrival, p));
+            if (w.compare(VectorOperators.LT, 0).or(w.compare(VectorOperators.GE, table.length)).anyTrue()) {
+                for (int q = p; q < p + LANES; q++) {
+                    double score = score(ready, q, now, mask, waitingWeight, urgencyTerms);
+                    if (score > bestScore) {
+                        bestScore = score;
+                        best = q;
+                    }
+                }
+                continue;
+            }
+            IntVector staticFlags = IntVector.fromArray(INTS, flags, p).and(mask);
+            IntVector f = staticFlags.blend(staticFlags.or(URGENT_WAIT),
+                                            w.compare(VectorOperators.GT, IntVector.fromArray(INTS, predicted, p)));
+            w.intoArray(waiting, p);
+            f.intoArray(urgency, p);
+
+            DoubleVector scores = DoubleVector.fromArray(DOUBLES, base, p)
+                    .add(DoubleVector.fromArray(DOUBLES, table, 0, waiting, p).mul(waitingWeight))
+                    .add(DoubleVector.fromArray(DOUBLES, urgencyTerms, 0, urgency, p));
+            VectorMask<Double> better = scores.compare(VectorOperators.GT, bestScores);
+            bestScores = bestScores.blend(scores, better);
+            bestPositions = bestPositions.blend(positions, better.cast(INTS));
+        }
+
+        // Lanes hold the earliest best of their own positions; merge them and
+        // the scalar entries by (highest score, earliest position)
+        for (int lane = 0; lane < LANES; lane++) {
+            int position = bestPositions.lane(lane);
+            if (position < 0) continue;
+            double score = bestScores.lane(lane);
+            if (score > bestScore || (score == bestScore && position < best)) {
+                bestScore = score;
+                best = position;
+            }
+        }
+        for (int p = bound; p < count; p++) {
+            double score = score(ready, p, now, mask, waitingWeight, urgencyTerms);
+            if (score > bestScore) {
+                bestScore = score;
+                best = p;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.os.scheduler;
+
+import com.example.os.model.Process;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The immutable half of a schedule: a workload in primitive columns,
+ * sorted by arrival time (stable for equal arrivals).
+ *
+ * Runs only read these columns and keep their mutable state (remaining
+ * time, start, completion, ...) in arrays of their own, so one workload
+ * built with {@link #of(List)} can be shared by every scheduler of a
+ * comparison without copying a single process.
+ */
+public final class Workload {
+    // Indexed by position in arrival order; arrays may be longer than size
+    int size;
+    int[] ids = new int[0];
+    int[] arrival = new int[0];
+    int[] burst = new int[0];
+    int[] priority = new int[0];
+    int[] inputIndex = new int[0]; // position in the source list (or stream)
+    int[][] burstSequence = new int[0][]; // CPU, I/O, CPU, ...; null for a single CPU burst
+    int[] ioDevice = new int[0];
+    int deviceCount; // I/O devices used, highest device number + 1
+    List<Process> processes; // source list, for policies that need whole processes
+    private long[] sortKeys = new long[0];
+
+    Workload() {
+    }
+
+    /**
+     * Builds the columns of {@code processes}, which must not change while
+     * the workload is in use
+     */
+    public static Workload of(List<Process> processes) {
+        Workload workload = new Workload();
+        workload.load(processes);
+        return workload;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** The list the workload was built from, in its original order */
+    public List<Process> getProcesses() {
+        return processes;
+    }
+
+    /**
+     * Replaces the contents with {@code processes}, reusing the columns
+     * unless the list is larger than every earlier one
+     */
+    void load(List<Process> processes) {
+        int n = processes.size();
+        size = n;
+        deviceCount = 0;
+        this.processes = processes;
+        ensureCapacity(n);
+        if (sortKeys.length < n) {
+            sortKeys = new long[ids.length];
+        }
+
+        // Sort (arrival, input position) packed into longs: stable and boxing-free
+        for (int i = 0; i < n; i++) {
+            sortKeys[i] = ((long) processes.get(i).arrivalTime << 32) | i;
+        }
+        Arrays.sort(sortKeys, 0, n);
+
+        for (int i = 0; i < n; i++) {
+            int source = (int) sortKeys[i];
+            set(i, processes.get(source), source);
+        }
+    }
+
+    /** Grows the columns to at least {@code capacity} entries, keeping their contents */
+    void ensureCapacity(int capacity) {
+        if (ids.length >= capacity) return;
+        capacity = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        arrival = Arrays.copyOf(arrival, capacity);
+        burst = Arrays.copyOf(burst, capacity);
+        priority = Arrays.copyOf(priority, capacity);
+        inputIndex = Arrays.copyOf(inputIndex, capacity);
+        burstSequence = Arrays.copyOf(burstSequence, capacity);
+        ioDevice = Arrays.copyOf(ioDevice, capacity);
+    }
+
+    void set(int i, Process p, int position) {
+        ids[i] = p.id;
+        arrival[i] = p.arrivalTime;
+        burst[i] = p.burstTime;
+        priority[i] = p.priority;
+        inputIndex[i] = position;
+        burstSequence[i] = p.bursts;
+        ioDevice[i] = p.ioDevice;
+        if (p.bursts != null) {
+            deviceCount = Math.max(deviceCount, p.ioDevice + 1);
+        }
+    }
+}
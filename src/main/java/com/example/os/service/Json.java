@@ -0,0 +1,211 @@
+package com.example.os.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal JSON support for the service, so it needs no library: a parser
+ * to maps, lists, strings, numbers (Long or Double), booleans and null,
+ * and a string quoter for hand-built responses.
+ */
+final class Json {
+    // Deeper nesting is rejected rather than risking the parser's stack
+    static final int MAX_DEPTH = 64;
+
+    private final String text;
+    private int pos;
+    private int depth;
+
+    private Json(String text) {
+        this.text = text;
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code text} is not valid JSON
+     */
+    static Object parse(String text) {
+        Json parser = new Json(text);
+        Object value = parser.readValue();
+        parser.skipWhitespace();
+        if (parser.pos != text.length()) {
+            throw parser.error("Unexpected trailing content");
+        }
+        return value;
+    }
+
+    static void quote(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': out.append("\\\""); break;
+                case '\\': out.append("\\\\"); break;
+                case '\n': out.append("\\n"); break;
+                case '\r': out.append("\\r"); break;
+                case '\t': out.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        out.append('"');
+    }
+
+    private Object readValue() {
+        skipWhitespace();
+        if (pos >= text.length()) {
+            throw error("Unexpected end of input");
+        }
+        char c = text.charAt(pos);
+        switch (c) {
+            case '{':
+            case '[':
+                if (++depth > MAX_DEPTH) {
+                    throw error("Nesting deeper than " + MAX_DEPTH);
+                }
+                Object nested = c == '{' ? readObject() : readArray();
+                depth--;
+                return nested;
+            case '"': return readString();
+            case 't': return readLiteral("true", Boolean.TRUE);
+            case 'f': return readLiteral("false", Boolean.FALSE);
+            case 'n': return readLiteral("null", null);
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    return readNumber();
+                }
+                throw error("Unexpected character '" + c + "'");
+        }
+    }
+
+    private Map<String, Object> readObject() {
+        Map<String, Object> object = new LinkedHashMap<>();
+        pos++;
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+            return object;
+        }
+        while (true) {
+            skipWhitespace();
+            if (peek() != '"') throw error("Expected a field name");
+            String key = readString();
+            skipWhitespace();
+            expect(':');
+            object.put(key, readValue());
+            skipWhitespace();
+            if (peek() == ',') {
+                pos++;
+            } else {
+                expect('}');
+                return object;
+            }
+        }
+    }
+
+    private List<Object> readArray() {
+        List<Object> array = new ArrayList<>();
+        pos++;
+        skipWhitespace();
+        if (peek() == ']') {
+            pos++;
+            return array;
+        }
+        while (true) {
+            array.add(readValue());
+            skipWhitespace();
+            if (peek() == ',') {
+                pos++;
+            } else {
+                expect(']');
+                return array;
+            }
+        }
+    }
+
+    private String readString() {
+        pos++; // opening quote
+        StringBuilder out = new StringBuilder();
+        while (true) {
+            if (pos >= text.length()) throw error("Unterminated string");
+            char c = text.charAt(pos++);
+            if (c == '"') return out.toString();
+            if (c != '\\') {
+                out.append(c);
+                continue;
+            }
+            if (pos >= text.length()) throw error("Unterminated string");
+            char escape = text.charAt(pos++);
+            switch (escape) {
+                case '"': case '\\': case '/': out.append(escape); break;
+                case 'b': out.append('\b'); break;
+                case 'f': out.append('\f'); break;
+                case 'n': out.append('\n'); break;
+                case 'r': out.append('\r'); break;
+                case 't': out.append('\t'); break;
+                case 'u':
+                    if (pos + 4 > text.length()) throw error("Bad unicode escape");
+                    try {
+                        out.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw error("Bad unicode escape");
+                    }
+                    pos += 4;
+                    break;
+                default:
+                    throw error("Bad escape '\\" + escape + "'");
+            }
+        }
+    }
+
+    private Object readNumber() {
+        int start = pos;
+        boolean integral = true;
+        if (peek() == '-') pos++;
+        while (pos < text.length()) {
+            char c = text.charAt(pos);
+            if (c >= '0' && c <= '9') {
+                pos++;
+            } else if (c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-') {
+                integral = false;
+                pos++;
+            } else {
+                break;
+            }
+        }
+        String number = text.substring(start, pos);
+        try {
+            return integral ? (Object) Long.parseLong(number) : (Object) Double.parseDouble(number);
+        } catch (NumberFormatException e) {
+            throw error("Bad number " + number);
+        }
+    }
+
+    private Object readLiteral(String literal, Object value) {
+        if (!text.startsWith(literal, pos)) throw error("Unexpected token");
+        pos += literal.length();
+        return value;
+    }
+
+    private void skipWhitespace() {
+        while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) pos++;
+    }
+
+    private char peek() {
+        return pos < text.length() ? text.charAt(pos) : '\0';
+    }
+
+    private void expect(char c) {
+        if (peek() != c) throw error("Expected '" + c + "'");
+        pos++;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + pos);
+    }
+}
@@ -0,0 +1,352 @@
+package com.example.os.service;
+
+import com.example.os.ai.AIPredictor;
+import com.example.os.ai.ConcurrentAIPredictor;
+import com.example.os.model.GanttEntry;
+import com.example.os.model.MetricsSummary;
+import com.example.os.model.Process;
+import com.example.os.model.ScheduleResult;
+import com.example.os.scheduler.OverheadModel;
+import com.example.os.scheduler.ScheduleRun;
+import com.example.os.scheduler.Scheduler;
+import com.example.os.scheduler.SchedulerFactory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Embeddable HTTP front end to the schedulers, built on the JDK's HttpServer
+ * with one virtual thread per request and no JavaFX.
+ *
+ * <pre>
+ * POST /schedule   {"algorithm": "SJF", "timeQuantum": 2, "switchCost": 0, "cacheWarmup": 0,
+ *                   "gantt": true, "processes": [{"id": 1, "arrival": 0, "burst": 5, "priority": 2}, ...]}
+ *                  processes may also give "bursts": [cpu, io, cpu, ...] and "ioDevice"
+ * GET  /algorithms names accepted by "algorithm"
+ * GET  /health
+ * </pre>
+ *
+ * The schedule response carries the summary metrics, per-process results
+ * and, unless "gantt" is false, the Gantt chart as [process, start, end]
+ * triples. Errors are {"error": "..."} with status 400, 404, 405 or 413,
+ * or 500 without details for an unexpected failure, which is logged to the
+ * {@link System.Logger} named after this class.
+ * Workloads that could run the clock past {@link #MAX_TIME}, or whose
+ * schedule grows beyond {@link #MAX_GANTT_SLICES} slices, are rejected
+ * with 400.
+ * All requests share one thread-safe predictor, so the intelligent
+ * scheduler learns across requests.
+ */
+public class SchedulingService implements AutoCloseable {
+    public static final int MAX_BODY_BYTES = 64 << 20;
+    /** Latest time a schedule may reach, well clear of int overflow */
+    public static final int MAX_TIME = 1 << 30;
+    public static final int MAX_GANTT_SLICES = 1 << 20;
+
+    private static final System.Logger LOG = System.getLogger(SchedulingService.class.getName());
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AIPredictor predictor;
+
+    /**
+     * Binds to the loopback interface; port 0 picks a free port (see {@link #getPort()})
+     */
+    public SchedulingService(int port) throws IOException {
+        this(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), new ConcurrentAIPredictor());
+    }
+
+    /**
+     * @param predictor shared by all requests, so it must be thread safe
+     */
+    public SchedulingService(InetSocketAddress address, AIPredictor predictor) throws IOException {
+        this.predictor = predictor;
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(address, 0);
+        server.setExecutor(executor);
+        server.createContext("/schedule", this::handleSchedule);
+        server.createContext("/algorithms", this::handleAlgorithms);
+        server.createContext("/health", exchange -> {
+            if (route(exchange, "/health", "GET")) {
+                send(exchange, 200, "{\"status\":\"ok\"}");
+            }
+        });
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops accepting requests and waits up to a second for running ones
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.close();
+    }
+
+    private void handleAlgorithms(HttpExchange exchange) throws IOException {
+        if (!route(exchange, "/algorithms", "GET")) return;
+        StringBuilder json = new StringBuilder("{\"algorithms\":[");
+        for (int i = 0; i < SchedulerFactory.ALGORITHMS.size(); i++) {
+            if (i > 0) json.append(',');
+            Json.quote(json, SchedulerFactory.ALGORITHMS.get(i));
+        }
+        send(exchange, 200, json.append("]}").toString());
+    }
+
+    private void handleSchedule(HttpExchange exchange) throws IOException {
+        if (!route(exchange, "/schedule", "POST")) return;
+        String body;
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readNBytes(MAX_BODY_BYTES + 1);
+            if (bytes.length > MAX_BODY_BYTES) {
+                sendError(exchange, 413, "Request body over " + MAX_BODY_BYTES + " bytes");
+                return;
+            }
+            body = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        String response;
+        try {
+            response = schedule(body);
+        } catch (IllegalArgumentException e) {
+            sendError(exchange, 400, e.getMessage() != null ? e.getMessage() : "Malformed request");
+            return;
+        } catch (RuntimeException e) {
+            // A bug, not a bad request: log it, but keep its details out of the response
+            LOG.log(System.Logger.Level.ERROR, "Scheduling request failed", e);
+            sendError(exchange, 500, "Internal error");
+            return;
+        }
+        send(exchange, 200, response);
+    }
+
+    /**
+     * Runs the scheduling request in {@code body} and returns the JSON response
+     *
+     * @throws IllegalArgumentException for malformed requests
+     */
+    String schedule(String body) {
+        if (!(Json.parse(body) instanceof Map<?, ?> request)) {
+            throw new IllegalArgumentException("Request must be a JSON object");
+        }
+        if (!(request.get("algorithm") instanceof String algorithm)) {
+            throw new IllegalArgumentException(request.containsKey("algorithm")
+                ? "\"algorithm\" must be a string" : "Missing \"algorithm\"");
+        }
+        int quantum = intField(request, "timeQuantum", SchedulerFactory.DEFAULT_TIME_QUANTUM);
+        if (quantum < 1) {
+            throw new IllegalArgumentException("\"timeQuantum\" must be positive");
+        }
+        int switchCost = intField(request, "switchCost", 0);
+        int cacheWarmup = intField(request, "cacheWarmup", 0);
+        if (switchCost > MAX_TIME || cacheWarmup > MAX_TIME) {
+            throw new IllegalArgumentException("Overhead costs must not exceed " + MAX_TIME);
+        }
+        OverheadModel overhead = new OverheadModel(switchCost, cacheWarmup);
+        Scheduler scheduler = SchedulerFactory.create(algorithm, quantum, predictor, overhead);
+        List<Process> processes = parseProcesses(request.get("processes"));
+        checkTimeLimit(processes, overhead);
+        Object gantt = request.get("gantt");
+        if (gantt != null && !(gantt instanceof Boolean)) {
+            throw new IllegalArgumentException("\"gantt\" must be true or false");
+        }
+        boolean includeGantt = !Boolean.FALSE.equals(gantt);
+
+        // Stepped, so a schedule that fragments into too many slices stops early
+        ScheduleRun run = scheduler.start(processes);
+        for (int slices = 0; run.hasNext(); slices++) {
+            if (slices == MAX_GANTT_SLICES) {
+                throw new IllegalArgumentException("Schedule exceeds " + MAX_GANTT_SLICES + " Gantt slices");
+            }
+            run.step();
+        }
+        ScheduleResult result = run.getResult();
+        return toJson(SchedulerFactory.canonicalName(algorithm), result, includeGantt);
+    }
+
+    private static List<Process> parseProcesses(Object value) {
+        if (!(value instanceof List<?> list)) {
+            throw new IllegalArgumentException("\"processes\" must be an array");
+        }
+        List<Process> processes = new ArrayList<>(list.size());
+        for (Object item : list) {
+            if (!(item instanceof Map<?, ?> fields)) {
+                throw new IllegalArgumentException("Each process must be an object");
+            }
+            int id = intField(fields, "id", processes.size() + 1);
+            int arrival = intField(fields, "arrival", 0);
+            int priority = intField(fields, "priority", 1);
+            if (arrival < 0) {
+                throw new IllegalArgumentException("Process " + id + ": arrival must not be negative");
+            }
+            Object bursts = fields.get("bursts");
+            if (bursts != null) {
+                if (!(bursts instanceof List<?> burstList)) {
+                    throw new IllegalArgumentException("Process " + id + ": \"bursts\" must be an array");
+                }
+                int[] sequence = new int[burstList.size()];
+                for (int b = 0; b < sequence.length; b++) {
+                    sequence[b] = toInt(burstList.get(b), "bursts");
+                }
+                int device = intField(fields, "ioDevice", 0);
+                if (device < 0) {
+                    throw new IllegalArgumentException("Process " + id + ": ioDevice must not be negative");
+                }
+                processes.add(new Process(id, arrival, sequence, priority, device));
+            } else {
+                int burst = intField(fields, "burst", -1);
+                if (burst < 0) {
+                    throw new IllegalArgumentException("Process " + id + ": missing or negative \"burst\"");
+                }
+                processes.add(new Process(id, arrival, burst, priority));
+            }
+        }
+        return processes;
+    }
+
+    /**
+     * Rejects workloads whose schedule could run the clock past
+     * {@link #MAX_TIME}: at worst the last process arrives before any work
+     * is done, every time unit of CPU demand is a slice of its own and each
+     * slice pays a full switch.
+     */
+    private static void checkTimeLimit(List<Process> processes, OverheadModel overhead) {
+        long latestArrival = 0;
+        long demand = 0;
+        long slices = 0;
+        for (Process p : processes) {
+            latestArrival = Math.max(latestArrival, p.arrivalTime);
+            demand += p.burstTime;
+            slices += p.burstTime + 1;
+            if (p.bursts != null) {
+                for (int b = 1; b < p.bursts.length; b += 2) {
+                    demand += p.bursts[b];
+                    slices++;
+                }
+            }
+        }
+        // demand and slices stay below 2^56 for any body, so nothing overflows
+        long worst = latestArrival + demand;
+        if (worst <= MAX_TIME) {
+            worst += slices * (overhead.switchCost + (long) overhead.cacheWarmupPenalty);
+        }
+        if (worst > MAX_TIME) {
+            throw new IllegalArgumentException("Workload could run past time " + MAX_TIME
+                + "; reduce arrivals, bursts or overhead");
+        }
+    }
+
+    private static int intField(Map<?, ?> object, String name, int defaultValue) {
+        Object value = object.get(name);
+        return value == null ? defaultValue : toInt(value, name);
+    }
+
+    private static int toInt(Object value, String name) {
+        if (value instanceof Long number && number >= Integer.MIN_VALUE && number <= Integer.MAX_VALUE) {
+            return number.intValue();
+        }
+        throw new IllegalArgumentException("\"" + name + "\" must be an integer");
+    }
+
+    private static String toJson(String algorithm, ScheduleResult result, boolean includeGantt) {
+        MetricsSummary summary = result.summary;
+        StringBuilder json = new StringBuilder(256 + result.processes.size() * 64
+                                               + (includeGantt ? result.ganttChart.size() * 16 : 0));
+        json.append("{\"algorithm\":");
+        Json.quote(json, algorithm);
+        json.append(",\"avgWaitingTime\":").append(result.avgWaitingTime)
+            .append(",\"avgTurnaroundTime\":").append(result.avgTurnaroundTime)
+            .append(",\"makespan\":").append(summary.makespan)
+            .append(",\"throughput\":").append(summary.getThroughput())
+            .append(",\"cpuUtilization\":").append(summary.getCpuUtilization())
+            .append(",\"contextSwitches\":").append(summary.contextSwitches)
+            .append(",\"overheadTime\":").append(summary.overheadTime)
+            .append(",\"p50WaitingTime\":").append(summary.waiting.percentile(50))
+            .append(",\"p95WaitingTime\":").append(summary.waiting.percentile(95))
+            .append(",\"p99WaitingTime\":").append(summary.waiting.percentile(99))
+            .append(",\"maxWaitingTime\":").append(summary.waiting.getMax())
+            .append(",\"p99TurnaroundTime\":").append(summary.turnaround.percentile(99))
+            .append(",\"processes\":[");
+        for (int i = 0; i < result.processes.size(); i++) {
+            Process p = result.processes.get(i);
+            if (i > 0) json.append(',');
+            json.append("{\"id\":").append(p.id)
+                .append(",\"start\":").append(p.startTime)
+                .append(",\"completion\":").append(p.completionTime)
+                .append(",\"waiting\":").append(p.waitingTime)
+                .append(",\"turnaround\":").append(p.turnaroundTime)
+                .append('}');
+        }
+        json.append(']');
+        if (includeGantt) {
+            json.append(",\"gantt\":[");
+            for (int i = 0; i < result.ganttChart.size(); i++) {
+                GanttEntry entry = result.ganttChart.get(i);
+                if (i > 0) json.append(',');
+                json.append('[').append(entry.processId).append(',').append(entry.startTime)
+                    .append(',').append(entry.endTime).append(']');
+            }
+            json.append(']');
+        }
+        return json.append('}').toString();
+    }
+
+    /**
+     * Answers 404 or 405 unless the request is exactly {@code method path};
+     * contexts alone also match longer paths
+     */
+    private static boolean route(HttpExchange exchange, String path, String method) throws IOException {
+        if (!path.equals(exchange.getRequestURI().getPath())) {
+            sendError(exchange, 404, "No such endpoint");
+            return false;
+        }
+        if (method.equals(exchange.getRequestMethod())) {
+            return true;
+        }
+        exchange.getResponseHeaders().set("Allow", method);
+        sendError(exchange, 405, "Use " + method);
+        return false;
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        StringBuilder json = new StringBuilder("{\"error\":");
+        Json.quote(json, message);
+        send(exchange, status, json.append('}').toString());
+    }
+
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Runs the service standalone: {@code SchedulingService [port]}
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        SchedulingService service = new SchedulingService(port);
+        service.start();
+        System.out.println("Scheduling service listening on http://localhost:" + service.getPort());
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.os.sweep;
+
+import com.example.os.model.ComparisonResult;
+import com.example.os.model.LatencyHistogram;
+import com.example.os.model.MetricsSummary;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Results of one algorithm at one sweep point, summed over any number of
+ * workloads. Aggregates of disjoint shards merge exactly, so the outcome
+ * does not depend on how the sweep was split across workers.
+ */
+public class SweepAggregate {
+    public final String algorithmName;
+    public final SweepPoint point;
+
+    // Per-process latencies over all workloads
+    public final LatencyHistogram waiting = new LatencyHistogram();
+    public final LatencyHistogram turnaround = new LatencyHistogram();
+    public final LatencyHistogram response = new LatencyHistogram();
+
+    public long workloads;
+    public long wins;           // workloads where this algorithm scored best (ties to the earlier algorithm)
+    public double scoreSum;     // sum of per-workload ComparisonResult scores
+    public long makespanSum;
+    public long busyTime;
+    public long contextSwitches;
+    public long overheadTime;
+    public double turnaroundBoundSum; // per-workload turnaround lower bound times its process count
+
+    public SweepAggregate(String algorithmName, SweepPoint point) {
+        this.algorithmName = algorithmName;
+        this.point = point;
+    }
+
+    /** Adds one workload's schedule and its score */
+    public void add(MetricsSummary summary, double score) {
+        waiting.add(summary.waiting);
+        turnaround.add(summary.turnaround);
+        response.add(summary.response);
+        workloads++;
+        scoreSum += score;
+        makespanSum += summary.makespan;
+        busyTime += summary.busyTime;
+        contextSwitches += summary.contextSwitches;
+        overheadTime += summary.overheadTime;
+    }
+
+    public void add(SweepAggregate other) {
+        waiting.add(other.waiting);
+        turnaround.add(other.turnaround);
+        response.add(other.response);
+        workloads += other.workloads;
+        wins += other.wins;
+        scoreSum += other.scoreSum;
+        makespanSum += other.makespanSum;
+        busyTime += other.busyTime;
+        contextSwitches += other.contextSwitches;
+        overheadTime += other.overheadTime;
+        turnaroundBoundSum += other.turnaroundBoundSum;
+    }
+
+    public double getMeanScore() {
+        return workloads == 0 ? 0 : scoreSum / workloads;
+    }
+
+    /**
+     * Relative distance of the average turnaround above the per-process
+     * lower bound; NaN without workloads
+     */
+    public double getOptimalityGap() {
+        double bound = turnaround.getCount() == 0 ? 0 : turnaroundBoundSum / turnaround.getCount();
+        return bound > 0 ? (turnaround.getMean() - bound) / bound : Double.NaN;
+    }
+
+    /** Fraction of workloads where this algorithm scored best (0-1) */
+    public double getWinRate() {
+        return workloads == 0 ? 0 : (double) wins / workloads;
+    }
+
+    /**
+     * The aggregate as one comparison row: times are per process over the
+     * whole sweep, {@code totalTime} is the mean makespan, and rates are
+     * over the summed makespans. The score is the mean per-workload score.
+     */
+    public ComparisonResult toComparisonResult() {
+        MetricsSummary summary = new MetricsSummary();
+        summary.waiting.set(waiting);
+        summary.turnaround.set(turnaround);
+        summary.response.set(response);
+        ComparisonResult result = new ComparisonResult(algorithmName, summary);
+        result.totalTime = workloads == 0 ? 0 : (int) Math.min(Integer.MAX_VALUE, makespanSum / workloads);
+        result.throughput = makespanSum == 0 ? 0 : (double) turnaround.getCount() / makespanSum;
+        result.cpuUtilization = makespanSum == 0 ? 0 : (double) busyTime / makespanSum;
+        result.contextSwitches = (int) Math.min(Integer.MAX_VALUE, contextSwitches);
+        result.overheadTime = overheadTime;
+        result.overheadFraction = makespanSum == 0 ? 0 : (double) overheadTime / makespanSum;
+        result.score = getMeanScore();
+        if (turnaround.getCount() > 0) {
+            // Per process like the averages, so the gap compares like with like
+            result.setTurnaroundLowerBound(turnaroundBoundSum / turnaround.getCount());
+        }
+        return result;
+    }
+
+    void write(DataOutput out) throws IOException {
+        waiting.write(out);
+        turnaround.write(out);
+        response.write(out);
+        out.writeLong(workloads);
+        out.writeLong(wins);
+        out.writeDouble(scoreSum);
+        out.writeLong(makespanSum);
+        out.writeLong(busyTime);
+        out.writeLong(contextSwitches);
+        out.writeLong(overheadTime);
+        out.writeDouble(turnaroundBoundSum);
+    }
+
+    /** Replaces the sums with ones written by {@link #write(DataOutput)} */
+    void read(DataInput in) throws IOException {
+        waiting.read(in);
+        turnaround.read(in);
+        response.read(in);
+        workloads = in.readLong();
+        wins = in.readLong();
+        scoreSum = in.readDouble();
+        makespanSum = in.readLong();
+        busyTime = in.readLong();
+        contextSwitches = in.readLong();
+        overheadTime = in.readLong();
+        turnaroundBoundSum = in.readDouble();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [%s]: %d workloads, avg waiting %.2f, p99 waiting %d, score %.4f, wins %.1f%%, gap %.1f%%",
+                             algorithmName, point, workloads, waiting.getMean(), waiting.percentile(99),
+                             getMeanScore(), getWinRate() * 100, getOptimalityGap() * 100);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.os.sweep;
+
+import com.example.os.scheduler.OverheadModel;
+import com.example.os.scheduler.SchedulerFactory;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A Monte-Carlo sweep: every algorithm at every parameter point over the
+ * same {@code workloadCount} random workloads.
+ *
+ * Workload {@code w} is generated from {@code seed} and {@code w} alone, so
+ * any JVM can rebuild any part of the sweep. The sweep is cut into shards
+ * of up to {@code shardSize} consecutive workloads at one point; a shard is
+ * the unit of work handed to a worker and re-dispatched if the worker dies.
+ */
+public final class SweepConfig {
+    public final long seed;
+    public final int workloadCount;
+    public final int shardSize;
+    public final List<String> algorithms;
+    public final List<SweepPoint> points;
+
+    public SweepConfig(long seed, int workloadCount, int shardSize, List<String> algorithms, List<SweepPoint> points) {
+        if (workloadCount < 0) {
+            throw new IllegalArgumentException("Workload count must not be negative: " + workloadCount);
+        }
+        if (shardSize < 1) {
+            throw new IllegalArgumentException("Shard size must be positive: " + shardSize);
+        }
+        if (algorithms.isEmpty() || points.isEmpty()) {
+            throw new IllegalArgumentException("A sweep needs at least one algorithm and one point");
+        }
+        List<String> names = new ArrayList<>(algorithms.size());
+        for (String algorithm : algorithms) {
+            String name = SchedulerFactory.canonicalName(algorithm);
+            if (name == null) {
+                throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+            }
+            names.add(name);
+        }
+        this.seed = seed;
+        this.workloadCount = workloadCount;
+        this.shardSize = shardSize;
+        this.algorithms = List.copyOf(names);
+        this.points = List.copyOf(points);
+    }
+
+    /**
+     * Sweep of all algorithms at the default quantum without overhead
+     */
+    public SweepConfig(long seed, int workloadCount) {
+        this(seed, workloadCount, 256, SchedulerFactory.ALGORITHMS,
+             List.of(new SweepPoint(SchedulerFactory.DEFAULT_TIME_QUANTUM, OverheadModel.NONE)));
+    }
+
+    public int getShardsPerPoint() {
+        return (workloadCount + shardSize - 1) / shardSize;
+    }
+
+    public int getShardCount() {
+        return getShardsPerPoint() * points.size();
+    }
+
+    /** Index into {@link #points} of the shard */
+    public int shardPoint(int shard) {
+        return shard / getShardsPerPoint();
+    }
+
+    /** First workload of the shard */
+    public int shardStart(int shard) {
+        return (shard % getShardsPerPoint()) * shardSize;
+    }
+
+    /** End (exclusive) of the shard's workloads */
+    public int shardEnd(int shard) {
+        return Math.min(workloadCount, shardStart(shard) + shardSize);
+    }
+
+    void write(DataOutput out) throws IOException {
+        out.writeLong(seed);
+        out.writeInt(workloadCount);
+        out.writeInt(shardSize);
+        out.writeInt(algorithms.size());
+        for (String algorithm : algorithms) {
+            out.writeUTF(algorithm);
+        }
+        out.writeInt(points.size());
+        for (SweepPoint point : points) {
+            out.writeInt(point.timeQuantum);
+            out.writeInt(point.overheadModel.switchCost);
+            out.writeInt(point.overheadModel.cacheWarmupPenalty);
+        }
+    }
+
+    static SweepConfig read(DataInput in) throws IOException {
+        long seed = in.readLong();
+        int workloadCount = in.readInt();
+        int shardSize = in.readInt();
+        int algorithmCount = in.readInt();
+        List<String> algorithms = new ArrayList<>();
+        for (int i = 0; i < algorithmCount; i++) {
+            algorithms.add(in.readUTF());
+        }
+        int pointCount = in.readInt();
+        try {
+            List<SweepPoint> points = new ArrayList<>();
+            for (int i = 0; i < pointCount; i++) {
+                int quantum = in.readInt();
+                points.add(new SweepPoint(quantum, new OverheadModel(in.readInt(), in.readInt())));
+            }
+            return new SweepConfig(seed, workloadCount, shardSize, algorithms, points);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid sweep configuration: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package com.example.os.sweep;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coordinator of a sweep spread over several JVMs.
+ *
+ * The coordinator listens on a TCP port that {@link SweepWorker}s connect
+ * to, either JVMs it launched itself ({@link #launchWorkers(int)}) or ones
+ * started elsewhere with the host and {@link #getPort()}. Each connection
+ * is served by its own thread, which hands the worker one shard at a time
+ * and merges the aggregates it streams back. A shard whose worker dies,
+ * hangs past the shard timeout or sends garbage goes back to the front of
+ * the queue for the next worker; its partial work is dropped, so every
+ * shard is counted exactly once. A launched worker that fails this way is
+ * ended, and once every launched worker has exited, the coordinator runs
+ * the remaining shards itself.
+ *
+ * <pre>
+ * try (SweepCoordinator coordinator = new SweepCoordinator(new SweepConfig(42, 1_000_000))) {
+ *     coordinator.launchWorkers(4);
+ *     List&lt;SweepAggregate&gt; results = coordinator.run();
+ * }
+ * </pre>
+ */
+public class SweepCoordinator implements AutoCloseable {
+    private static final long POLL_MILLIS = 100;
+
+    private final SweepConfig config;
+    private final ServerSocket server;
+    private final List<java.lang.Process> workers = new ArrayList<>();
+    private final List<Socket> connections = new ArrayList<>();
+    private int shardTimeoutMillis = 10 * 60 * 1000;
+
+    // Guarded by this
+    private final ArrayDeque<Integer> pending = new ArrayDeque<>();
+    private final boolean[] done;
+    private final SweepAggregate[] totals;
+    private int remaining;
+    private int redispatchedCount;
+    private boolean closed;
+
+    /**
+     * Listens on a free loopback port; only local workers can connect
+     */
+    public SweepCoordinator(SweepConfig config) throws IOException {
+        this(config, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    }
+
+    /**
+     * Listens on {@code address}, e.g. a wildcard address for workers on
+     * other machines
+     */
+    public SweepCoordinator(SweepConfig config, InetSocketAddress address) throws IOException {
+        this.config = config;
+        server = new ServerSocket();
+        server.bind(address);
+
+        int shardCount = config.getShardCount();
+        done = new boolean[shardCount];
+        remaining = shardCount;
+        for (int shard = 0; shard < shardCount; shard++) {
+            pending.add(shard);
+        }
+        int algorithmCount = config.algorithms.size();
+        totals = new SweepAggregate[config.points.size() * algorithmCount];
+        for (int i = 0; i < totals.length; i++) {
+            totals[i] = new SweepAggregate(config.algorithms.get(i % algorithmCount),
+                                           config.points.get(i / algorithmCount));
+        }
+
+        Thread acceptor = new Thread(this::acceptWorkers, "sweep-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    /**
+     * Time a worker may take for one shard before it is dropped and the
+     * shard re-dispatched
+     */
+    public void setShardTimeoutMillis(int shardTimeoutMillis) {
+        if (shardTimeoutMillis < 1) {
+            throw new IllegalArgumentException("Shard timeout must be positive: " + shardTimeoutMillis);
+        }
+        this.shardTimeoutMillis = shardTimeoutMillis;
+    }
+
+    /**
+     * Starts {@code count} worker JVMs on this machine with the same Java
+     * runtime and class or module path as this one
+     */
+    public void launchWorkers(int count) throws IOException {
+        launchWorkers(count, SweepWorker.class);
+    }
+
+    /** Launches JVMs running {@code main}, which gets the host and port */
+    synchronized void launchWorkers(int count, Class<?> main) throws IOException {
+        String java = ProcessHandle.current().info().command()
+                .orElse(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        String modulePath = System.getProperty("jdk.module.path");
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        if (modulePath != null && main.getModule().isNamed()) {
+            command.add("--module-path");
+            command.add(modulePath);
+            command.add("-m");
+            command.add(main.getModule().getName() + "/" + main.getName());
+        } else {
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(main.getName());
+        }
+        command.add(InetAddress.getLoopbackAddress().getHostAddress());
+        command.add(Integer.toString(getPort()));
+
+        ProcessBuilder builder = new ProcessBuilder(command).inheritIO();
+        for (int i = 0; i < count; i++) {
+            workers.add(builder.start());
+        }
+    }
+
+    /**
+     * Runs the sweep to the end
+     *
+     * @return one aggregate per point and algorithm, point by point in
+     *         {@link SweepConfig#points} order
+     */
+    public List<SweepAggregate> run() throws InterruptedException {
+        SweepEvaluator local = null;
+        while (true) {
+            Integer shard;
+            synchronized (this) {
+                while (remaining > 0 && !closed && !(!pending.isEmpty() && noWorkersLeft())) {
+                    wait(POLL_MILLIS);
+                }
+                if (remaining == 0) {
+                    return List.of(totals);
+                }
+                if (closed) {
+                    throw new IllegalStateException("Coordinator closed before the sweep finished");
+                }
+                shard = pending.poll();
+            }
+            if (local == null) {
+                local = new SweepEvaluator(config);
+            }
+            complete(shard, local.evaluate(shard));
+        }
+    }
+
+    /** Shards handed out again after their worker failed */
+    public synchronized int getRedispatchedCount() {
+        return redispatchedCount;
+    }
+
+    public synchronized int getRemainingShards() {
+        return remaining;
+    }
+
+    /**
+     * Stops accepting workers, disconnects the connected ones and ends the
+     * launched JVMs
+     */
+    @Override
+    public void close() throws IOException {
+        List<Socket> open;
+        synchronized (this) {
+            closed = true;
+            open = new ArrayList<>(connections);
+            notifyAll();
+        }
+        server.close();
+        for (Socket socket : open) {
+            socket.close();
+        }
+        for (java.lang.Process worker : workers) {
+            try {
+                if (!worker.waitFor(1, TimeUnit.SECONDS)) {
+                    worker.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                worker.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** The launched worker JVM with process id {@code pid}, or null */
+    private synchronized java.lang.Process launchedWorker(long pid) {
+        for (java.lang.Process worker : workers) {
+            if (worker.pid() == pid) return worker;
+        }
+        return null;
+    }
+
+    /** True if workers were launched and all of them have exited */
+    private boolean noWorkersLeft() {
+        if (workers.isEmpty() || !connections.isEmpty()) return false;
+        for (java.lang.Process worker : workers) {
+            if (worker.isAlive()) return false;
+        }
+        return true;
+    }
+
+    private void acceptWorkers() {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                Thread.ofPlatform().daemon().name("sweep-worker-" + socket.getPort()).start(() -> serve(socket));
+            } catch (IOException e) {
+                // Closed, or a failed connection attempt; keep accepting until closed
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        synchronized (this) {
+            if (closed) {
+                closeQuietly(socket);
+                return;
+            }
+            connections.add(socket);
+        }
+        int shard = -1;
+        java.lang.Process launched = null;
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout(shardTimeoutMillis);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            if (in.readInt() != SweepProtocol.MAGIC || in.readInt() != SweepProtocol.VERSION) {
+                throw new IOException("Not a sweep worker of this version");
+            }
+            long pid = in.readLong();
+            // Launched workers connect over loopback; a remote pid may match by chance
+            if (socket.getInetAddress().isLoopbackAddress()) {
+                launched = launchedWorker(pid);
+            }
+            out.writeByte(SweepProtocol.CONFIG);
+            config.write(out);
+
+            while ((shard = nextShard()) >= 0) {
+                out.writeByte(SweepProtocol.SHARD);
+                out.writeInt(shard);
+                out.flush();
+                SweepAggregate[] aggregates = readResult(in, shard);
+                complete(shard, aggregates);
+                shard = -1;
+            }
+            out.writeByte(SweepProtocol.STOP);
+            out.flush();
+        } catch (IOException | InterruptedException e) {
+            // The worker died, hung or misbehaved; its shard goes to another one.
+            // A launched one is ended, or a hung JVM would keep run() waiting
+            // for it instead of finishing the shards itself
+            if (launched != null) {
+                launched.destroyForcibly();
+            }
+        } finally {
+            synchronized (this) {
+                connections.remove(socket);
+                if (shard >= 0 && !done[shard]) {
+                    pending.addFirst(shard);
+                    redispatchedCount++;
+                }
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Waits for an undone shard
+     *
+     * @return the shard, or -1 once the sweep is complete or closed
+     */
+    private synchronized int nextShard() throws InterruptedException {
+        while (true) {
+            if (remaining == 0 || closed) return -1;
+            Integer shard = pending.poll();
+            if (shard != null) {
+                if (!done[shard]) return shard;
+            } else {
+                wait(POLL_MILLIS);
+            }
+        }
+    }
+
+    private SweepAggregate[] readResult(DataInputStream in, int shard) throws IOException {
+        if (in.readByte() != SweepProtocol.RESULT || in.readInt() != shard) {
+            throw new IOException("Expected the result of shard " + shard);
+        }
+        int count = in.readInt();
+        if (count != config.algorithms.size()) {
+            throw new IOException("Expected " + config.algorithms.size() + " aggregates, got " + count);
+        }
+        SweepPoint point = config.points.get(config.shardPoint(shard));
+        SweepAggregate[] aggregates = new SweepAggregate[count];
+        for (int a = 0; a < count; a++) {
+            aggregates[a] = new SweepAggregate(config.algorithms.get(a), point);
+            aggregates[a].read(in);
+        }
+        return aggregates;
+    }
+
+    /** Merges a shard's aggregates unless another worker already did */
+    private synchronized void complete(int shard, SweepAggregate[] aggregates) {
+        if (done[shard]) return;
+        done[shard] = true;
+        int base = config.shardPoint(shard) * config.algorithms.size();
+        for (int a = 0; a < aggregates.length; a++) {
+            totals[base + a].add(aggregates[a]);
+        }
+        remaining--;
+        notifyAll();
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Nothing to do
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.os.sweep;
+
+import com.example.os.ai.AIPredictor;
+import com.example.os.ai.SchedulerRecommender;
+import com.example.os.model.ComparisonResult;
+import com.example.os.model.MetricsSummary;
+import com.example.os.model.Process;
+import com.example.os.scheduler.LowerBounds;
+import com.example.os.scheduler.Scheduler;
+import com.example.os.scheduler.SchedulerFactory;
+import com.example.os.scheduler.Workload;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Runs shards of a sweep; used by workers and by the coordinator when no
+ * worker is left
+ */
+final class SweepEvaluator {
+    private final SweepConfig config;
+
+    SweepEvaluator(SweepConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * @return one aggregate per algorithm, in {@link SweepConfig#algorithms} order
+     */
+    SweepAggregate[] evaluate(int shard) {
+        SweepPoint point = config.points.get(config.shardPoint(shard));
+        List<String> algorithms = config.algorithms;
+        // A fresh predictor per shard keeps the intelligent scheduler's
+        // results independent of which worker ran which shards before; they
+        // still depend on the shard size, since it learns within a shard
+        AIPredictor predictor = new AIPredictor();
+        Scheduler[] schedulers = new Scheduler[algorithms.size()];
+        SweepAggregate[] aggregates = new SweepAggregate[algorithms.size()];
+        for (int a = 0; a < schedulers.length; a++) {
+            schedulers[a] = SchedulerFactory.create(algorithms.get(a), point.timeQuantum, predictor, point.overheadModel);
+            aggregates[a] = new SweepAggregate(algorithms.get(a), point);
+        }
+
+        for (int w = config.shardStart(shard); w < config.shardEnd(shard); w++) {
+            Workload workload = Workload.of(workload(config.seed, w));
+            double turnaroundBound = LowerBounds.of(workload).turnaround * workload.size();
+            int best = 0;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int a = 0; a < schedulers.length; a++) {
+                MetricsSummary summary = schedulers[a].summarize(workload);
+                double score = ComparisonResult.score(summary.waiting.getMean(), summary.turnaround.getMean());
+                aggregates[a].add(summary, score);
+                aggregates[a].turnaroundBoundSum += turnaroundBound;
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = a;
+                }
+            }
+            aggregates[best].wins++;
+        }
+        return aggregates;
+    }
+
+    /** Workload {@code index} of the sweep with the given seed */
+    static List<Process> workload(long seed, int index) {
+        return SchedulerRecommender.randomWorkload(new Random(seed + index * 0x9E3779B97F4A7C15L));
+    }
+}
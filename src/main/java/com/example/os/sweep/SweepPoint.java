@@ -0,0 +1,25 @@
+package com.example.os.sweep;
+
+import com.example.os.scheduler.OverheadModel;
+
+/**
+ * One parameter point of a sweep: the settings every scheduler runs with
+ */
+public final class SweepPoint {
+    public final int timeQuantum;
+    public final OverheadModel overheadModel;
+
+    public SweepPoint(int timeQuantum, OverheadModel overheadModel) {
+        if (timeQuantum < 1) {
+            throw new IllegalArgumentException("Time quantum must be positive: " + timeQuantum);
+        }
+        this.timeQuantum = timeQuantum;
+        this.overheadModel = overheadModel;
+    }
+
+    @Override
+    public String toString() {
+        return "quantum=" + timeQuantum + " switch=" + overheadModel.switchCost
+               + " warmup=" + overheadModel.cacheWarmupPenalty;
+    }
+}
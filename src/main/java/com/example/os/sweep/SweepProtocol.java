@@ -0,0 +1,23 @@
+package com.example.os.sweep;
+
+/**
+ * Wire format between coordinator and workers, as Data streams over TCP.
+ *
+ * <pre>
+ * worker      -> coordinator  MAGIC VERSION pid              on connect
+ * coordinator -> worker       CONFIG config                  once
+ * coordinator -> worker       SHARD shardId | STOP
+ * worker      -> coordinator  RESULT shardId count aggregate*   after each shard
+ * </pre>
+ */
+final class SweepProtocol {
+    static final int MAGIC = 0x53574550; // "SWEP"
+    static final int VERSION = 3; // 2: aggregates carry the turnaround bound, 3: workers send their pid
+
+    static final byte CONFIG = 1;
+    static final byte SHARD = 2;
+    static final byte STOP = 3;
+    static final byte RESULT = 4;
+
+    private SweepProtocol() {}
+}
@@ -0,0 +1,72 @@
+package com.example.os.sweep;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+
+/**
+ * Worker side of a distributed sweep: connects to a {@link SweepCoordinator},
+ * runs the shards it is handed and streams each shard's aggregates back
+ * until told to stop. Workers keep no state between shards, so one can be
+ * killed at any time.
+ */
+public final class SweepWorker {
+    private SweepWorker() {}
+
+    /**
+     * Serves one coordinator until it stops the worker or disconnects
+     *
+     * @return number of shards run
+     */
+    public static int run(String host, int port) throws IOException {
+        try (Socket socket = new Socket(host, port)) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            out.writeInt(SweepProtocol.MAGIC);
+            out.writeInt(SweepProtocol.VERSION);
+            out.writeLong(ProcessHandle.current().pid());
+            out.flush();
+
+            if (in.readByte() != SweepProtocol.CONFIG) {
+                throw new IOException("Expected sweep configuration");
+            }
+            SweepEvaluator evaluator = new SweepEvaluator(SweepConfig.read(in));
+            int shards = 0;
+            while (true) {
+                int type = in.read();
+                if (type == SweepProtocol.STOP || type < 0) {
+                    // A coordinator that closes between shards is done as well
+                    return shards;
+                }
+                if (type != SweepProtocol.SHARD) {
+                    throw new IOException("Unexpected message type " + type);
+                }
+                int shard = in.readInt();
+                SweepAggregate[] aggregates = evaluator.evaluate(shard);
+                out.writeByte(SweepProtocol.RESULT);
+                out.writeInt(shard);
+                out.writeInt(aggregates.length);
+                for (SweepAggregate aggregate : aggregates) {
+                    aggregate.write(out);
+                }
+                out.flush();
+                shards++;
+            }
+        }
+    }
+
+    /**
+     * Runs a worker standalone: {@code SweepWorker host port}
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: SweepWorker <coordinator host> <port>");
+            System.exit(2);
+        }
+        run(args[0], Integer.parseInt(args[1]));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.os.trace;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Fixed-size output buffer over a channel with the encodings the writers
+ * need: ASCII decimals for CSV and zigzag varints for the binary format.
+ */
+final class ByteSink {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    ByteSink(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    void writeByte(int b) throws IOException {
+        ensure(1);
+        buffer.put((byte) b);
+    }
+
+    void writeInt(int value) throws IOException {
+        ensure(4);
+        buffer.putInt(value);
+    }
+
+    void writeAscii(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            writeByte(text.charAt(i));
+        }
+    }
+
+    /** Decimal digits of {@code value}, without building a String */
+    void writeDecimal(int value) throws IOException {
+        ensure(11);
+        if (value < 0) {
+            buffer.put((byte) '-');
+            if (value == Integer.MIN_VALUE) {
+                buffer.put("2147483648".getBytes());
+                return;
+            }
+            value = -value;
+        }
+        int digits = 1;
+        for (int v = value; v >= 10; v /= 10) digits++;
+        int end = buffer.position() + digits;
+        for (int p = end - 1; p >= buffer.position(); p--) {
+            buffer.put(p, (byte) ('0' + value % 10));
+            value /= 10;
+        }
+        buffer.position(end);
+    }
+
+    /** Unsigned LEB128 of the zigzag encoding, so small negatives stay short */
+    void writeVarint(int value) throws IOException {
+        ensure(5);
+        int zigzag = (value << 1) ^ (value >> 31);
+        while ((zigzag & ~0x7F) != 0) {
+            buffer.put((byte) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        buffer.put((byte) zigzag);
+    }
+
+    void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /** Closes the channel after a failure, keeping the failure's exception */
+    void closeQuietly(Exception failure) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
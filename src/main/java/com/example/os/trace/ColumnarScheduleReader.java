@@ -0,0 +1,136 @@
+package com.example.os.trace;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads files written by {@link ColumnarScheduleWriter} one block at a
+ * time, decoding into reused column arrays.
+ */
+public class ColumnarScheduleReader implements Closeable {
+    public static final int TABLE_PROCESSES = 1;
+    public static final int TABLE_SLICES = 2;
+
+    // Process table columns
+    public static final int PROCESS_ID = 0;
+    public static final int PROCESS_ARRIVAL = 1;
+    public static final int PROCESS_BURST = 2;
+    public static final int PROCESS_PRIORITY = 3;
+    public static final int PROCESS_START = 4;
+    public static final int PROCESS_COMPLETION = 5;
+    public static final int PROCESS_WAITING = 6;
+    public static final int PROCESS_TURNAROUND = 7;
+    public static final int PROCESS_RESPONSE = 8; // start - arrival, as in the CSV
+    public static final int PROCESS_COLUMNS = 9;
+
+    // Slice table columns
+    public static final int SLICE_PROCESS = 0;
+    public static final int SLICE_START = 1;
+    public static final int SLICE_END = 2;
+    public static final int SLICE_COLUMNS = 3;
+
+    /**
+     * One decoded block; its arrays are overwritten by the next call to
+     * {@link #next()}
+     */
+    public static final class Block {
+        public int table;
+        public int rows;
+        public final int[][] columns = new int[PROCESS_COLUMNS][ColumnarScheduleWriter.BLOCK_ROWS];
+    }
+
+    private final DataInputStream in;
+    private final Block block = new Block();
+    private final int storedProcessColumns; // version 1 files lack the response column
+
+    public ColumnarScheduleReader(InputStream compressed) throws IOException {
+        in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(compressed, 1 << 16), 1 << 16));
+        if (in.readInt() != ColumnarScheduleWriter.MAGIC) {
+            throw new IOException("Not a columnar schedule file");
+        }
+        int version = in.readInt();
+        if (version < 1 || version > ColumnarScheduleWriter.VERSION) {
+            throw new IOException("Unsupported schedule file version " + version);
+        }
+        storedProcessColumns = version == 1 ? PROCESS_RESPONSE : PROCESS_COLUMNS;
+    }
+
+    public static ColumnarScheduleReader open(Path file) throws IOException {
+        InputStream stream = Files.newInputStream(file);
+        try {
+            return new ColumnarScheduleReader(stream);
+        } catch (IOException | RuntimeException e) {
+            try {
+                stream.close();
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Next block, or null after the last one
+     */
+    public Block next() throws IOException {
+        int table = in.read();
+        if (table == ColumnarScheduleWriter.END) {
+            return null;
+        }
+        int columns;
+        if (table == TABLE_PROCESSES) {
+            columns = storedProcessColumns;
+        } else if (table == TABLE_SLICES) {
+            columns = SLICE_COLUMNS;
+        } else {
+            throw table < 0 ? new EOFException("Truncated schedule file")
+                            : new IOException("Corrupt schedule file: table " + table);
+        }
+        int rows = readVarint();
+        if (rows < 0 || rows > ColumnarScheduleWriter.BLOCK_ROWS) {
+            throw new IOException("Corrupt schedule file: block of " + rows + " rows");
+        }
+        block.table = table;
+        block.rows = rows;
+        for (int c = 0; c < columns; c++) {
+            int[] column = block.columns[c];
+            int value = 0;
+            for (int r = 0; r < rows; r++) {
+                value += readVarint();
+                column[r] = value;
+            }
+        }
+        if (table == TABLE_PROCESSES && columns < PROCESS_COLUMNS) {
+            int[][] c = block.columns;
+            for (int r = 0; r < rows; r++) {
+                c[PROCESS_RESPONSE][r] = c[PROCESS_START][r] - c[PROCESS_ARRIVAL][r];
+            }
+        }
+        return block;
+    }
+
+    private int readVarint() throws IOException {
+        int zigzag = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.read();
+            if (b < 0) throw new EOFException("Truncated schedule file");
+            zigzag |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new IOException("Corrupt schedule file: varint too long");
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
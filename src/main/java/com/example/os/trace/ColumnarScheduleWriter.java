@@ -0,0 +1,124 @@
+package com.example.os.trace;
+
+import com.example.os.scheduler.ScheduleListener;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams a schedule to a compressed columnar binary file.
+ *
+ * Processes and Gantt slices are collected in fixed blocks of
+ * {@link #BLOCK_ROWS} rows and written column by column, each value as a
+ * zigzag varint of its difference to the previous row, all inside a gzip
+ * stream. Sorted times and ids shrink to a byte or two before gzip, and
+ * memory stays at two blocks however long the run is.
+ *
+ * Layout: magic, version, then blocks of (table byte, varint row count,
+ * columns), ended by a 0 table byte. Read it back with
+ * {@link ColumnarScheduleReader}. I/O errors surface as
+ * {@link UncheckedIOException} from the listener callbacks.
+ */
+public class ColumnarScheduleWriter implements ScheduleListener, Closeable {
+    static final int MAGIC = 0x53434844; // "SCHD"
+    static final int VERSION = 2; // 2: processes have a response column
+    static final int BLOCK_ROWS = 1 << 16;
+    static final int END = 0;
+
+    private final ByteSink out;
+    private final int[][] processColumns = new int[ColumnarScheduleReader.PROCESS_COLUMNS][BLOCK_ROWS];
+    private final int[][] sliceColumns = new int[ColumnarScheduleReader.SLICE_COLUMNS][BLOCK_ROWS];
+    private int processRows;
+    private int sliceRows;
+
+    public ColumnarScheduleWriter(Path file) throws IOException {
+        OutputStream stream = Files.newOutputStream(file);
+        try {
+            // Writing the gzip header may fail
+            stream = new GZIPOutputStream(stream, 1 << 16);
+        } catch (IOException | RuntimeException e) {
+            try {
+                stream.close();
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        out = new ByteSink(Channels.newChannel(stream));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+    }
+
+    @Override
+    public void onSlice(int processId, int start, int end) {
+        sliceColumns[ColumnarScheduleReader.SLICE_PROCESS][sliceRows] = processId;
+        sliceColumns[ColumnarScheduleReader.SLICE_START][sliceRows] = start;
+        sliceColumns[ColumnarScheduleReader.SLICE_END][sliceRows] = end;
+        if (++sliceRows == BLOCK_ROWS) {
+            writeBlock(ColumnarScheduleReader.TABLE_SLICES, sliceColumns, sliceRows);
+            sliceRows = 0;
+        }
+    }
+
+    @Override
+    public void onComplete(int processId, int arrivalTime, int burstTime, int priority,
+                           int startTime, int completionTime, int waitingTime, int turnaroundTime) {
+        int row = processRows;
+        processColumns[ColumnarScheduleReader.PROCESS_ID][row] = processId;
+        processColumns[ColumnarScheduleReader.PROCESS_ARRIVAL][row] = arrivalTime;
+        processColumns[ColumnarScheduleReader.PROCESS_BURST][row] = burstTime;
+        processColumns[ColumnarScheduleReader.PROCESS_PRIORITY][row] = priority;
+        processColumns[ColumnarScheduleReader.PROCESS_START][row] = startTime;
+        processColumns[ColumnarScheduleReader.PROCESS_COMPLETION][row] = completionTime;
+        processColumns[ColumnarScheduleReader.PROCESS_WAITING][row] = waitingTime;
+        processColumns[ColumnarScheduleReader.PROCESS_TURNAROUND][row] = turnaroundTime;
+        processColumns[ColumnarScheduleReader.PROCESS_RESPONSE][row] = startTime - arrivalTime;
+        if (++processRows == BLOCK_ROWS) {
+            writeBlock(ColumnarScheduleReader.TABLE_PROCESSES, processColumns, processRows);
+            processRows = 0;
+        }
+    }
+
+    private void writeBlock(int table, int[][] columns, int rows) {
+        try {
+            out.writeByte(table);
+            out.writeVarint(rows);
+            for (int[] column : columns) {
+                int previous = 0;
+                for (int r = 0; r < rows; r++) {
+                    out.writeVarint(column[r] - previous);
+                    previous = column[r];
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the partial blocks and the end marker
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (sliceRows > 0) {
+                writeBlock(ColumnarScheduleReader.TABLE_SLICES, sliceColumns, sliceRows);
+                sliceRows = 0;
+            }
+            if (processRows > 0) {
+                writeBlock(ColumnarScheduleReader.TABLE_PROCESSES, processColumns, processRows);
+                processRows = 0;
+            }
+            out.writeByte(END);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            out.close();
+        }
+    }
+}
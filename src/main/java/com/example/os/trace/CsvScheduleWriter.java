@@ -0,0 +1,88 @@
+package com.example.os.trace;
+
+import com.example.os.scheduler.ScheduleListener;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams a schedule to two CSV files: per-process metrics and the Gantt
+ * slices. Rows are written as the schedule runs through a fixed buffer, so
+ * the output can be far larger than memory. I/O errors surface as
+ * {@link UncheckedIOException} from the listener callbacks.
+ */
+public class CsvScheduleWriter implements ScheduleListener, Closeable {
+    static final String PROCESS_HEADER =
+        "id,arrival,burst,priority,start,completion,waiting,turnaround,response\n";
+    static final String SLICE_HEADER = "process,start,end\n";
+
+    private final ByteSink processes;
+    private final ByteSink slices;
+
+    public CsvScheduleWriter(Path processFile, Path ganttFile) throws IOException {
+        processes = new ByteSink(FileChannel.open(processFile, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE));
+        try {
+            slices = new ByteSink(FileChannel.open(ganttFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE));
+        } catch (IOException | RuntimeException e) {
+            processes.closeQuietly(e);
+            throw e;
+        }
+        processes.writeAscii(PROCESS_HEADER);
+        slices.writeAscii(SLICE_HEADER);
+    }
+
+    @Override
+    public void onSlice(int processId, int start, int end) {
+        try {
+            slices.writeDecimal(processId);
+            slices.writeByte(',');
+            slices.writeDecimal(start);
+            slices.writeByte(',');
+            slices.writeDecimal(end);
+            slices.writeByte('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void onComplete(int processId, int arrivalTime, int burstTime, int priority,
+                           int startTime, int completionTime, int waitingTime, int turnaroundTime) {
+        try {
+            processes.writeDecimal(processId);
+            processes.writeByte(',');
+            processes.writeDecimal(arrivalTime);
+            processes.writeByte(',');
+            processes.writeDecimal(burstTime);
+            processes.writeByte(',');
+            processes.writeDecimal(priority);
+            processes.writeByte(',');
+            processes.writeDecimal(startTime);
+            processes.writeByte(',');
+            processes.writeDecimal(completionTime);
+            processes.writeByte(',');
+            processes.writeDecimal(waitingTime);
+            processes.writeByte(',');
+            processes.writeDecimal(turnaroundTime);
+            processes.writeByte(',');
+            processes.writeDecimal(startTime - arrivalTime);
+            processes.writeByte('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            processes.close();
+        } finally {
+            slices.close();
+        }
+    }
+}
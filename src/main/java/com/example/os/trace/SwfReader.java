@@ -0,0 +1,231 @@
+package com.example.os.trace;
+
+import com.example.os.model.Process;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Streaming reader for traces in the Standard Workload Format (SWF).
+ *
+ * Each non-comment line is one job of 18 whitespace-separated fields, of
+ * which the first four are required and the queue number is used. Jobs
+ * map to processes as: job number to id, submit time to arrival, run time
+ * to burst, and queue number to priority (queue + 1, so queue 0 is the most
+ * urgent; jobs without a queue get {@link #DEFAULT_PRIORITY}). Jobs without
+ * a positive run time (cancelled or unknown) are skipped and counted.
+ *
+ * The file is scanned byte by byte through one fixed NIO buffer and no
+ * line strings are built, so memory stays constant for traces of any size.
+ * Use the reader as an {@code Iterator<Process>} to feed
+ * {@link com.example.os.scheduler.Scheduler#summarize(Iterator)}, or
+ * {@link #read(int[], int[], int[], int[])} to fill columns without any
+ * per-job objects.
+ */
+public class SwfReader implements Iterator<Process>, Closeable {
+    public static final int DEFAULT_PRIORITY = 1;
+    private static final int FIELDS = 18;
+    private static final int JOB_FIELD = 0;
+    private static final int SUBMIT_FIELD = 1;
+    private static final int RUN_TIME_FIELD = 3;
+    private static final int QUEUE_FIELD = 14;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).flip();
+    private final long[] fields = new long[FIELDS];
+    private boolean eof;
+    private long line;
+    private long skippedCount;
+
+    // One job of look-ahead for the iterator
+    private boolean hasJob;
+    private int jobId;
+    private int jobArrival;
+    private int jobBurst;
+    private int jobPriority;
+
+    public SwfReader(ReadableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Opens a trace file; files ending in ".gz" are decompressed on the fly
+     */
+    public static SwfReader open(Path path) throws IOException {
+        if (path.getFileName().toString().endsWith(".gz")) {
+            InputStream file = Files.newInputStream(path);
+            try {
+                return new SwfReader(Channels.newChannel(new GZIPInputStream(file, BUFFER_SIZE)));
+            } catch (IOException | RuntimeException e) {
+                // Not gzip after all
+                try {
+                    file.close();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+        }
+        return new SwfReader(FileChannel.open(path, StandardOpenOption.READ));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!hasJob) {
+            try {
+                hasJob = readJob();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return hasJob;
+    }
+
+    @Override
+    public Process next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        hasJob = false;
+        return new Process(jobId, jobArrival, jobBurst, jobPriority);
+    }
+
+    /**
+     * Columnar read: fills the arrays with up to {@code ids.length} jobs
+     *
+     * @return number of jobs read, 0 at the end of the trace
+     */
+    public int read(int[] ids, int[] arrivals, int[] bursts, int[] priorities) throws IOException {
+        int count = 0;
+        while (count < ids.length && (hasJob || readJob())) {
+            hasJob = false;
+            ids[count] = jobId;
+            arrivals[count] = jobArrival;
+            bursts[count] = jobBurst;
+            priorities[count] = jobPriority;
+            count++;
+        }
+        return count;
+    }
+
+    /** Jobs dropped because their run time was missing or zero */
+    public long getSkippedCount() {
+        return skippedCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Parses lines until the next usable job
+     *
+     * @return false at the end of the trace
+     */
+    private boolean readJob() throws IOException {
+        while (true) {
+            int count = readLine();
+            if (count < 0) return false;
+            if (count == 0) continue; // blank or comment line
+            if (count <= RUN_TIME_FIELD) {
+                throw new IOException("SWF line " + line + ": expected at least " + (RUN_TIME_FIELD + 1)
+                    + " fields, found " + count);
+            }
+            if (fields[JOB_FIELD] < Integer.MIN_VALUE || fields[JOB_FIELD] > Integer.MAX_VALUE) {
+                throw new IOException("SWF line " + line + ": job number " + fields[JOB_FIELD] + " out of range");
+            }
+            long runTime = fields[RUN_TIME_FIELD];
+            if (runTime <= 0) {
+                skippedCount++;
+                continue;
+            }
+            long queue = count > QUEUE_FIELD ? fields[QUEUE_FIELD] : -1;
+            jobId = (int) fields[JOB_FIELD];
+            jobArrival = (int) Math.max(0, Math.min(Integer.MAX_VALUE, fields[SUBMIT_FIELD]));
+            jobBurst = (int) Math.min(Integer.MAX_VALUE, runTime);
+            jobPriority = queue >= 0 ? (int) Math.min(Integer.MAX_VALUE, queue + 1) : DEFAULT_PRIORITY;
+            return true;
+        }
+    }
+
+    /**
+     * Reads the numeric fields of one line into {@link #fields}; fractional
+     * parts are truncated
+     *
+     * @return number of fields, 0 for blank and comment lines, -1 at the end
+     */
+    private int readLine() throws IOException {
+        int b = read();
+        if (b < 0) return -1;
+        line++;
+        if (b == ';') {
+            while (b >= 0 && b != '\n') b = read();
+            return 0;
+        }
+
+        int count = 0;
+        while (b >= 0 && b != '\n') {
+            if (b == ' ' || b == '\t' || b == '\r') {
+                b = read();
+                continue;
+            }
+            boolean negative = b == '-';
+            if (negative) b = read();
+            long value = 0;
+            boolean digits = false;
+            while (b >= '0' && b <= '9') {
+                if (value > (Long.MAX_VALUE - (b - '0')) / 10) {
+                    throw new IOException("SWF line " + line + ": field " + (count + 1) + " out of range");
+                }
+                value = value * 10 + (b - '0');
+                digits = true;
+                b = read();
+            }
+            if (b == '.') {
+                b = read();
+                while (b >= '0' && b <= '9') {
+                    digits = true;
+                    b = read();
+                }
+            }
+            if (!digits || (b >= 0 && b != ' ' && b != '\t' && b != '\r' && b != '\n')) {
+                throw new IOException("SWF line " + line + ": malformed field " + (count + 1));
+            }
+            if (count < FIELDS) {
+                fields[count] = negative ? -value : value;
+            }
+            count++;
+        }
+        return Math.min(count, FIELDS);
+    }
+
+    private int read() throws IOException {
+        if (!buffer.hasRemaining()) {
+            if (eof) return -1;
+            buffer.clear();
+            int n;
+            do {
+                n = channel.read(buffer);
+            } while (n == 0);
+            buffer.flip();
+            if (n < 0) {
+                eof = true;
+                return -1;
+            }
+        }
+        return buffer.get() & 0xFF;
+    }
+}
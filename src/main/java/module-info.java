@@ -5,10 +5,17 @@ module com.example.os {
     requires org.controlsfx.controls;
     requires com.dlsc.formsfx;
     requires org.kordamp.bootstrapfx.core;
+    requires weka.stable;
+    requires jdk.httpserver;
+    requires static jdk.incubator.vector;
 
     opens com.example.os to javafx.fxml;
     exports com.example.os;
     exports com.example.os.model;
     exports com.example.os.scheduler;
     exports com.example.os.ai;
+    exports com.example.os.trace;
+    exports com.example.os.runtime;
+    exports com.example.os.service;
+    exports com.example.os.sweep;
 }
\ No newline at end of file
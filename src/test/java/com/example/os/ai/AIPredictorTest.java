@@ -0,0 +1,44 @@
+package com.example.os.ai;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.os.model.Process;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AIPredictorTest {
+
+    @Test
+    void burstTimeModelSeesOnlyCompletedBursts() {
+        List<Double> means = new ArrayList<>();
+        BurstTimeModel model = (processes, recentBurstMean) -> {
+            means.add(recentBurstMean);
+            int[] predictions = new int[processes.size()];
+            Arrays.fill(predictions, 42);
+            return predictions;
+        };
+        AIPredictor predictor = new AIPredictor();
+        predictor.setBurstTimeModel(model);
+        List<Process> workload = List.of(new Process(100, 0, 1000, 1), new Process(101, 2, 2000, 1));
+        int[] out = new int[2];
+
+        predictor.predictBurstTimes(workload, out);
+        assertArrayEquals(new int[] {42, 42}, out);
+        assertTrue(Double.isNaN(means.get(0)));
+
+        for (int burst : new int[] {90, 3, 6, 9}) {
+            predictor.updatePrediction(burst, 1, burst);
+        }
+        predictor.predictBurstTimes(workload, out);
+        double mean = means.get(1);
+        assertEquals(6.0, mean); // the last three, never 1000 or 2000
+
+        predictor.reset();
+        predictor.predictBurstTimes(workload, out);
+        assertTrue(Double.isNaN(means.get(2)));
+    }
+}
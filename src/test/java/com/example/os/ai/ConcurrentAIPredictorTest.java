@@ -0,0 +1,119 @@
+package com.example.os.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.os.model.Process;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentAIPredictorTest {
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 200;
+    private static final int ROUNDS = 20;
+
+    private static int burst(int id, int round) {
+        return 1 + (id * 7 + round * 13) % 50;
+    }
+
+    @Test
+    void concurrentUpdatesMatchASequentialPredictor() throws Exception {
+        ConcurrentAIPredictor predictor = new ConcurrentAIPredictor(1 << 16, 16);
+        int total = THREADS * IDS_PER_THREAD;
+        CountDownLatch go = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int first = t * IDS_PER_THREAD;
+            Thread thread = new Thread(() -> {
+                try {
+                    go.await();
+                    for (int round = 0; round < ROUNDS; round++) {
+                        for (int id = first; id < first + IDS_PER_THREAD; id++) {
+                            predictor.updatePrediction(id, id % 5, burst(id, round));
+                            int predicted = predictor.getPredictedBurstTime(new Process(id, 0, 10, id % 5));
+                            if (predicted <= 0) {
+                                throw new AssertionError("prediction " + predicted + " for id " + id);
+                            }
+                            int tracked = predictor.getTrackedIdCount();
+                            if (tracked < 1 || tracked > total) {
+                                throw new AssertionError("tracked id count " + tracked);
+                            }
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        go.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+
+        // Per-id state depends only on that id's own updates, which each
+        // thread applied in order
+        AIPredictor sequential = new AIPredictor(1 << 16);
+        for (int id = 0; id < total; id++) {
+            for (int round = 0; round < ROUNDS; round++) {
+                sequential.updatePrediction(id, id % 5, burst(id, round));
+            }
+        }
+        int tracked = predictor.getTrackedIdCount();
+        assertEquals(total, tracked);
+        for (int id = 0; id < total; id++) {
+            double expected = sequential.getCurrentPrediction(id);
+            double actual = predictor.getCurrentPrediction(id);
+            assertEquals(expected, actual, "id " + id);
+        }
+    }
+
+    @Test
+    void inheritedMethodsUseTheStripes() throws Exception {
+        ConcurrentAIPredictor predictor = new ConcurrentAIPredictor(1000, 8);
+        AIPredictor sequential = new AIPredictor(1000);
+        List<Process> processes = new ArrayList<>();
+        for (int id = 0; id < 40; id++) {
+            for (int round = 0; round < 4; round++) {
+                predictor.updatePrediction(new Process(id, 0, burst(id, round), 2), burst(id, round));
+                sequential.updatePrediction(new Process(id, 0, burst(id, round), 2), burst(id, round));
+            }
+            processes.add(new Process(id, 0, 99, 2));
+        }
+
+        List<Process> optimized = predictor.optimizeProcessList(processes);
+        List<Process> expected = sequential.optimizeProcessList(processes);
+        for (int i = 0; i < processes.size(); i++) {
+            int expectedBurst = expected.get(i).burstTime;
+            int actualBurst = optimized.get(i).burstTime;
+            assertEquals(expectedBurst, actualBurst, "id " + i);
+        }
+
+        Path file = Files.createTempFile("concurrent-predictor", ".bin");
+        try {
+            predictor.saveSnapshot(file);
+            ConcurrentAIPredictor restored = new ConcurrentAIPredictor(1000, 8);
+            restored.loadSnapshot(file);
+            int tracked = restored.getTrackedIdCount();
+            assertEquals(40, tracked);
+            for (int id = 0; id < 40; id++) {
+                assertTrue(restored.isTracked(id));
+                double before = predictor.getCurrentPrediction(id);
+                double after = restored.getCurrentPrediction(id);
+                assertEquals(before, after);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.os.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class PredictorSnapshotTest {
+
+    private static byte[] snapshot(AIPredictor predictor) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        predictor.writeSnapshot(Channels.newChannel(bytes));
+        return bytes.toByteArray();
+    }
+
+    private static void restore(AIPredictor predictor, byte[] snapshot) throws IOException {
+        predictor.restoreSnapshot(Channels.newChannel(new ByteArrayInputStream(snapshot)));
+    }
+
+    @Test
+    void roundTripRestoresPredictionsAndScoreWeights() throws IOException {
+        AIPredictor original = new AIPredictor();
+        int[] bursts = {4, 6, 5, 9, 3, 12, 7, 7, 8, 2, 11, 5};
+        for (int id = 1; id <= 20; id++) {
+            for (int burst : bursts) {
+                original.updatePrediction(id, id % 10, burst + id);
+            }
+        }
+        ScoreWeights learned = new ScoreWeights(0.1, 0.4, 0.3, 0.2, 1.5, 3.25, 17);
+        original.setScoreWeights(5, learned);
+
+        AIPredictor restored = new AIPredictor();
+        restore(restored, snapshot(original));
+
+        assertEquals(original.getTrackedIdCount(), restored.getTrackedIdCount());
+        for (int id = 1; id <= 20; id++) {
+            assertEquals(original.getCurrentPrediction(id), restored.getCurrentPrediction(id));
+        }
+        assertEquals(learned.toString(), restored.getScoreWeights(5).toString());
+        assertEquals(ScoreWeights.DEFAULT.toString(), restored.getScoreWeights(0).toString());
+        // Equal state encodes to equal bytes
+        assertTrue(Arrays.equals(snapshot(original), snapshot(restored)));
+    }
+
+    @Test
+    void restoreKeepsLeastRecentlyUsedOrder() throws IOException {
+        AIPredictor original = new AIPredictor(3);
+        original.updatePrediction(1, 10);
+        original.updatePrediction(2, 20);
+        original.updatePrediction(3, 30);
+        original.updatePrediction(1, 12); // 2 is now the eldest
+
+        AIPredictor restored = new AIPredictor(3);
+        restore(restored, snapshot(original));
+        restored.updatePrediction(4, 40);
+
+        assertFalse(restored.isTracked(2));
+        assertTrue(restored.isTracked(1));
+        assertTrue(restored.isTracked(3));
+        assertTrue(restored.isTracked(4));
+    }
+
+    @Test
+    void readsVersionOneSnapshots() throws IOException {
+        ByteBuffer v1 = ByteBuffer.allocate(1024);
+        v1.putInt(PredictorSnapshot.MAGIC).putInt(1).putInt(AIPredictor.WORKLOAD_CLASSES);
+        for (int i = 0; i < AIPredictor.WORKLOAD_CLASSES; i++) {
+            v1.putDouble(i);
+        }
+        // One block with a single record, no score weight table
+        v1.putInt(1);
+        v1.putInt(42).putDouble(7.5).putDouble(0.5).putDouble(1.0).put((byte) 3).put((byte) 2);
+        v1.putInt(7).putInt(8);
+        v1.putInt(0);
+        byte[] bytes = Arrays.copyOf(v1.array(), v1.position());
+
+        AIPredictor predictor = new AIPredictor();
+        predictor.setScoreWeights(1, new ScoreWeights(0.1, 0.1, 0.1, 0.1, 2.0, 1.0, 1));
+        restore(predictor, bytes);
+
+        assertTrue(predictor.isTracked(42));
+        assertEquals(7.5, predictor.getCurrentPrediction(42));
+        assertEquals(1, predictor.getTrackedIdCount());
+        assertEquals(ScoreWeights.DEFAULT.toString(), predictor.getScoreWeights(1).toString());
+    }
+
+    @Test
+    void rejectsUnknownVersionsAndTruncatedSnapshots() throws IOException {
+        byte[] bytes = snapshot(new AIPredictor());
+        byte[] future = bytes.clone();
+        ByteBuffer.wrap(future).putInt(4, PredictorSnapshot.VERSION + 1);
+        assertThrows(IOException.class, () -> restore(new AIPredictor(), future));
+
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length / 2);
+        assertThrows(IOException.class, () -> restore(new AIPredictor(), truncated));
+    }
+
+    @Test
+    void sparseStripesRoundTrip() throws IOException {
+        // Most of the 64 stripes stay empty
+        ConcurrentAIPredictor original = new ConcurrentAIPredictor(1000, 64);
+        for (int id = 0; id < 10; id++) {
+            original.updatePrediction(id * 7, 2, 3 + id);
+        }
+
+        ConcurrentAIPredictor restored = new ConcurrentAIPredictor(1000, 64);
+        restore(restored, snapshot(original));
+        assertEquals(10, restored.getTrackedIdCount());
+        for (int id = 0; id < 10; id++) {
+            assertEquals(original.getCurrentPrediction(id * 7), restored.getCurrentPrediction(id * 7));
+        }
+    }
+
+    @Test
+    void readsEmptyBlocksOfVersionTwoAndRejectsTrailingBytes() throws IOException {
+        AIPredictor original = new AIPredictor();
+        original.updatePrediction(5, 9);
+        byte[] bytes = snapshot(original);
+        int header = snapshot(new AIPredictor()).length - 4;
+
+        // A version 2 writer put an empty block before the record's
+        ByteBuffer v2 = ByteBuffer.allocate(bytes.length + 4);
+        v2.put(bytes, 0, header).putInt(0).put(bytes, header, bytes.length - header);
+        v2.putInt(4, 2);
+        AIPredictor restored = new AIPredictor();
+        restore(restored, v2.array());
+        assertEquals(original.getCurrentPrediction(5), restored.getCurrentPrediction(5));
+
+        byte[] trailing = Arrays.copyOf(bytes, bytes.length + 4);
+        assertThrows(IOException.class, () -> restore(new AIPredictor(), trailing));
+    }
+
+    @Test
+    void concurrentPredictorRoundTripsThroughCheckpointFile() throws IOException {
+        Path dir = Files.createTempDirectory("predictor");
+        Path path = dir.resolve("predictor.snap");
+        try {
+            ConcurrentAIPredictor original = new ConcurrentAIPredictor(1000, 4);
+            for (int id = 0; id < 200; id++) {
+                original.updatePrediction(id, id % 8, 5 + id % 13);
+            }
+            new PredictorCheckpointer(original, path, Duration.ofHours(1)).close();
+
+            ConcurrentAIPredictor restored = new ConcurrentAIPredictor(1000, 4);
+            assertTrue(PredictorCheckpointer.warmStart(restored, path));
+            assertEquals(200, restored.getTrackedIdCount());
+            for (int id = 0; id < 200; id++) {
+                assertEquals(original.getCurrentPrediction(id), restored.getCurrentPrediction(id));
+            }
+        } finally {
+            Files.deleteIfExists(path);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    @Test
+    void checkpointerRejectsNonPositivePeriods() {
+        ConcurrentAIPredictor predictor = new ConcurrentAIPredictor();
+        Path path = Path.of("unused.snap");
+        assertThrows(IllegalArgumentException.class, () -> new PredictorCheckpointer(predictor, path, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new PredictorCheckpointer(predictor, path, Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> new PredictorCheckpointer(predictor, path, null));
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.os.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import com.example.os.model.ComparisonResult;
+import com.example.os.model.Process;
+import com.example.os.model.ScheduleResult;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class SchedulerRecommenderTest {
+
+    private static List<ComparisonResult> winner(String algorithm, List<Process> workload) {
+        ComparisonResult result = new ComparisonResult(algorithm, new ScheduleResult(workload, List.of(), 1, 1));
+        return List.of(result);
+    }
+
+    @Test
+    void singleTrainedClassFallsBackToFullComparison() {
+        SchedulerRecommender recommender = new SchedulerRecommender();
+        recommender.trainMonteCarlo(50, new Random(1), workload -> winner("FCFS", workload));
+
+        List<Process> workload = SchedulerRecommender.randomWorkload(new Random(2));
+        int[] comparisons = new int[1];
+        Recommendation recommendation = recommender.recommendFast(workload, () -> {
+            comparisons[0]++;
+            return winner("SJF", workload);
+        });
+
+        assertEquals(1, comparisons[0]);
+        assertEquals(0.0, recommendation.confidence);
+        assertEquals("SJF", recommendation.algorithmName);
+        assertNotNull(recommendation.comparison);
+    }
+}
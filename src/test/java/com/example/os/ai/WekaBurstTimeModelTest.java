@@ -0,0 +1,84 @@
+package com.example.os.ai;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.os.model.Process;
+import com.example.os.scheduler.FCFSScheduler;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class WekaBurstTimeModelTest {
+
+    /** Bursts grow with the priority number */
+    private static List<Process> workload(Random random, int n) {
+        List<Process> processes = new ArrayList<>();
+        int time = 0;
+        for (int i = 0; i < n; i++) {
+            time += random.nextInt(4);
+            int priority = 1 + random.nextInt(5);
+            processes.add(new Process(i + 1, time, 4 * priority + random.nextInt(3), priority));
+        }
+        return processes;
+    }
+
+    /** Completed traces, as the model is trained on */
+    private static List<List<Process>> traces(Random random) {
+        List<List<Process>> traces = new ArrayList<>();
+        for (int t = 0; t < 20; t++) {
+            traces.add(new FCFSScheduler().schedule(workload(random, 50)).processes);
+        }
+        return traces;
+    }
+
+    @Test
+    void trainsPredictsAndSurvivesSaveAndLoad() throws Exception {
+        Random random = new Random(11);
+        WekaBurstTimeModel model = WekaBurstTimeModel.train(traces(random));
+        List<Process> upcoming = workload(random, 40);
+        int[] predictions = model.predictBurstTimes(upcoming, 12.0);
+
+        int close = 0;
+        for (int i = 0; i < predictions.length; i++) {
+            assertTrue(predictions[i] >= 1);
+            if (Math.abs(predictions[i] - upcoming.get(i).burstTime) <= 4) close++;
+        }
+        // Priority alone predicts bursts to within a few units
+        assertTrue(close >= predictions.length * 3 / 4, close + " of " + predictions.length);
+
+        Path file = Files.createTempFile("burst-model", ".model");
+        try {
+            model.save(file.toString());
+            WekaBurstTimeModel loaded = WekaBurstTimeModel.load(file.toString());
+            assertArrayEquals(predictions, loaded.predictBurstTimes(upcoming, 12.0));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void predictionsNeverReadTheBurstsBeingPredicted() {
+        Random random = new Random(12);
+        WekaBurstTimeModel model = WekaBurstTimeModel.train(traces(random));
+        List<Process> upcoming = workload(random, 40);
+        List<Process> scrambled = new ArrayList<>();
+        for (Process p : upcoming) {
+            Process copy = p.copy();
+            copy.burstTime = 1 + random.nextInt(100);
+            scrambled.add(copy);
+        }
+        assertArrayEquals(model.predictBurstTimes(upcoming, 9.5), model.predictBurstTimes(scrambled, 9.5));
+        assertArrayEquals(model.predictBurstTimes(upcoming, Double.NaN), model.predictBurstTimes(scrambled, Double.NaN));
+    }
+
+    @Test
+    void rejectsTracesThatHaveNotRun() {
+        List<List<Process>> traces = List.of(workload(new Random(13), 10));
+        assertThrows(IllegalArgumentException.class, () -> WekaBurstTimeModel.train(traces));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.os.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void smallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 20; value >= 1; value--) {
+            histogram.record(value);
+        }
+        assertEquals(1, histogram.percentile(0));
+        assertEquals(1, histogram.percentile(5));
+        assertEquals(10, histogram.percentile(50));
+        assertEquals(19, histogram.percentile(95));
+        assertEquals(20, histogram.percentile(100));
+        assertEquals(1, histogram.getMin());
+        assertEquals(20, histogram.getMax());
+        assertEquals(10.5, histogram.getMean());
+    }
+
+    @Test
+    void percentilesStayWithinABucketOfTheExactValue() {
+        Random random = new Random(3);
+        LatencyHistogram histogram = new LatencyHistogram();
+        int[] values = new int[5000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(1_000_000);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        for (double percentile : new double[] {1, 10, 50, 90, 95, 99, 99.9}) {
+            int exact = values[(int) Math.ceil(percentile / 100.0 * values.length) - 1];
+            int reported = histogram.percentile(percentile);
+            assertTrue(reported >= exact && reported <= exact + exact / 32 + 1,
+                       "p" + percentile + ": " + reported + " for " + exact);
+        }
+        int max = values[values.length - 1];
+        assertEquals(max, histogram.getMax());
+        assertEquals(max, histogram.percentile(100)); // clamped to the maximum, not the bucket bound
+        assertEquals(values[0], histogram.getMin());
+    }
+
+    @Test
+    void emptyAndExtremeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.percentile(50));
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getMin());
+
+        histogram.record(-5); // recorded as 0
+        histogram.record(Integer.MAX_VALUE);
+        assertEquals(0, histogram.percentile(50));
+        assertEquals(Integer.MAX_VALUE, histogram.percentile(100));
+        assertEquals(Integer.MAX_VALUE, histogram.getMax());
+
+        histogram.clear();
+        histogram.record(7);
+        assertEquals(7, histogram.percentile(99));
+        assertEquals(7, histogram.getMax());
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.os.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class ProcessTest {
+
+    @Test
+    void burstSequenceSumsCpuAndIoTime() {
+        Process p = new Process(1, 0, new int[] {3, 5, 4, 2, 1}, 2, 1);
+        assertEquals(8, p.burstTime);
+        assertEquals(8, p.remainingTime);
+        assertEquals(7, p.getIoTime());
+        assertArrayEquals(new int[] {3, 5, 4, 2, 1}, p.bursts);
+    }
+
+    @Test
+    void rejectsInvalidBurstSequences() {
+        assertThrows(IllegalArgumentException.class, () -> new Process(1, 0, new int[] {3, 5}, 2, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Process(1, 0, new int[] {3, -1, 2}, 2, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Process(1, 0, new int[] {3, 1, 2}, 2, -1));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new Process(1, 0, new int[] {Integer.MAX_VALUE, 1, 1}, 2, 0));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.os.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.os.ai.AIPredictor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SchedulingExecutorTest {
+
+    @Test
+    void runsEveryJobOnce() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        try (SchedulingExecutor executor = new SchedulingExecutor(SchedulingPolicy.SJF, new AIPredictor(), 4)) {
+            for (int i = 0; i < 500; i++) {
+                int value = i;
+                futures.add(executor.submit(() -> {
+                    runs.incrementAndGet();
+                    return value;
+                }, i % 7, 1 + i % 5));
+            }
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            int result = futures.get(i).get(1, TimeUnit.SECONDS);
+            assertEquals(i, result);
+        }
+        assertEquals(500, runs.get());
+    }
+
+    @Test
+    void rejectsJobsAfterShutdown() {
+        SchedulingExecutor executor = new SchedulingExecutor(SchedulingPolicy.FCFS, new AIPredictor(), 1);
+        executor.close();
+        assertThrows(RejectedExecutionException.class, () -> executor.submit(() -> 1, 0, 1));
+    }
+
+    @Test
+    void jobsRacingWithShutdownAreRunOrRejected() throws Exception {
+        for (int round = 0; round < 200; round++) {
+            SchedulingExecutor executor = new SchedulingExecutor(SchedulingPolicy.PRIORITY, new AIPredictor(), 2);
+            int producers = 4;
+            CountDownLatch go = new CountDownLatch(1);
+            List<CompletableFuture<?>> accepted = new ArrayList<>();
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < producers; t++) {
+                Thread thread = new Thread(() -> {
+                    try {
+                        go.await();
+                        for (int i = 0; i < 100; i++) {
+                            CompletableFuture<Integer> future = executor.submit(() -> 1, 0, 1);
+                            synchronized (accepted) {
+                                accepted.add(future);
+                            }
+                        }
+                    } catch (RejectedExecutionException | InterruptedException e) {
+                        // Shut down under us
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            go.countDown();
+            executor.shutdown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+            // No accepted job may be left pending once the executor terminated
+            synchronized (accepted) {
+                for (CompletableFuture<?> future : accepted) {
+                    assertTrue(future.isDone(), "stranded job in round " + round);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.os.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.os.ai.AIPredictor;
+import com.example.os.model.MetricsSummary;
+import com.example.os.model.Process;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Quality and speed of approximate selection against exact selection on
+ * overloaded workloads, where the ready list grows to thousands. Prints
+ * mean and p95 waiting time and the best of a few summary-only runs.
+ * Excluded from the build; run with
+ * {@code ./mvnw test -Dtest=ApproximateSelectionBenchmark -DexcludedTestGroups=}
+ */
+@Tag("bench")
+class ApproximateSelectionBenchmark {
+    private static final int[] SIZES = {10_000, 50_000};
+    private static final int[] SAMPLE_SIZES = {0, 8, 32}; // 0 is exact
+    private static final int REPEATS = 3;
+
+    /** Twice as much work arrives as the CPU can do */
+    private static Workload overloaded(int n, long seed) {
+        Random random = new Random(seed);
+        int meanBurst = 10;
+        List<Process> processes = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            processes.add(new Process(i + 1, random.nextInt(n * meanBurst / 2), 1 + random.nextInt(2 * meanBurst - 1),
+                                      1 + random.nextInt(10)));
+        }
+        return Workload.of(processes);
+    }
+
+    @Test
+    void compareExactAndSampledSelection() {
+        for (int n : SIZES) {
+            Workload workload = overloaded(n, n);
+            for (int sampleSize : SAMPLE_SIZES) {
+                MetricsSummary summary = null;
+                long bestNanos = Long.MAX_VALUE;
+                for (int repeat = 0; repeat < REPEATS; repeat++) {
+                    // A fresh predictor each time, so every repeat schedules the same way
+                    IntelligentAIScheduler scheduler = new IntelligentAIScheduler(new AIPredictor());
+                    scheduler.setApproximateSelection(sampleSize);
+                    long start = System.nanoTime();
+                    summary = scheduler.summarize(workload);
+                    bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+                }
+                assertEquals(n, summary.getProcessCount());
+                System.out.printf(Locale.ROOT, "n=%d %-5s avgW %.1f p95W %d %d ms%n", n,
+                                  sampleSize == 0 ? "exact" : "k=" + sampleSize, summary.waiting.getMean(),
+                                  summary.waiting.percentile(95), bestNanos / 1_000_000);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.os.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.os.ai.AIPredictor;
+import com.example.os.ai.ScoreWeights;
+import com.example.os.model.MetricsSummary;
+import com.example.os.model.Process;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class IntelligentAISchedulerTest {
+
+    /** Bursty arrivals of mostly short and some long processes */
+    private static List<Process> burstyWorkload() {
+        Random random = new Random(1);
+        List<Process> processes = new ArrayList<>();
+        int time = 0;
+        for (int i = 0; i < 300; i++) {
+            if (random.nextInt(10) == 0) {
+                time += random.nextInt(200);
+            }
+            int burst = random.nextInt(5) == 0 ? 20 + random.nextInt(60) : 1 + random.nextInt(5);
+            processes.add(new Process(i + 1, time, burst, 1 + random.nextInt(10)));
+        }
+        return processes;
+    }
+
+    /** The cost weight learning minimizes */
+    private static double cost(MetricsSummary summary, Workload workload) {
+        long totalBurst = 0;
+        for (Process p : workload.getProcesses()) {
+            totalBurst += p.burstTime;
+        }
+        return (summary.waiting.getMean() + summary.turnaround.getMean()) / ((double) totalBurst / workload.size());
+    }
+
+    @Test
+    void trainingLowersTheCostOfTheWorkloadClass() {
+        Workload workload = Workload.of(burstyWorkload());
+        IntelligentAIScheduler scheduler = new IntelligentAIScheduler(new AIPredictor());
+        double untrained = cost(scheduler.summarize(workload), workload);
+
+        scheduler.trainWeights(workload, 60);
+        double trained = cost(scheduler.summarize(workload), workload);
+        assertTrue(trained < 0.9 * untrained, untrained + " -> " + trained);
+
+        scheduler.setWeightLearning(false);
+        assertEquals(untrained, cost(scheduler.summarize(workload), workload), 1e-9);
+    }
+
+    @Test
+    void runsOutsideTrainingAreReproducible() {
+        Workload workload = Workload.of(burstyWorkload());
+        AIPredictor predictor = new AIPredictor();
+        IntelligentAIScheduler scheduler = new IntelligentAIScheduler(predictor);
+        MetricsSummary first = scheduler.summarize(workload);
+        for (int run = 0; run < 10; run++) {
+            MetricsSummary again = scheduler.summarize(workload);
+            assertEquals(first.waiting.getMean(), again.waiting.getMean());
+            assertEquals(first.makespan, again.makespan);
+        }
+        for (int workloadClass = 0; workloadClass < AIPredictor.SCORE_WEIGHT_CLASSES; workloadClass++) {
+            assertEquals(ScoreWeights.DEFAULT.toString(), predictor.getScoreWeights(workloadClass).toString());
+        }
+        assertThrows(IllegalArgumentException.class, () -> scheduler.trainWeights(workload, -1));
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.os.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.os.ai.AIPredictor;
+import com.example.os.model.Process;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LowerBoundsTest {
+
+    @Test
+    void sjfMeetsTheBoundWhenAllArriveAtOnce() {
+        // Bursts 3, 1, 2 run shortest first complete at 1, 3 and 6
+        List<Process> small = List.of(new Process(1, 0, 3, 1), new Process(2, 0, 1, 1), new Process(3, 0, 2, 1));
+        LowerBounds bounds = LowerBounds.of(Workload.of(small));
+        assertEquals(10.0 / 3, bounds.srpt, 1e-12);
+        assertEquals(2.0, bounds.relaxed, 1e-12);
+        assertEquals(bounds.srpt, bounds.turnaround);
+
+        Random random = new Random(11);
+        for (int w = 0; w < 50; w++) {
+            List<Process> processes = new ArrayList<>();
+            int n = 1 + random.nextInt(40);
+            for (int i = 0; i < n; i++) {
+                processes.add(new Process(i + 1, 0, 1 + random.nextInt(30), 1 + random.nextInt(5)));
+            }
+            double bound = LowerBounds.of(Workload.of(processes)).srpt;
+            double sjf = new SJFScheduler().schedule(processes).avgTurnaroundTime;
+            assertEquals(bound, sjf, 1e-9, "workload " + w);
+        }
+    }
+
+    @Test
+    void noPolicyBeatsTheBound() {
+        Random random = new Random(5);
+        for (int w = 0; w < 60; w++) {
+            List<Process> processes = new ArrayList<>();
+            int n = 1 + random.nextInt(30);
+            for (int i = 0; i < n; i++) {
+                int arrival = random.nextInt(40);
+                int priority = 1 + random.nextInt(5);
+                if (random.nextBoolean()) {
+                    int[] bursts = {1 + random.nextInt(10), 1 + random.nextInt(8), 1 + random.nextInt(10)};
+                    processes.add(new Process(i + 1, arrival, bursts, priority, random.nextInt(2)));
+                } else {
+                    processes.add(new Process(i + 1, arrival, 1 + random.nextInt(15), priority));
+                }
+            }
+            LowerBounds bounds = LowerBounds.of(Workload.of(processes));
+            OverheadModel overhead = w % 2 == 0 ? OverheadModel.NONE : new OverheadModel(1, 2);
+            Scheduler[] schedulers = {new FCFSScheduler(), new SJFScheduler(), new PriorityScheduler(),
+                new RoundRobinScheduler(1 + w % 4), new IntelligentAIScheduler(new AIPredictor())};
+            for (Scheduler scheduler : schedulers) {
+                scheduler.setOverheadModel(overhead);
+                double turnaround = scheduler.schedule(processes).avgTurnaroundTime;
+                assertTrue(turnaround >= bounds.turnaround - 1e-9,
+                           scheduler.getClass().getSimpleName() + " on workload " + w + ": " + turnaround
+                           + " below " + bounds);
+            }
+        }
+    }
+
+    @Test
+    void emptyWorkloadHasZeroBounds() {
+        LowerBounds bounds = LowerBounds.of(Workload.of(List.of()));
+        assertEquals(0.0, bounds.turnaround);
+    }
+}
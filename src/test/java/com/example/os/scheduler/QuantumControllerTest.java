@@ -0,0 +1,122 @@
+package com.example.os.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.os.model.MetricsSummary;
+import com.example.os.model.Process;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class QuantumControllerTest {
+
+    /** A run to report dispatches from; the tests set its clock and summary directly */
+    private static ScheduleRun run() {
+        return new RoundRobinScheduler(2).start(List.of(new Process(1, 0, 100, 1)));
+    }
+
+    /** Reports the first dispatch of a process that arrived at 0, at {@code time} */
+    private static void respond(QuantumController.Feedback feedback, ScheduleRun run, int time) {
+        run.currentTime = time;
+        run.start[0] = time;
+        feedback.observeDispatch(run, 0);
+    }
+
+    /** Reports a dispatch after {@code overhead} of switching and {@code busy} of work */
+    private static void switching(QuantumController.Feedback feedback, ScheduleRun run, long overhead, long busy) {
+        MetricsSummary summary = run.getSummary();
+        summary.overheadTime = overhead;
+        summary.busyTime = busy;
+        run.start[0] = -1; // not a first dispatch
+        feedback.observeDispatch(run, 0);
+    }
+
+    @Test
+    void quantumStaysWithinItsBounds() {
+        Random random = new Random(9);
+        ScheduleRun run = run();
+        for (QuantumController.Objective objective : QuantumController.Objective.values()) {
+            double target = objective == QuantumController.Objective.THROUGHPUT ? 0.05 : 8;
+            QuantumController.Feedback feedback =
+                new QuantumController.Feedback(new QuantumController(objective, target, 3, 20));
+            feedback.reset(new OverheadModel(random.nextInt(5), random.nextInt(5)));
+            for (int step = 0; step < 2000; step++) {
+                feedback.observeBurst(random.nextBoolean() ? 1 + random.nextInt(3) : random.nextInt(100_000));
+                if (random.nextBoolean()) {
+                    respond(feedback, run, random.nextInt(1000));
+                } else {
+                    switching(feedback, run, random.nextInt(100), random.nextInt(100));
+                }
+                int quantum = feedback.quantum(random.nextInt(500));
+                assertTrue(quantum >= 3 && quantum <= 20, objective + " quantum " + quantum + " at step " + step);
+            }
+        }
+    }
+
+    @Test
+    void quantumRisesWhileOverheadIsOverTarget() {
+        ScheduleRun run = run();
+        QuantumController.Feedback feedback =
+            new QuantumController.Feedback(new QuantumController(QuantumController.Objective.THROUGHPUT, 0.1, 1, 64));
+        feedback.reset(new OverheadModel(2, 0));
+        for (int i = 0; i < 10; i++) {
+            feedback.observeBurst(4);
+        }
+        // Amortizing a switch of 2 to a 10% share takes slices of 2 * 0.9 / 0.1 = 18
+        int initial = feedback.quantum(5);
+        assertEquals(18, initial);
+
+        int previous = initial;
+        for (int i = 0; i < 10; i++) {
+            switching(feedback, run, 50, 50); // half the time switching
+            int quantum = feedback.quantum(5);
+            assertTrue(quantum >= previous, "quantum " + quantum + " after " + previous);
+            previous = quantum;
+        }
+        assertTrue(previous > initial);
+        for (int i = 0; i < 100; i++) {
+            switching(feedback, run, 50, 50);
+        }
+        assertEquals(64, feedback.quantum(5));
+
+        // Within target the gain relaxes back, but not below the amortizing quantum
+        for (int i = 0; i < 1000; i++) {
+            switching(feedback, run, 1, 99);
+        }
+        assertEquals(initial, feedback.quantum(5));
+    }
+
+    @Test
+    void quantumFallsWhileMeanResponseIsOverTarget() {
+        ScheduleRun run = run();
+        QuantumController.Feedback feedback = new QuantumController.Feedback(
+            new QuantumController(QuantumController.Objective.RESPONSE_TIME, 10, 1, 64));
+        feedback.reset(OverheadModel.NONE);
+        for (int i = 0; i < 10; i++) {
+            feedback.observeBurst(20);
+        }
+        // Median burst 20, but one queued process must be reached within 10
+        int initial = feedback.quantum(1);
+        assertEquals(10, initial);
+
+        int previous = initial;
+        for (int i = 0; i < 5; i++) {
+            respond(feedback, run, 50);
+            int quantum = feedback.quantum(1);
+            assertTrue(quantum <= previous, "quantum " + quantum + " after " + previous);
+            previous = quantum;
+        }
+        assertTrue(previous < initial);
+        for (int i = 0; i < 100; i++) {
+            respond(feedback, run, 50);
+        }
+        assertEquals(3, feedback.quantum(1)); // 10 times the lowest gain of 0.25, rounded
+
+        // Responses back under target let the quantum grow again
+        for (int i = 0; i < 300; i++) {
+            respond(feedback, run, 0);
+        }
+        assertTrue(feedback.quantum(1) > initial);
+    }
+}
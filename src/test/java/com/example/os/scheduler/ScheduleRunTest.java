@@ -0,0 +1,93 @@
+package com.example.os.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.os.model.GanttEntry;
+import com.example.os.model.MetricsSummary;
+import com.example.os.model.Process;
+import com.example.os.model.ScheduleResult;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Small schedules worked out by hand, pinning the event-driven simulation
+ * details that the equivalence test's CPU-only workloads never reach.
+ */
+class ScheduleRunTest {
+
+    private static String slices(ScheduleResult result) {
+        StringBuilder out = new StringBuilder();
+        for (GanttEntry entry : result.ganttChart) {
+            out.append(entry.processId).append(':').append(entry.startTime).append('-').append(entry.endTime)
+               .append(' ');
+        }
+        return out.toString().trim();
+    }
+
+    @Test
+    void deviceServesIoRequestsInFifoOrder() {
+        // Both processes share device 0. Under FCFS:
+        //   0-2  P1 runs, then does I/O 2-6
+        //   2-3  P2 runs; its I/O queues behind P1's and is served 6-9
+        //   6-7  P1 finishes its last burst
+        //   9-11 P2 finishes its last burst
+        List<Process> processes = new ArrayList<>();
+        processes.add(new Process(1, 0, new int[] {2, 4, 1}, 1, 0));
+        processes.add(new Process(2, 0, new int[] {1, 3, 2}, 1, 0));
+        ScheduleResult result = new FCFSScheduler().schedule(processes);
+
+        assertEquals("1:0-2 2:2-3 1:6-7 2:9-11", slices(result));
+        Process p1 = result.processes.get(0);
+        Process p2 = result.processes.get(1);
+        assertEquals(7, p1.completionTime);
+        assertEquals(11, p2.completionTime);
+        // Time spent on or queued for the device is not waiting: P1 never
+        // waits, P2 only waits for the CPU from 0 to 2
+        assertEquals(0, p1.waitingTime);
+        assertEquals(2, p2.waitingTime);
+        assertEquals(1.0, result.avgWaitingTime);
+        assertEquals(9.0, result.avgTurnaroundTime);
+
+        MetricsSummary summary = result.summary;
+        assertEquals(4 + 6, summary.ioTime); // P2's includes the 3 units queued for the device
+        assertEquals(6, summary.busyTime);
+        assertEquals(11, summary.makespan);
+        assertEquals(6.0 / 11, summary.getCpuUtilization(), 1e-12);
+        assertEquals(3, summary.contextSwitches);
+    }
+
+    @Test
+    void roundRobinPaysSwitchCostAndCacheWarmup() {
+        // RR(2) with a switch cost of 1 and a warm-up penalty of 2:
+        //   0-2   P1 runs; P3 arrives meanwhile and queues ahead of P1
+        //   2-3   switch to P2 (first run, switch cost only)
+        //   3-5   P2 runs to completion
+        //   5-6   switch to P3 (first run)
+        //   6-7   P3 runs to completion
+        //   7-10  switch back to P1 (resumed: switch cost plus warm-up)
+        //   10-11 P1 finishes
+        List<Process> processes = new ArrayList<>();
+        processes.add(new Process(1, 0, 3, 1));
+        processes.add(new Process(2, 0, 2, 1));
+        processes.add(new Process(3, 1, 1, 1));
+        RoundRobinScheduler scheduler = new RoundRobinScheduler(2);
+        scheduler.setOverheadModel(new OverheadModel(1, 2));
+        ScheduleResult result = scheduler.schedule(processes);
+
+        assertEquals("1:0-2 2:3-5 3:6-7 1:10-11", slices(result));
+        MetricsSummary summary = result.summary;
+        assertEquals(3, summary.contextSwitches); // the first dispatch is free
+        assertEquals(1 + 1 + 3, summary.overheadTime);
+        assertEquals(6, summary.busyTime);
+        assertEquals(11, summary.makespan);
+        assertEquals(5.0 / 11, summary.getOverheadFraction(), 1e-12);
+
+        // Overhead shows up as waiting: 8, 3 and 5
+        assertEquals(8, result.processes.get(0).waitingTime);
+        assertEquals(3, result.processes.get(1).waitingTime);
+        assertEquals(5, result.processes.get(2).waitingTime);
+        assertEquals(16.0 / 3, result.avgWaitingTime, 1e-12);
+        assertEquals(3, result.processes.get(1).startTime); // start is after the switch
+    }
+}
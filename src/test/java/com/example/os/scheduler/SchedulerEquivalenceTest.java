@@ -0,0 +1,216 @@
+package com.example.os.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.os.ai.AIPredictor;
+import com.example.os.ai.ScoreWeights;
+import com.example.os.model.BatchResult;
+import com.example.os.model.GanttEntry;
+import com.example.os.model.MetricsSummary;
+import com.example.os.model.Process;
+import com.example.os.model.ScheduleResult;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pins the schedules of all five policies to those of the original
+ * list-based implementations, and checks that every way of running a
+ * schedule, and every score kernel, agrees with the plain one.
+ */
+class SchedulerEquivalenceTest {
+    /**
+     * SHA-256 of {@link #transcript} as produced by the original schedulers;
+     * the last 20 workloads keep the intelligent scheduler's ready list
+     * above the bulk scoring threshold
+     */
+    private static final String ORIGINAL_TRANSCRIPT_SHA256 =
+        "2fcd5595fb7a776cebd0cc8fa305578f7dee81ebcabf804cc764169795333cc3";
+
+    private static List<List<Process>> workloads() {
+        Random random = new Random(42);
+        List<List<Process>> workloads = new ArrayList<>();
+        for (int w = 0; w < 320; w++) {
+            boolean large = w >= 300;
+            int n = large ? 150 + random.nextInt(100) : 1 + random.nextInt(30);
+            List<Process> processes = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                processes.add(new Process(i + 1, random.nextInt(large ? 50 : 40), 1 + random.nextInt(large ? 20 : 15),
+                                          1 + random.nextInt(large ? 10 : 6)));
+            }
+            workloads.add(processes);
+        }
+        return workloads;
+    }
+
+    private static Scheduler[] schedulers(int w) {
+        return new Scheduler[] {new FCFSScheduler(), new SJFScheduler(), new PriorityScheduler(),
+            new RoundRobinScheduler(1 + w % 4), new IntelligentAIScheduler(new AIPredictor())};
+    }
+
+    private static List<Process> copy(List<Process> processes) {
+        List<Process> copy = new ArrayList<>(processes.size());
+        for (Process p : processes) {
+            copy.add(p.copy());
+        }
+        return copy;
+    }
+
+    /** One line per run: averages, Gantt slices and per-process times by id */
+    private static void transcript(StringBuilder out, ScheduleResult result) {
+        out.append(String.format(Locale.ROOT, "%.4f %.4f |", result.avgWaitingTime, result.avgTurnaroundTime));
+        for (GanttEntry entry : result.ganttChart) {
+            out.append(' ').append(entry.processId).append('@').append(entry.startTime).append('-').append(entry.endTime);
+        }
+        List<Process> processes = new ArrayList<>(result.processes);
+        processes.sort(Comparator.comparingInt(p -> p.id));
+        for (Process p : processes) {
+            out.append(" [").append(p.id).append(':').append(p.startTime).append(',').append(p.completionTime)
+               .append(',').append(p.waitingTime).append(',').append(p.turnaroundTime).append(']');
+        }
+        out.append('\n');
+    }
+
+    private static String transcript(ScheduleResult result) {
+        StringBuilder out = new StringBuilder();
+        transcript(out, result);
+        return out.toString();
+    }
+
+    @Test
+    void schedulesMatchOriginalImplementations() throws NoSuchAlgorithmException {
+        List<List<Process>> workloads = workloads();
+        StringBuilder out = new StringBuilder();
+        for (int w = 0; w < workloads.size(); w++) {
+            for (Scheduler scheduler : schedulers(w)) {
+                out.append(scheduler.getClass().getSimpleName()).append(' ');
+                transcript(out, scheduler.schedule(copy(workloads.get(w))));
+            }
+        }
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(out.toString().getBytes(StandardCharsets.UTF_8));
+        assertEquals(ORIGINAL_TRANSCRIPT_SHA256, HexFormat.of().formatHex(digest));
+    }
+
+    @Test
+    void steppedWorkloadAndArenaRunsMatchSchedule() {
+        List<List<Process>> workloads = workloads();
+        SimulationArena arena = new SimulationArena();
+        for (int w = 0; w < workloads.size(); w += 7) {
+            List<Process> processes = workloads.get(w);
+            Workload workload = Workload.of(processes);
+            Scheduler[] plain = schedulers(w);
+            Scheduler[] stepped = schedulers(w);
+            Scheduler[] shared = schedulers(w);
+            Scheduler[] arenaRun = schedulers(w);
+            for (int s = 0; s < plain.length; s++) {
+                String name = plain[s].getClass().getSimpleName() + " on workload " + w;
+                String expected = transcript(plain[s].schedule(copy(processes)));
+
+                ScheduleRun run = stepped[s].start(processes);
+                while (run.hasNext()) {
+                    run.step();
+                }
+                assertEquals(expected, transcript(run.getResult()), name + ", stepped");
+                assertEquals(expected, transcript(shared[s].schedule(workload)), name + ", shared workload");
+                assertEquals(expected, transcript(arenaRun[s].schedule(workload, arena)), name + ", arena");
+            }
+
+            // Summary-only and batch runs keep no transcript; compare what they do keep
+            Scheduler[] reference = schedulers(w);
+            Scheduler[] summarized = schedulers(w);
+            List<Process> byArrival = copy(processes);
+            byArrival.sort(Comparator.comparingInt(p -> p.arrivalTime));
+            for (int s = 0; s < reference.length; s++) {
+                String name = reference[s].getClass().getSimpleName() + " on workload " + w;
+                ScheduleResult expected = reference[s].schedule(copy(processes));
+                int makespan = expected.ganttChart.get(expected.ganttChart.size() - 1).endTime;
+                assertEquals(makespan, expected.summary.makespan, name + ", result summary");
+
+                assertSummaryMatches(expected, makespan, summarized[s].summarize(processes), name + ", list");
+                assertSummaryMatches(expected, makespan, summarized[s].summarize(workload), name + ", workload");
+                assertSummaryMatches(expected, makespan, summarized[s].summarize(byArrival.iterator()),
+                                     name + ", streamed");
+
+                BatchResult batch = summarized[s].scheduleBatch(List.of(processes, processes));
+                for (int b = 0; b < 2; b++) {
+                    assertEquals(expected.avgWaitingTime, batch.avgWaitingTimes[b], 1e-9, name + ", batch");
+                    assertEquals(expected.avgTurnaroundTime, batch.avgTurnaroundTimes[b], 1e-9, name + ", batch");
+                    assertEquals(makespan, batch.makespans[b], name + ", batch");
+                }
+            }
+        }
+    }
+
+    private static void assertSummaryMatches(ScheduleResult expected, int makespan, MetricsSummary summary,
+                                             String name) {
+        long expectedCount = expected.processes.size();
+        assertEquals(expectedCount, summary.getProcessCount(), name);
+        assertEquals(expected.avgWaitingTime, summary.waiting.getMean(), 1e-9, name);
+        assertEquals(expected.avgTurnaroundTime, summary.turnaround.getMean(), 1e-9, name);
+        assertEquals(makespan, summary.makespan, name);
+        assertEquals(expected.summary.busyTime, summary.busyTime, name);
+        assertEquals(expected.summary.contextSwitches, summary.contextSwitches, name);
+    }
+
+    @Test
+    void approximateSelectionIsExactBelowItsSampleSize() {
+        List<List<Process>> workloads = workloads();
+        for (int w = 0; w < workloads.size(); w++) {
+            List<Process> processes = workloads.get(w);
+            IntelligentAIScheduler approximate = new IntelligentAIScheduler(new AIPredictor());
+            approximate.setApproximateSelection(processes.size());
+            assertEquals(transcript(new IntelligentAIScheduler(new AIPredictor()).schedule(copy(processes))),
+                         transcript(approximate.schedule(copy(processes))), "workload " + w);
+        }
+    }
+
+    @Test
+    void kernelsPickTheReferenceWinner() {
+        Random random = new Random(7);
+        ScoreKernel scalar = new ScoreKernel.Scalar();
+        for (int round = 0; round < 2000; round++) {
+            ScoredReadyList ready = new ScoredReadyList();
+            int size = 1 + random.nextInt(round % 10 == 0 ? 600 : 150);
+            int now = random.nextInt(5000);
+            int maxWaiting = 0;
+            for (int p = 0; p < size; p++) {
+                if (p > 0 && random.nextInt(8) == 0) {
+                    // Exact duplicate: ties go to the earlier position
+                    int q = random.nextInt(p);
+                    ready.add(p, ready.base[q], ready.arrival[q], ready.predicted[q], ready.flags[q]);
+                } else {
+                    int priority = 1 + random.nextInt(10);
+                    int predicted = 1 + random.nextInt(30);
+                    ready.add(p, IntelligentAIScheduler.baseScore(priority, predicted, ScoreWeights.DEFAULT),
+                              now - random.nextInt(now + 1), predicted, ScoreKernel.staticFlags(priority, predicted));
+                }
+                maxWaiting = Math.max(maxWaiting, now - ready.arrival[p]);
+            }
+            double waitingWeight = random.nextDouble();
+            double[] urgencyTerms = new double[ScoreKernel.URGENCY_CASES];
+            for (int f = 0; f < urgencyTerms.length; f++) {
+                urgencyTerms[f] = random.nextDouble();
+            }
+
+            int mask = ScoreKernel.flagMask(size);
+            int expected = 0;
+            for (int p = 1; p < size; p++) {
+                if (ScoreKernel.score(ready, p, now, mask, waitingWeight, urgencyTerms)
+                        > ScoreKernel.score(ready, expected, now, mask, waitingWeight, urgencyTerms)) {
+                    expected = p;
+                }
+            }
+            assertEquals(expected, scalar.selectBest(ready, now, maxWaiting, waitingWeight, urgencyTerms),
+                         "scalar kernel, round " + round);
+            assertEquals(expected, ScoreKernel.INSTANCE.selectBest(ready, now, maxWaiting, waitingWeight, urgencyTerms),
+                         ScoreKernel.INSTANCE.getClass().getSimpleName() + ", round " + round);
+        }
+    }
+}
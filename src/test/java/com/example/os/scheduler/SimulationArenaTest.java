@@ -0,0 +1,67 @@
+package com.example.os.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.os.ai.AIPredictor;
+import com.example.os.model.Process;
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class SimulationArenaTest {
+    private static final int WARM_UP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 50;
+
+    /** Workloads of several sizes, the largest above the bulk scoring threshold */
+    private static Workload[] workloads() {
+        Random random = new Random(7);
+        int[] sizes = {1, 12, 40, 3 * IntelligentAIScheduler.BULK_SCORING_THRESHOLD};
+        Workload[] workloads = new Workload[sizes.length];
+        for (int w = 0; w < sizes.length; w++) {
+            int n = sizes[w];
+            List<Process> processes = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                processes.add(new Process(i + 1, random.nextInt(2 * n), 1 + random.nextInt(20), 1 + random.nextInt(6)));
+            }
+            workloads[w] = Workload.of(processes);
+        }
+        return workloads;
+    }
+
+    @Test
+    void warmedUpRunsDoNotAllocate() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assertTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        IntelligentAIScheduler sampled = new IntelligentAIScheduler(new AIPredictor());
+        sampled.setApproximateSelection(4);
+        Scheduler[] schedulers = {new FCFSScheduler(), new SJFScheduler(), new PriorityScheduler(),
+            new RoundRobinScheduler(3), new IntelligentAIScheduler(new AIPredictor()), sampled};
+        Workload[] workloads = workloads();
+        SimulationArena arena = new SimulationArena();
+        // Both intelligent schedulers read learned score weights, as by default
+
+        for (Scheduler scheduler : schedulers) {
+            for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+                for (Workload workload : workloads) {
+                    scheduler.schedule(workload, arena);
+                }
+            }
+
+            // Indexed loops: an iterator here would be the only allocation
+            long before = threads.getCurrentThreadAllocatedBytes();
+            for (int round = 0; round < MEASURED_ROUNDS; round++) {
+                for (int w = 0; w < workloads.length; w++) {
+                    scheduler.schedule(workloads[w], arena);
+                }
+            }
+            long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+            assertEquals(0L, allocated, scheduler.getClass().getSimpleName());
+        }
+    }
+}
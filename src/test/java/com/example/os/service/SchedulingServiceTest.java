@@ -0,0 +1,221 @@
+package com.example.os.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.os.ai.ConcurrentAIPredictor;
+import com.example.os.model.Process;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SchedulingServiceTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private SchedulingService service;
+
+    @BeforeEach
+    void start() throws IOException {
+        service = new SchedulingService(0);
+        service.start();
+    }
+
+    @AfterEach
+    void stop() {
+        service.close();
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + service.getPort() + path));
+    }
+
+    private HttpResponse<String> post(String body) throws IOException, InterruptedException {
+        return send(request("/schedule").POST(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    private static String error(HttpResponse<String> response) {
+        return (String) ((Map<?, ?>) Json.parse(response.body())).get("error");
+    }
+
+    @Test
+    void schedulesAWorkload() throws Exception {
+        HttpResponse<String> response = post("{\"algorithm\": \"SJF\", \"processes\": ["
+            + "{\"id\": 1, \"arrival\": 0, \"burst\": 6, \"priority\": 2},"
+            + "{\"id\": 2, \"arrival\": 1, \"burst\": 2},"
+            + "{\"id\": 3, \"arrival\": 2, \"bursts\": [1, 3, 1], \"ioDevice\": 1}]}");
+
+        assertEquals(200, response.statusCode());
+        Map<?, ?> json = (Map<?, ?>) Json.parse(response.body());
+        assertEquals("SJF", json.get("algorithm"));
+        assertEquals(3, ((List<?>) json.get("processes")).size());
+        List<?> gantt = (List<?>) json.get("gantt");
+        assertEquals(List.of(1L, 0L, 6L), gantt.get(0));
+        assertEquals(((List<?>) gantt.get(gantt.size() - 1)).get(2), json.get("makespan"));
+    }
+
+    @Test
+    void omitsTheGanttChartOnRequest() throws Exception {
+        HttpResponse<String> response = post("{\"algorithm\": \"Round Robin\", \"timeQuantum\": 1, \"gantt\": false,"
+            + " \"processes\": [{\"burst\": 4}, {\"burst\": 3}]}");
+
+        assertEquals(200, response.statusCode());
+        Map<?, ?> json = (Map<?, ?>) Json.parse(response.body());
+        assertFalse(json.containsKey("gantt"));
+        assertEquals(7L, json.get("makespan"));
+    }
+
+    @Test
+    void rejectsMalformedRequests() throws Exception {
+        String[] bodies = {
+            "not json",
+            "[1, 2]",
+            "{\"processes\": []}",
+            "{\"algorithm\": 5, \"processes\": []}",
+            "{\"algorithm\": \"Lottery\", \"processes\": []}",
+            "{\"algorithm\": \"FCFS\", \"processes\": [{\"burst\": -1}]}",
+            "{\"algorithm\": \"FCFS\", \"processes\": [{\"burst\": \"five\"}]}",
+            "{\"algorithm\": \"FCFS\", \"gantt\": \"no\", \"processes\": []}",
+            "{\"algorithm\": \"FCFS\", \"timeQuantum\": 0, \"processes\": []}",
+            "{\"algorithm\": \"FCFS\", \"processes\": [{\"bursts\": [1, 2], \"ioDevice\": 0}]}",
+            "{\"algorithm\": \"FCFS\", \"processes\": [{\"bursts\": [1, 2, 1], \"ioDevice\": -1}]}",
+            "[".repeat(10_000),
+        };
+        for (String body : bodies) {
+            HttpResponse<String> response = post(body);
+            assertEquals(400, response.statusCode(), body);
+            assertFalse(error(response).contains("java."), error(response));
+        }
+    }
+
+    @Test
+    void rejectsWorkloadsBeyondTheLimits() throws Exception {
+        HttpResponse<String> lateArrival = post("{\"algorithm\": \"FCFS\", \"processes\": [{\"arrival\": 2000000000, \"burst\": 1}]}");
+        assertEquals(400, lateArrival.statusCode());
+
+        HttpResponse<String> longBursts = post("{\"algorithm\": \"FCFS\", \"processes\": ["
+            + "{\"burst\": 2000000000}, {\"burst\": 2000000000}]}");
+        assertEquals(400, longBursts.statusCode());
+
+        HttpResponse<String> costlySwitches = post("{\"algorithm\": \"FCFS\", \"switchCost\": 2000000000,"
+            + " \"processes\": [{\"burst\": 1}]}");
+        assertEquals(400, costlySwitches.statusCode());
+
+        int slices = SchedulingService.MAX_GANTT_SLICES;
+        HttpResponse<String> fragmented = post("{\"algorithm\": \"Round Robin\", \"timeQuantum\": 1, \"gantt\": false,"
+            + " \"processes\": [{\"burst\": " + slices + "}, {\"burst\": " + slices + "}]}");
+        assertEquals(400, fragmented.statusCode());
+        assertTrue(error(fragmented).contains("Gantt slices"));
+    }
+
+    @Test
+    void rejectsOversizedBodies() throws Exception {
+        long length = SchedulingService.MAX_BODY_BYTES + 1L;
+        HttpRequest.BodyPublisher body = HttpRequest.BodyPublishers.fromPublisher(
+            HttpRequest.BodyPublishers.ofInputStream(() -> new InputStream() {
+                private long remaining = length;
+
+                @Override
+                public int read() {
+                    return remaining-- > 0 ? ' ' : -1;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int count) {
+                    if (remaining <= 0) return -1;
+                    int n = (int) Math.min(count, remaining);
+                    Arrays.fill(buffer, offset, offset + n, (byte) ' ');
+                    remaining -= n;
+                    return n;
+                }
+            }), length);
+
+        HttpResponse<String> response = send(request("/schedule").POST(body));
+        assertEquals(413, response.statusCode());
+    }
+
+    @Test
+    void routesOnlyKnownEndpointsAndMethods() throws Exception {
+        HttpResponse<String> algorithms = send(request("/algorithms").GET());
+        assertEquals(200, algorithms.statusCode());
+        assertEquals(List.of("FCFS", "SJF", "Round Robin", "Priority", "Intelligent AI Scheduler"),
+                     ((Map<?, ?>) Json.parse(algorithms.body())).get("algorithms"));
+
+        assertEquals(200, send(request("/health").GET()).statusCode());
+        assertEquals(404, send(request("/schedule/extra").POST(HttpRequest.BodyPublishers.ofString("{}"))).statusCode());
+        assertEquals(404, send(request("/nothing").GET()).statusCode());
+
+        HttpResponse<String> wrongMethod = send(request("/schedule").GET());
+        assertEquals(405, wrongMethod.statusCode());
+        assertEquals("POST", wrongMethod.headers().firstValue("Allow").orElse(null));
+    }
+
+    @Test
+    void hidesDetailsOfUnexpectedFailures() throws Exception {
+        service.close();
+        ConcurrentAIPredictor failing = new ConcurrentAIPredictor() {
+            @Override
+            public int getPredictedBurstTime(Process process) {
+                throw new IllegalStateException("secret internal state");
+            }
+
+            @Override
+            public void predictBurstTimes(List<Process> processes, int[] out) {
+                throw new IllegalStateException("secret internal state");
+            }
+        };
+        service = new SchedulingService(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), failing);
+        service.start();
+
+        // The failure goes to the service's logger (backed by java.util.logging here), not stderr
+        List<LogRecord> logged = new CopyOnWriteArrayList<>();
+        Handler capture = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                logged.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        Logger logger = Logger.getLogger(SchedulingService.class.getName());
+        logger.addHandler(capture);
+        logger.setUseParentHandlers(false);
+        try {
+            HttpResponse<String> response = post("{\"algorithm\": \"Intelligent AI Scheduler\", \"processes\": [{\"burst\": 3}]}");
+            assertEquals(500, response.statusCode());
+            assertFalse(response.body().contains("secret"));
+            assertFalse(response.body().contains("IllegalStateException"));
+        } finally {
+            logger.removeHandler(capture);
+            logger.setUseParentHandlers(true);
+        }
+        assertEquals(1, logged.size());
+        assertEquals(Level.SEVERE, logged.get(0).getLevel());
+        assertEquals("secret internal state", logged.get(0).getThrown().getMessage());
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.os.sweep;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.os.scheduler.OverheadModel;
+import com.example.os.scheduler.SchedulerFactory;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class SweepCoordinatorTest {
+    private static final SweepConfig CONFIG = new SweepConfig(7, 40, 10, SchedulerFactory.ALGORITHMS,
+        List.of(new SweepPoint(2, OverheadModel.NONE), new SweepPoint(4, new OverheadModel(1, 1))));
+
+    /**
+     * Worker that takes one shard and then hangs, as a stuck JVM would
+     */
+    static final class HangingWorker {
+        public static void main(String[] args) throws Exception {
+            try (Socket socket = new Socket(args[0], Integer.parseInt(args[1]))) {
+                DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                handshake(socket, in);
+                in.readByte();
+                in.readInt();
+                Thread.sleep(Long.MAX_VALUE);
+            }
+        }
+    }
+
+    /** Connects as a worker and reads the configuration */
+    private static void handshake(Socket socket, DataInputStream in) throws IOException {
+        DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+        out.writeInt(SweepProtocol.MAGIC);
+        out.writeInt(SweepProtocol.VERSION);
+        out.writeLong(ProcessHandle.current().pid());
+        out.flush();
+        assertEquals(SweepProtocol.CONFIG, in.readByte());
+        SweepConfig.read(in);
+    }
+
+    /** The sweep evaluated shard by shard in this thread */
+    private static SweepAggregate[] expected() {
+        int algorithms = CONFIG.algorithms.size();
+        SweepAggregate[] totals = new SweepAggregate[CONFIG.points.size() * algorithms];
+        for (int i = 0; i < totals.length; i++) {
+            totals[i] = new SweepAggregate(CONFIG.algorithms.get(i % algorithms), CONFIG.points.get(i / algorithms));
+        }
+        SweepEvaluator evaluator = new SweepEvaluator(CONFIG);
+        for (int shard = 0; shard < CONFIG.getShardCount(); shard++) {
+            SweepAggregate[] aggregates = evaluator.evaluate(shard);
+            for (int a = 0; a < algorithms; a++) {
+                totals[CONFIG.shardPoint(shard) * algorithms + a].add(aggregates[a]);
+            }
+        }
+        return totals;
+    }
+
+    private static void assertSweep(SweepAggregate[] expected, List<SweepAggregate> actual) {
+        assertEquals(expected.length, actual.size());
+        for (int i = 0; i < expected.length; i++) {
+            SweepAggregate e = expected[i];
+            SweepAggregate a = actual.get(i);
+            String name = e.algorithmName + " at " + e.point;
+            assertEquals(e.algorithmName, a.algorithmName);
+            assertEquals(e.workloads, a.workloads, name);
+            assertEquals(e.wins, a.wins, name);
+            assertEquals(e.makespanSum, a.makespanSum, name);
+            assertEquals(e.busyTime, a.busyTime, name);
+            assertEquals(e.contextSwitches, a.contextSwitches, name);
+            assertEquals(e.overheadTime, a.overheadTime, name);
+            // Shards may merge in any order, which only moves the last bits of sums
+            assertEquals(e.scoreSum, a.scoreSum, 1e-9 * Math.abs(e.scoreSum), name);
+            assertEquals(e.turnaroundBoundSum, a.turnaroundBoundSum, 1e-9 * e.turnaroundBoundSum, name);
+            assertEquals(e.waiting.getMean(), a.waiting.getMean(), 1e-9, name);
+        }
+    }
+
+    @Test
+    @Timeout(120)
+    void shardOfAWorkerThatDiesIsRedispatched() throws Exception {
+        try (SweepCoordinator coordinator = new SweepCoordinator(CONFIG)) {
+            String host = InetAddress.getLoopbackAddress().getHostAddress();
+            CountDownLatch took = new CountDownLatch(1);
+            Thread dying = new Thread(() -> {
+                try (Socket socket = new Socket(host, coordinator.getPort())) {
+                    DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                    handshake(socket, in);
+                    assertEquals(SweepProtocol.SHARD, in.readByte());
+                    in.readInt();
+                    took.countDown();
+                } catch (IOException e) {
+                    throw new AssertionError(e);
+                }
+                // Closing the socket mid-shard is the death
+            });
+            dying.start();
+            assertTrue(took.await(30, TimeUnit.SECONDS));
+            dying.join();
+
+            Thread worker = new Thread(() -> {
+                try {
+                    SweepWorker.run(host, coordinator.getPort());
+                } catch (IOException e) {
+                    // The coordinator closes when the test ends
+                }
+            });
+            worker.start();
+
+            List<SweepAggregate> results = coordinator.run();
+            assertSweep(expected(), results);
+            assertEquals(1, coordinator.getRedispatchedCount());
+            assertEquals(0, coordinator.getRemainingShards());
+        }
+    }
+
+    @Test
+    @Timeout(120)
+    void hungLaunchedWorkerIsEndedAndItsShardRunLocally() throws Exception {
+        try (SweepCoordinator coordinator = new SweepCoordinator(CONFIG)) {
+            coordinator.setShardTimeoutMillis(1000);
+            coordinator.launchWorkers(1, HangingWorker.class);
+
+            List<SweepAggregate> results = coordinator.run();
+            assertSweep(expected(), results);
+            assertEquals(1, coordinator.getRedispatchedCount());
+        }
+    }
+}
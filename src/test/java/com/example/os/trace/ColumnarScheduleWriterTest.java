@@ -0,0 +1,156 @@
+package com.example.os.trace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.os.model.Process;
+import com.example.os.scheduler.RoundRobinScheduler;
+import com.example.os.scheduler.Scheduler;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ColumnarScheduleWriterTest {
+    private Path dir;
+
+    @BeforeEach
+    void createDirectory() throws IOException {
+        dir = Files.createTempDirectory("schedule");
+    }
+
+    @AfterEach
+    void deleteDirectory() throws IOException {
+        try (var files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(dir);
+    }
+
+    @Test
+    void roundTripsSeveralBlocksWithNegativeDeltas() throws IOException {
+        int rows = 2 * ColumnarScheduleWriter.BLOCK_ROWS + 123;
+        Random random = new Random(3);
+        int[][] processes = new int[rows][];
+        int[][] slices = new int[rows][];
+        Path file = dir.resolve("schedule.bin");
+        try (ColumnarScheduleWriter writer = new ColumnarScheduleWriter(file)) {
+            for (int r = 0; r < rows; r++) {
+                // Unsorted values, including the extremes, give negative and overflowing deltas
+                int[] p = new int[8];
+                for (int c = 0; c < p.length; c++) {
+                    p[c] = r % 1000 == 0 ? (c % 2 == 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE)
+                                         : random.nextInt(2_000_001) - 1_000_000;
+                }
+                processes[r] = p;
+                writer.onComplete(p[0], p[1], p[2], p[3], p[4], p[5], p[6], p[7]);
+                slices[r] = new int[] {rows - r, random.nextInt(), -r};
+                writer.onSlice(slices[r][0], slices[r][1], slices[r][2]);
+            }
+        }
+
+        int processRow = 0, sliceRow = 0;
+        try (ColumnarScheduleReader reader = ColumnarScheduleReader.open(file)) {
+            ColumnarScheduleReader.Block block;
+            while ((block = reader.next()) != null) {
+                for (int r = 0; r < block.rows; r++) {
+                    if (block.table == ColumnarScheduleReader.TABLE_PROCESSES) {
+                        int[] p = processes[processRow++];
+                        for (int c = 0; c < p.length; c++) {
+                            assertEquals(p[c], block.columns[c][r]);
+                        }
+                        assertEquals(p[4] - p[1], block.columns[ColumnarScheduleReader.PROCESS_RESPONSE][r]);
+                    } else {
+                        int[] s = slices[sliceRow++];
+                        for (int c = 0; c < s.length; c++) {
+                            assertEquals(s[c], block.columns[c][r]);
+                        }
+                    }
+                }
+            }
+        }
+        assertEquals(rows, processRow);
+        assertEquals(rows, sliceRow);
+    }
+
+    @Test
+    void carriesTheSameColumnsAsTheCsv() throws IOException {
+        List<Process> processes = new ArrayList<>();
+        Random random = new Random(5);
+        for (int i = 0; i < 50; i++) {
+            processes.add(new Process(i + 1, random.nextInt(40), 1 + random.nextInt(9), 1 + random.nextInt(5)));
+        }
+        Path csv = dir.resolve("processes.csv");
+        Path gantt = dir.resolve("gantt.csv");
+        Path binary = dir.resolve("schedule.bin");
+        Scheduler scheduler = new RoundRobinScheduler(2);
+        try (CsvScheduleWriter csvWriter = new CsvScheduleWriter(csv, gantt);
+             ColumnarScheduleWriter columnarWriter = new ColumnarScheduleWriter(binary)) {
+            scheduler.addScheduleListener(csvWriter);
+            scheduler.addScheduleListener(columnarWriter);
+            scheduler.schedule(processes);
+        }
+
+        List<String> processLines = Files.readAllLines(csv, StandardCharsets.US_ASCII);
+        List<String> sliceLines = Files.readAllLines(gantt, StandardCharsets.US_ASCII);
+        assertEquals(ColumnarScheduleReader.PROCESS_COLUMNS, processLines.get(0).split(",").length);
+        assertEquals(ColumnarScheduleReader.SLICE_COLUMNS, sliceLines.get(0).split(",").length);
+        try (ColumnarScheduleReader reader = ColumnarScheduleReader.open(binary)) {
+            ColumnarScheduleReader.Block block;
+            while ((block = reader.next()) != null) {
+                List<String> lines = block.table == ColumnarScheduleReader.TABLE_PROCESSES ? processLines : sliceLines;
+                assertEquals(lines.size() - 1, block.rows);
+                for (int r = 0; r < block.rows; r++) {
+                    String[] fields = lines.get(r + 1).split(",");
+                    for (int c = 0; c < fields.length; c++) {
+                        assertEquals(Integer.parseInt(fields[c]), block.columns[c][r], lines.get(r + 1));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void readsVersionOneFilesWithoutTheResponseColumn() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ByteSink out = new ByteSink(Channels.newChannel(new GZIPOutputStream(bytes)));
+        out.writeInt(ColumnarScheduleWriter.MAGIC);
+        out.writeInt(1);
+        out.writeByte(ColumnarScheduleReader.TABLE_PROCESSES);
+        out.writeVarint(1);
+        int[] row = {7, 3, 5, 2, 10, 15, 7, 12};
+        for (int value : row) {
+            out.writeVarint(value);
+        }
+        out.writeByte(ColumnarScheduleWriter.END);
+        out.close();
+
+        try (ColumnarScheduleReader reader = new ColumnarScheduleReader(new ByteArrayInputStream(bytes.toByteArray()))) {
+            ColumnarScheduleReader.Block block = reader.next();
+            assertEquals(1, block.rows);
+            assertEquals(12, block.columns[ColumnarScheduleReader.PROCESS_TURNAROUND][0]);
+            assertEquals(7, block.columns[ColumnarScheduleReader.PROCESS_RESPONSE][0]);
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void rejectsFilesOfOtherFormats() throws IOException {
+        Path file = dir.resolve("schedule.bin");
+        Files.write(file, "not gzip".getBytes(StandardCharsets.US_ASCII));
+        assertThrows(IOException.class, () -> ColumnarScheduleReader.open(file));
+    }
+}
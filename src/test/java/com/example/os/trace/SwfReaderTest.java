@@ -0,0 +1,118 @@
+package com.example.os.trace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.os.model.Process;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+
+class SwfReaderTest {
+    private static final String TRACE =
+        "; Version: 2.2\n"
+        + ";   a comment line 1 2 3\n"
+        + "\n"
+        + "1 0 5 100 4 -1 -1 4 120 -1 1 3 1 -1 2 -1 -1 -1\n"
+        + "   \t\n"
+        + "2 10.5 3 25.75 1 -1 -1 1 30 -1 1 3 1 -1 0 -1 -1 -1\r\n"
+        + "3 12 0 -1 1 -1 -1 1 30 -1 0 3 1 -1 1 -1 -1 -1\r\n"
+        + "4 15 0 0 1 -1 -1 1 30 -1 5 3 1 -1 1 -1 -1 -1\n"
+        + "5 20 0 7\n"
+        + "6 30 1 9 1 -1 -1 1 30 -1 1 3 1 -1 -1 -1 -1 -1"; // no final newline
+
+    private static SwfReader reader(String trace) {
+        return new SwfReader(Channels.newChannel(new ByteArrayInputStream(trace.getBytes(StandardCharsets.US_ASCII))));
+    }
+
+    private static List<Process> readAll(SwfReader reader) {
+        List<Process> processes = new ArrayList<>();
+        reader.forEachRemaining(processes::add);
+        return processes;
+    }
+
+    private static void assertProcess(Process p, int id, int arrival, int burst, int priority) {
+        assertEquals(id, p.id);
+        assertEquals(arrival, p.arrivalTime);
+        assertEquals(burst, p.burstTime);
+        assertEquals(priority, p.priority);
+    }
+
+    private static void assertTrace(List<Process> processes) {
+        assertEquals(4, processes.size());
+        assertProcess(processes.get(0), 1, 0, 100, 3);  // queue 2
+        assertProcess(processes.get(1), 2, 10, 25, 1);  // fractions truncated, queue 0
+        assertProcess(processes.get(2), 5, 20, 7, SwfReader.DEFAULT_PRIORITY); // short line, no queue
+        assertProcess(processes.get(3), 6, 30, 9, SwfReader.DEFAULT_PRIORITY); // queue -1
+    }
+
+    @Test
+    void readsJobsAndSkipsCommentsBlankLinesAndJobsWithoutRunTime() throws IOException {
+        try (SwfReader reader = reader(TRACE)) {
+            assertTrace(readAll(reader));
+            assertEquals(2, reader.getSkippedCount());
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    void readsColumns() throws IOException {
+        try (SwfReader reader = reader(TRACE)) {
+            int[] ids = new int[3], arrivals = new int[3], bursts = new int[3], priorities = new int[3];
+            assertEquals(3, reader.read(ids, arrivals, bursts, priorities));
+            assertEquals(5, ids[2]);
+            assertEquals(1, reader.read(ids, arrivals, bursts, priorities));
+            assertEquals(6, ids[0]);
+            assertEquals(9, bursts[0]);
+            assertEquals(0, reader.read(ids, arrivals, bursts, priorities));
+        }
+    }
+
+    @Test
+    void readsGzippedTraces() throws IOException {
+        Path file = Files.createTempFile("trace", ".swf.gz");
+        try {
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+                out.write(TRACE.getBytes(StandardCharsets.US_ASCII));
+            }
+            try (SwfReader reader = SwfReader.open(file)) {
+                assertTrace(readAll(reader));
+            }
+
+            Files.write(file, TRACE.getBytes(StandardCharsets.US_ASCII));
+            assertThrows(IOException.class, () -> SwfReader.open(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void rejectsMalformedLines() {
+        int[] column = new int[4];
+        String[] malformed = {
+            "1 0 5\n",                         // fewer than four fields
+            "1 0 5 1x 4\n",                    // not a number
+            "1 0 5 - 4\n",                     // sign without digits
+            "1 0 5 99999999999999999999 4\n",  // beyond a long
+            "99999999999 0 5 10 4\n",          // job number beyond an int
+        };
+        for (String trace : malformed) {
+            IOException e = assertThrows(IOException.class, () -> reader(trace).read(column, column, column, column),
+                                         trace);
+            assertTrue(e.getMessage().startsWith("SWF line 1: "), e.getMessage());
+        }
+        IOException shortLine = assertThrows(IOException.class,
+                                              () -> reader("1 0 5\n").read(column, column, column, column));
+        assertEquals("SWF line 1: expected at least 4 fields, found 3", shortLine.getMessage());
+    }
+}